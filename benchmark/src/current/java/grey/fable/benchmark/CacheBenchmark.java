@@ -0,0 +1,100 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.cache.Cache;
+import grey.fable.core.map.MapUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Cache} reads and mixed reads and writes from 4 threads against an unbounded
+ * {@link MapUtil#concurrentHashMap()}. The keys are skewed: half of the requests go to 1% of the keys.
+ *
+ * @author Fable
+ * @since 2026/10/17 21:50
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final int KEYS = 1 << 16;
+
+    private static final int MASK = KEYS - 1;
+
+    /**
+     * Maximum size of the cache as a fraction of the keys
+     */
+    @Param({"0.1", "1.0"})
+    public double capacityRatio;
+
+    private Integer[] keys;
+
+    private Cache<Integer, Integer> cache;
+
+    private Map<Integer, Integer> map;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        keys = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = random.nextBoolean() ? random.nextInt(KEYS / 100) : random.nextInt(KEYS);
+        }
+        cache = Cache.<Integer, Integer>builder().maximumSize((long) (KEYS * capacityRatio)).build();
+        map = MapUtil.concurrentHashMap(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            cache.put(keys[i], i);
+            map.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public Integer cacheRead() {
+        return cache.getIfPresent(keys[ThreadLocalRandom.current().nextInt() & MASK]);
+    }
+
+    @Benchmark
+    public Integer cacheLoad() {
+        return cache.get(keys[ThreadLocalRandom.current().nextInt() & MASK], key -> key);
+    }
+
+    @Benchmark
+    public Integer cacheReadWrite() {
+        final int index = ThreadLocalRandom.current().nextInt();
+        final Integer key = keys[index & MASK];
+        if (0 == (index >>> 28)) {
+            cache.put(key, index);
+            return key;
+        }
+        return cache.getIfPresent(key);
+    }
+
+    @Benchmark
+    public Integer mapRead() {
+        return map.get(keys[ThreadLocalRandom.current().nextInt() & MASK]);
+    }
+
+    @Benchmark
+    public Integer mapLoad() {
+        return map.computeIfAbsent(keys[ThreadLocalRandom.current().nextInt() & MASK], key -> key);
+    }
+}
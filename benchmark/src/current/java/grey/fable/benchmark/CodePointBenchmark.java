@@ -0,0 +1,50 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.text.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StringUtil#isBlankCodePoints(CharSequence)} over the inputs of {@link StringUtilBenchmark}, compare it with
+ * {@code StringUtilBenchmark.isBlankString} for the cost of decoding surrogate pairs.
+ *
+ * @author Fable
+ * @since 2026/10/17 23:51
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodePointBenchmark {
+
+    @Param({"0", "16", "256", "4096"})
+    public int size;
+
+    @Param
+    public StringUtilBenchmark.Distribution distribution;
+
+    private String string;
+
+    @Setup
+    public void setup() {
+        string = TextSamples.generate(distribution, size);
+    }
+
+    @Benchmark
+    public boolean isBlankCodePoints() {
+        return StringUtil.isBlankCodePoints(string);
+    }
+}
@@ -0,0 +1,128 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.map.ConcurrentMultimap;
+import grey.fable.core.map.CountingMap;
+import grey.fable.core.map.MapUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CountingMap} and {@link ConcurrentMultimap} from 4 threads against the hand-written
+ * {@code ConcurrentHashMap<K, AtomicLong>} and {@code ConcurrentHashMap<K, CopyOnWriteArrayList<V>>} they replace.
+ * With few keys every thread updates the same counters, which is where the {@link AtomicLong} CAS contends.
+ *
+ * @author Fable
+ * @since 2026/10/17 23:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ConcurrentMapsBenchmark {
+
+    /**
+     * Number of distinct keys
+     */
+    @Param({"4", "4096"})
+    public int keys;
+
+    private Integer[] keyPool;
+
+    private CountingMap<Integer> countingMap;
+
+    private Map<Integer, AtomicLong> atomicMap;
+
+    private ConcurrentMultimap<Integer, Integer> multimap;
+
+    private Map<Integer, List<Integer>> listMap;
+
+    @Setup
+    public void setup() {
+        keyPool = new Integer[keys];
+        for (int i = 0; i < keys; i++) {
+            keyPool[i] = i;
+        }
+        countingMap = MapUtil.countingMap(keys);
+        atomicMap = MapUtil.concurrentHashMapWithExpectedSize(keys);
+        multimap = MapUtil.concurrentMultimap(keys);
+        listMap = MapUtil.concurrentHashMapWithExpectedSize(keys);
+        for (Integer key : keyPool) {
+            for (int i = 0; i < 8; i++) {
+                multimap.put(key, i);
+                listMap.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void countingMapIncrement() {
+        countingMap.increment(nextKey());
+    }
+
+    @Benchmark
+    public void atomicMapIncrement() {
+        atomicMap.computeIfAbsent(nextKey(), key -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Benchmark
+    public List<Integer> multimapGet() {
+        return multimap.get(nextKey());
+    }
+
+    @Benchmark
+    public List<Integer> listMapGet() {
+        return listMap.get(nextKey());
+    }
+
+    /**
+     * One write for every 16 reads, the write replaces a value so the lists keep their size
+     */
+    @Benchmark
+    public Object multimapReadWrite() {
+        final int random = ThreadLocalRandom.current().nextInt();
+        final Integer key = keyPool[(random >>> 1) % keys];
+        if (0 == (random & 15)) {
+            multimap.remove(key, 0);
+            multimap.put(key, 0);
+            return key;
+        }
+        return multimap.get(key);
+    }
+
+    @Benchmark
+    public Object listMapReadWrite() {
+        final int random = ThreadLocalRandom.current().nextInt();
+        final Integer key = keyPool[(random >>> 1) % keys];
+        if (0 == (random & 15)) {
+            final List<Integer> values = listMap.get(key);
+            values.remove((Integer) 0);
+            values.add(0);
+            return key;
+        }
+        return listMap.get(key);
+    }
+
+    private Integer nextKey() {
+        return keyPool[ThreadLocalRandom.current().nextInt(keys)];
+    }
+}
@@ -0,0 +1,99 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.map.MapBuilder;
+import grey.fable.core.map.MapUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups of String keys, half of them absent, in a {@link MapBuilder#build()} map against the same entries in
+ * {@link MapBuilder#buildFrozen()} and {@link Map#copyOf(Map)}. Run with {@code -prof gc} and compare the allocation
+ * of {@code freeze} with {@code copy}, a {@link java.util.HashMap} copy, for the footprint of each map.
+ *
+ * @author Fable
+ * @since 2026/10/17 22:25
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrozenMapBenchmark {
+
+    private static final int LOOKUPS = 1 << 10;
+
+    private static final int MASK = LOOKUPS - 1;
+
+    @Param({"6", "64", "4096"})
+    public int size;
+
+    private String[] lookups;
+
+    private Map<String, String> hashMap;
+
+    private Map<String, String> frozenMap;
+
+    private Map<String, String> immutableMap;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final MapBuilder<String, String> builder = new MapBuilder<>(size);
+        final String[] keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "config.key." + Integer.toHexString(random.nextInt());
+            builder.put(keys[i], "value-" + i);
+        }
+        lookups = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            // 新建字符串, 避免命中 == 的快速路径
+            lookups[i] = random.nextBoolean() ? new String(keys[random.nextInt(size)]) : "config.missing." + i;
+        }
+        hashMap = builder.build();
+        frozenMap = builder.buildFrozen();
+        immutableMap = Map.copyOf(hashMap);
+    }
+
+    @Benchmark
+    public String hashMapGet() {
+        return hashMap.get(lookups[index++ & MASK]);
+    }
+
+    @Benchmark
+    public String frozenMapGet() {
+        return frozenMap.get(lookups[index++ & MASK]);
+    }
+
+    @Benchmark
+    public String immutableMapGet() {
+        return immutableMap.get(lookups[index++ & MASK]);
+    }
+
+    @Benchmark
+    public Map<String, String> freeze() {
+        return MapUtil.freeze(hashMap);
+    }
+
+    @Benchmark
+    public Map<String, String> copy() {
+        final Map<String, String> copy = MapUtil.hashMapWithExpectedSize(size);
+        copy.putAll(hashMap);
+        return copy;
+    }
+}
@@ -0,0 +1,93 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.Snowflake;
+import grey.fable.core.utils.IdCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text encodings of Snowflake IDs, against {@link String#valueOf(long)} as the baseline.
+ *
+ * @author Fable
+ * @since 2026/10/17 16:34
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdCodecBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    @Param({"DECIMAL", "BASE62", "CROCKFORD_BASE32", "HEX"})
+    public IdCodec codec;
+
+    private final long[] ids = new long[SAMPLES];
+
+    private final String[] texts = new String[SAMPLES];
+
+    private char[] chars;
+
+    private ByteBuffer buffer;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        new Snowflake(0, 0).fill(ids);
+        for (int i = 0; i < SAMPLES; i++) {
+            texts[i] = codec.toString(ids[i]);
+        }
+        chars = new char[codec.maxLength()];
+        buffer = ByteBuffer.allocateDirect(codec.maxLength());
+    }
+
+    private int next() {
+        return index = (index + 1) & (SAMPLES - 1);
+    }
+
+    @Benchmark
+    public String stringValueOf() {
+        return String.valueOf(ids[next()]);
+    }
+
+    @Benchmark
+    public String encodeToString() {
+        return codec.toString(ids[next()]);
+    }
+
+    @Benchmark
+    public int encodeToChars() {
+        return codec.encode(ids[next()], chars, 0);
+    }
+
+    @Benchmark
+    public int encodeToDirectBuffer() {
+        buffer.clear();
+        return codec.encode(ids[next()], buffer);
+    }
+
+    @Benchmark
+    public long parseLong() {
+        return Long.parseLong(texts[next()], 10);
+    }
+
+    @Benchmark
+    public long decode() {
+        return codec.decode(texts[next()]);
+    }
+}
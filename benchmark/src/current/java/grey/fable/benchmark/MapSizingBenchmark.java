@@ -0,0 +1,92 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.map.MapUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Filling a map created by {@link MapUtil#hashMap(int)}, whose size is the table capacity, against one created by
+ * {@link MapUtil#hashMapWithExpectedSize(int)}. The sizes are just above a resize threshold. The setup prints the
+ * number of resizes of each while filling, read from the table of the {@link HashMap}; the expected-size map never
+ * resizes.
+ *
+ * @author Fable
+ * @since 2026/10/17 22:05
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.util=ALL-UNNAMED")
+public class MapSizingBenchmark {
+
+    @Param({"13", "769", "98305"})
+    public int size;
+
+    private Integer[] keys;
+
+    @Setup
+    public void setup() {
+        keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i;
+        }
+        System.out.printf("%nresizes of %d entries: capacity-sized %d, expected-size %d%n",
+                size, countResizes(MapUtil::hashMap), countResizes(MapUtil::hashMapWithExpectedSize));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> capacitySized() {
+        return fill(MapUtil.hashMap(size));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> expectedSize() {
+        return fill(MapUtil.hashMapWithExpectedSize(size));
+    }
+
+    private Map<Integer, Integer> fill(Map<Integer, Integer> map) {
+        for (Integer key : keys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    private int countResizes(IntFunction<Map<Integer, Integer>> factory) {
+        try {
+            final Field table = HashMap.class.getDeclaredField("table");
+            table.setAccessible(true);
+            final Map<Integer, Integer> map = factory.apply(size);
+            int resizes = 0;
+            int length = -1;
+            for (Integer key : keys) {
+                map.put(key, key);
+                final int current = ((Object[]) table.get(map)).length;
+                // 第一次 put 分配初始表, 不算扩容
+                if (length >= 0 && current != length) {
+                    resizes++;
+                }
+                length = current;
+            }
+            return resizes;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.map.LongLongMap;
+import grey.fable.core.map.LongObjectMap;
+import grey.fable.core.map.MapUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LongObjectMap} and {@link LongLongMap} against a boxed {@link HashMap}, keyed by Snowflake-like IDs.
+ * The build benchmarks also measure memory: run with {@code -prof gc}, {@code gc.alloc.rate.norm} is the number of
+ * bytes allocated to build a map of {@link #size} entries, values excluded.
+ *
+ * @author Fable
+ * @since 2026/10/17 21:15
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveMapBenchmark {
+
+    private static final Object VALUE = new Object();
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private long[] keys;
+
+    private LongObjectMap<Object> longObjectMap;
+
+    private LongLongMap longLongMap;
+
+    private Map<Long, Object> hashMap;
+
+    @Setup
+    public void setup() {
+        // 每毫秒 64 个序列号的雪花 ID
+        keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((1_700_000_000_000L + i / 64) << 22) | (1L << 12) | (i % 64);
+        }
+        longObjectMap = buildLongObjectMap();
+        longLongMap = buildLongLongMap();
+        hashMap = buildHashMap();
+    }
+
+    @Benchmark
+    public LongObjectMap<Object> buildLongObjectMap() {
+        final LongObjectMap<Object> map = MapUtil.longObjectMap();
+        for (long key : keys) {
+            map.put(key, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public LongLongMap buildLongLongMap() {
+        final LongLongMap map = MapUtil.longLongMap();
+        for (long key : keys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<Long, Object> buildHashMap() {
+        final Map<Long, Object> map = new HashMap<>();
+        for (long key : keys) {
+            map.put(key, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int getLongObjectMap() {
+        int found = 0;
+        for (long key : keys) {
+            if (null != longObjectMap.get(key)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long getLongLongMap() {
+        long sum = 0;
+        for (long key : keys) {
+            sum += longLongMap.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int getHashMap() {
+        int found = 0;
+        for (long key : keys) {
+            if (null != hashMap.get(key)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int iterateLongObjectMap() {
+        int count = 0;
+        final LongObjectMap.Cursor<Object> cursor = longObjectMap.cursor();
+        while (cursor.advance()) {
+            count += (int) cursor.key();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int iterateHashMap() {
+        int count = 0;
+        for (Map.Entry<Long, Object> entry : hashMap.entrySet()) {
+            count += entry.getKey().intValue();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,96 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.Snowflake;
+import grey.fable.core.SnowflakeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the Snowflake generators under contention. One generator of the default layout
+ * can hand out at most 4,096 IDs per millisecond, so above that the benchmark measures how cheaply
+ * the threads wait for the next millisecond.
+ *
+ * @author Fable
+ * @since 2026/10/17 16:32
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnowflakeBenchmark {
+
+    @Param({"SYNCHRONIZED", "LOCK_FREE", "STRIPED"})
+    public SnowflakeBuilder.Mode mode;
+
+    /**
+     * Size of the batches of {@link #fill()}
+     */
+    @Param({"64"})
+    public int batchSize;
+
+    private Snowflake snowflake;
+
+    @Setup
+    public void setup() {
+        snowflake = Snowflake.builder().mode(mode).dataCenterId(0).workerId(0).build();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long nextId1() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long nextId4() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long nextId16() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long nextIdMax() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long[] fill(BatchState batch) {
+        snowflake.fill(batch.ids);
+        return batch.ids;
+    }
+
+    /**
+     * Per thread target array of {@link #fill(BatchState)}
+     */
+    @State(Scope.Thread)
+    public static class BatchState {
+
+        private long[] ids;
+
+        @Setup
+        public void setup(SnowflakeBenchmark benchmark) {
+            ids = new long[benchmark.batchSize];
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.text.Spans;
+import grey.fable.core.text.StringReplacer;
+import grey.fable.core.text.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StringUtil} split, join, trim and {@link StringReplacer} against their JDK equivalents.
+ *
+ * @author Fable
+ * @since 2026/10/17 20:25
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringOpsBenchmark {
+
+    private static final StringReplacer HTML_ESCAPER = StringReplacer.of(Map.of(
+            "&", "&amp;", "<", "&lt;", ">", "&gt;", "\"", "&quot;", "'", "&#39;"));
+
+    /**
+     * Number of comma separated fields
+     */
+    @Param({"4", "64", "1024"})
+    public int fields;
+
+    private String line;
+
+    private List<String> parts;
+
+    private String padded;
+
+    private String markup;
+
+    private final List<String> reusedList = new ArrayList<>();
+
+    private final Spans spans = new Spans();
+
+    @Setup
+    public void setup() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fields; i++) {
+            if (0 != i) {
+                sb.append(',');
+            }
+            sb.append("field").append(i);
+        }
+        line = sb.toString();
+        parts = Arrays.asList(line.split(",", -1));
+        padded = "   \t" + line + " \n ";
+        markup = line.replace("field", "<b class='f'>x & y</b>");
+    }
+
+    @Benchmark
+    public int splitChar() {
+        return StringUtil.split(line, ',').size();
+    }
+
+    @Benchmark
+    public int splitCharReused() {
+        reusedList.clear();
+        return StringUtil.split(line, ',', reusedList);
+    }
+
+    @Benchmark
+    public int splitCharSpans() {
+        spans.clear();
+        return StringUtil.split(line, ',', spans);
+    }
+
+    @Benchmark
+    public void splitLazily(Blackhole blackhole) {
+        for (String field : StringUtil.splitLazily(line, ",")) {
+            blackhole.consume(field);
+        }
+    }
+
+    @Benchmark
+    public int jdkSplit() {
+        return line.split(",", -1).length;
+    }
+
+    @Benchmark
+    public String join() {
+        return StringUtil.join(",", parts);
+    }
+
+    @Benchmark
+    public String jdkJoin() {
+        return String.join(",", parts);
+    }
+
+    @Benchmark
+    public String trim() {
+        return StringUtil.trim(padded);
+    }
+
+    @Benchmark
+    public String jdkStrip() {
+        return padded.strip();
+    }
+
+    @Benchmark
+    public String replace() {
+        return HTML_ESCAPER.replace(markup);
+    }
+
+    @Benchmark
+    public String jdkReplace() {
+        return markup.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;").replace("'", "&#39;");
+    }
+}
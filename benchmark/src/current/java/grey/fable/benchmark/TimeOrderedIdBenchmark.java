@@ -0,0 +1,90 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.Snowflake;
+import grey.fable.core.UlidGenerator;
+import grey.fable.core.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UUIDv7 and ULID generators against {@link UUID#randomUUID()} and {@link Snowflake}.
+ * Run with {@code -t <threads>} to compare them under contention.
+ *
+ * @author Fable
+ * @since 2026/10/17 17:55
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class TimeOrderedIdBenchmark {
+
+    private final UuidV7Generator uuidV7 = new UuidV7Generator();
+
+    private final UlidGenerator ulid = new UlidGenerator();
+
+    private final Snowflake snowflake = new Snowflake(0, 0);
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return uuidV7.next();
+    }
+
+    @Benchmark
+    public long[] uuidV7LongPair(Buffers buffers) {
+        uuidV7.next(buffers.pair, 0);
+        return buffers.pair;
+    }
+
+    @Benchmark
+    public String ulid() {
+        return ulid.next();
+    }
+
+    @Benchmark
+    public long[] ulidLongPair(Buffers buffers) {
+        ulid.next(buffers.pair, 0);
+        return buffers.pair;
+    }
+
+    @Benchmark
+    public char[] ulidChars(Buffers buffers) {
+        ulid.next(buffers.chars, 0);
+        return buffers.chars;
+    }
+
+    @Benchmark
+    public long snowflake() {
+        return snowflake.nextId();
+    }
+
+    /**
+     * Per thread targets of the allocation-free variants
+     */
+    @State(Scope.Thread)
+    public static class Buffers {
+
+        private final long[] pair = new long[2];
+
+        private final char[] chars = new char[UlidGenerator.LENGTH];
+    }
+}
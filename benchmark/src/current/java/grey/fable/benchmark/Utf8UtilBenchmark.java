@@ -0,0 +1,93 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.text.Spans;
+import grey.fable.core.text.StringUtil;
+import grey.fable.core.text.Utf8Util;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Utf8Util} over UTF-8 bytes in an array and in a direct buffer, against decoding into a {@link String}
+ * first.
+ *
+ * @author Fable
+ * @since 2026/10/17 19:50
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Utf8UtilBenchmark {
+
+    private static final byte[] COMMA = {','};
+
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    @Param({"BLANK_ASCII", "BLANK_UNICODE", "TRAILING_TEXT", "TEXT_CJK"})
+    public StringUtilBenchmark.Distribution distribution;
+
+    private byte[] bytes;
+
+    private ByteBuffer direct;
+
+    /**
+     * Comma separated ASCII fields
+     */
+    private byte[] line;
+
+    private final Spans spans = new Spans();
+
+    @Setup
+    public void setup() {
+        bytes = TextSamples.generate(distribution, size).getBytes(StandardCharsets.UTF_8);
+        direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+        final StringBuilder sb = new StringBuilder();
+        while (sb.length() < size) {
+            sb.append("field").append(sb.length() % 7).append(',');
+        }
+        line = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public boolean isBlankBytes() {
+        return Utf8Util.isBlank(bytes);
+    }
+
+    @Benchmark
+    public boolean isBlankDirect() {
+        return Utf8Util.isBlank(direct);
+    }
+
+    @Benchmark
+    public boolean decodeThenIsBlank() {
+        return StringUtil.isBlank(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public int split() {
+        spans.clear();
+        return Utf8Util.split(line, 0, line.length, COMMA, spans);
+    }
+
+    @Benchmark
+    public int decodeThenSplit() {
+        return new String(line, StandardCharsets.UTF_8).split(",", -1).length;
+    }
+}
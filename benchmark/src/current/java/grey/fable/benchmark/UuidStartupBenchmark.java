@@ -0,0 +1,32 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.utils.IdUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the first UUIDv7 in a fresh JVM, the counterpart of {@link StartupBenchmark} for the IDs that older
+ * releases do not have. Every fork measures a single cold call, so the results are only meaningful with many forks.
+ *
+ * @author Fable
+ * @since 2026/10/17 23:50
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class UuidStartupBenchmark {
+
+    @Benchmark
+    public String uuidV7() {
+        return IdUtil.getUuidV7Str();
+    }
+}
@@ -0,0 +1,62 @@
+package grey.fable.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the usual JMH command line options, and unless another file is
+ * given writes the results to {@code jmh-result-<fable-base version>.<format>}, JSON by default, so that the files
+ * of two releases can be diffed directly.
+ * <pre>
+ *     java -jar target/benchmarks.jar                       # all benchmarks
+ *     java -jar target/benchmarks.jar Snowflake -p mode=STRIPED
+ *     java -jar target/benchmarks.jar -rff before.json
+ * </pre>
+ *
+ * @author Fable
+ * @since 2026/10/17 16:30
+ */
+public class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final ResultFormatType format = commandLine.getResultFormat().orElse(ResultFormatType.JSON);
+        // 扩展名与 JMH 默认的结果文件一致, 由结果格式决定
+        final Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .resultFormat(format)
+                .result(commandLine.getResult().orElse("jmh-result-" + version() + "." + format.toString().toLowerCase()))
+                .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * The fable-base version the benchmarks were built against, written into the properties file by the build
+     */
+    private static String version() {
+        final Properties properties = new Properties();
+        try (InputStream in = BenchmarkRunner.class.getResourceAsStream("/fable-benchmark.properties")) {
+            if (null != in) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final String version = properties.getProperty("fable-base.version");
+        // 未经 Maven 过滤 (例如在 IDE 中运行) 时没有版本号
+        return null == version || version.startsWith("${") ? "snapshot" : version;
+    }
+}
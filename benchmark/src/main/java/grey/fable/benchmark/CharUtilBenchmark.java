@@ -0,0 +1,71 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.text.CharUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CharUtil#isBlank(int)} over 1024 chars of a distribution, the last distribution mixes all of them.
+ * {@link #isBlankByRules()} is the baseline of the rules without the lookup table.
+ *
+ * @author Fable
+ * @since 2026/10/17 16:38
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharUtilBenchmark {
+
+    @Param({"BLANK_ASCII", "BLANK_UNICODE", "TEXT_ASCII", "TEXT_CJK", "TRAILING_TEXT"})
+    public StringUtilBenchmark.Distribution distribution;
+
+    private char[] chars;
+
+    @Setup
+    public void setup() {
+        chars = TextSamples.chars(TextSamples.alphabet(distribution), 1024, 1024);
+    }
+
+    @Benchmark
+    public int isBlank() {
+        int count = 0;
+        for (char ch : chars) {
+            if (CharUtil.isBlank(ch)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int isBlankByRules() {
+        int count = 0;
+        for (char ch : chars) {
+            if (Character.isWhitespace(ch)
+                    || Character.isSpaceChar(ch)
+                    || ch == '\u2800'
+                    || ch == '\u3164'
+                    || ch == '\ufeff'
+                    || ch == '\u202a'
+                    || ch == '\u0000'
+                    || ch == '\u180e') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
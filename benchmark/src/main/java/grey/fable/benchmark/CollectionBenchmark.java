@@ -0,0 +1,102 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.Response;
+import grey.fable.core.collection.ListUtil;
+import grey.fable.core.map.MapBuilder;
+import grey.fable.core.map.MapUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The map, list and response factories with different entry counts.
+ *
+ * @author Fable
+ * @since 2026/10/17 16:40
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionBenchmark {
+
+    @Param({"1", "8", "64", "1024"})
+    public int size;
+
+    private String[] keys;
+
+    private Map.Entry<String, Integer>[] entries;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setup() {
+        keys = new String[size];
+        entries = new Map.Entry[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "key-" + i;
+            entries[i] = MapUtil.entry(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Integer> mapOfEntries() {
+        return MapUtil.ofEntries(entries);
+    }
+
+    @Benchmark
+    public Map<String, Integer> linkedMapOfEntries() {
+        return MapUtil.ofEntries(true, entries);
+    }
+
+    @Benchmark
+    public Map<String, Integer> hashMapPut() {
+        final Map<String, Integer> map = MapUtil.hashMap(size);
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<String, Integer> mapBuilder() {
+        final MapBuilder<String, Integer> builder = MapUtil.builder();
+        for (int i = 0; i < size; i++) {
+            builder.put(keys[i], i);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Response<String[]> responseFail() {
+        return Response.fail("failed", keys);
+    }
+
+    @Benchmark
+    public List<String> listOf() {
+        return ListUtil.of(keys);
+    }
+
+    @Benchmark
+    public List<String> linkedListOf() {
+        return ListUtil.of(true, keys);
+    }
+
+    @Benchmark
+    public Response<String[]> responseSuccess() {
+        return Response.success(keys);
+    }
+}
@@ -0,0 +1,45 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.utils.NetUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cached host identity of {@link NetUtil} against a fresh resolution per call.
+ *
+ * @author Fable
+ * @since 2026/10/17 19:05
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetUtilBenchmark {
+
+    @Benchmark
+    public String cachedHardwareAddressStr() throws SocketException, UnknownHostException {
+        return NetUtil.getLocalHardwareAddressStr();
+    }
+
+    @Benchmark
+    public String cachedLocalHostAddress() throws UnknownHostException {
+        return NetUtil.getLocalHostAddress();
+    }
+
+    @Benchmark
+    public byte[] freshHardwareAddress() throws SocketException, UnknownHostException {
+        return NetworkInterface.getByInetAddress(InetAddress.getLocalHost()).getHardwareAddress();
+    }
+}
@@ -0,0 +1,57 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.Snowflake;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link Snowflake#nextId()} under contention, only using the constructor that every release has,
+ * so that the results can be compared across releases. See {@code SnowflakeBenchmark} for the other modes.
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnowflakeNextIdBenchmark {
+
+    private final Snowflake snowflake = new Snowflake(0, 0);
+
+    @Benchmark
+    @Threads(1)
+    public long nextId1() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long nextId4() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long nextId16() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long nextIdMax() {
+        return snowflake.nextId();
+    }
+}
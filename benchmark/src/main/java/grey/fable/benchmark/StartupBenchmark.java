@@ -0,0 +1,46 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.utils.IdUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the first call in a fresh JVM, including class loading and static initialization.
+ * Every fork measures a single cold call, so the results are only meaningful with many forks.
+ *
+ * @author Fable
+ * @since 2026/10/17 18:40
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    /**
+     * The former way of reading the process ID, which loads the management subsystem
+     */
+    @Benchmark
+    public String runtimeMxBeanName() {
+        return ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    @Benchmark
+    public int processId() {
+        return IdUtil.getProcessId();
+    }
+
+    @Benchmark
+    public long snowflakeId() {
+        return IdUtil.getSnowflakeId();
+    }
+}
@@ -0,0 +1,110 @@
+package grey.fable.benchmark;
+
+import grey.fable.core.text.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StringUtil} over inputs of different sizes and char distributions.
+ *
+ * @author Fable
+ * @since 2026/10/17 16:36
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilBenchmark {
+
+    /**
+     * Distribution of the chars of the input
+     */
+    public enum Distribution {
+
+        /**
+         * Only ASCII spaces, tabs and line breaks, the worst case of isBlank
+         */
+        BLANK_ASCII,
+
+        /**
+         * Only Unicode blanks, e.g. ideographic spaces and zero width no-break spaces
+         */
+        BLANK_UNICODE,
+
+        /**
+         * ASCII text, the first char is not blank
+         */
+        TEXT_ASCII,
+
+        /**
+         * CJK text, the first char is not blank
+         */
+        TEXT_CJK,
+
+        /**
+         * Blanks with a single non-blank char at the end
+         */
+        TRAILING_TEXT
+    }
+
+    @Param({"0", "16", "256", "4096"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private String string;
+
+    private StringBuilder builder;
+
+    /**
+     * Neither a String nor a StringBuilder, takes the generic CharSequence path
+     */
+    private CharBuffer buffer;
+
+    @Setup
+    public void setup() {
+        string = TextSamples.generate(distribution, size);
+        builder = new StringBuilder(string);
+        buffer = CharBuffer.wrap(string);
+    }
+
+    @Benchmark
+    public boolean isBlankString() {
+        return StringUtil.isBlank(string);
+    }
+
+    @Benchmark
+    public boolean isBlankStringBuilder() {
+        return StringUtil.isBlank(builder);
+    }
+
+    @Benchmark
+    public boolean isBlankCharSequence() {
+        return StringUtil.isBlank(buffer);
+    }
+
+    @Benchmark
+    public boolean isEmpty() {
+        return StringUtil.isEmpty(string);
+    }
+
+    @Benchmark
+    public boolean stringIsBlank() {
+        return string.isBlank();
+    }
+}
@@ -0,0 +1,82 @@
+package grey.fable.benchmark;
+
+import java.util.Random;
+
+/**
+ * Reproducible text inputs of the text benchmarks
+ *
+ * @author Fable
+ * @since 2026/10/17 16:37
+ */
+final class TextSamples {
+
+    private static final String BLANK_ASCII = " \t\n\r\u000b\f";
+
+    private static final String BLANK_UNICODE = "　﻿   ㅤ⠀";
+
+    private static final String TEXT_ASCII = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ,.";
+
+    private static final String TEXT_CJK = "雪花算法生成唯一标识符的工具类字符串判断是否为空白";
+
+    private TextSamples() {
+    }
+
+    static String generate(StringUtilBenchmark.Distribution distribution, int size) {
+        final Random random = new Random(size);
+        final StringBuilder sb = new StringBuilder(size);
+        switch (distribution) {
+            case BLANK_ASCII:
+                fill(sb, random, BLANK_ASCII, size);
+                break;
+            case BLANK_UNICODE:
+                fill(sb, random, BLANK_UNICODE, size);
+                break;
+            case TEXT_ASCII:
+                fill(sb, random, TEXT_ASCII, size);
+                if (size > 0) {
+                    sb.setCharAt(0, 'x');
+                }
+                break;
+            case TEXT_CJK:
+                fill(sb, random, TEXT_CJK, size);
+                break;
+            default:
+                fill(sb, random, BLANK_ASCII, size);
+                if (size > 0) {
+                    sb.setCharAt(size - 1, 'x');
+                }
+                break;
+        }
+        return sb.toString();
+    }
+
+    static char[] chars(String alphabet, int size, long seed) {
+        final Random random = new Random(seed);
+        final char[] chars = new char[size];
+        for (int i = 0; i < size; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return chars;
+    }
+
+    static String alphabet(StringUtilBenchmark.Distribution distribution) {
+        switch (distribution) {
+            case BLANK_ASCII:
+                return BLANK_ASCII;
+            case BLANK_UNICODE:
+                return BLANK_UNICODE;
+            case TEXT_CJK:
+                return TEXT_CJK;
+            case TEXT_ASCII:
+                return TEXT_ASCII;
+            default:
+                return BLANK_ASCII + TEXT_ASCII + BLANK_UNICODE + TEXT_CJK;
+        }
+    }
+
+    private static void fill(StringBuilder sb, Random random, String alphabet, int size) {
+        for (int i = 0; i < size; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+    }
+}
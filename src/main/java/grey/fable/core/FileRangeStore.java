@@ -0,0 +1,93 @@
+package grey.fable.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Pattern;
+
+/**
+ * {@link RangeStore} keeping the next free ID of every key in a file of a directory, {@code <key>.range}.
+ * Every allocation runs under an exclusive lock of the file and is forced to disk before the range is handed out,
+ * so the directory may be shared by several processes if its file system supports locks across them. <br />
+ * 基于文件的号段存储
+ *
+ * @author Fable
+ * @since 2026/10/17 18:05
+ */
+public class FileRangeStore implements RangeStore {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_.-]+");
+
+    /**
+     * A JVM can hold only one lock of a file, so the allocations of this process take turns first
+     */
+    private static final Object PROCESS_LOCK = new Object();
+
+    /**
+     * Width of the zero padded value, enough for {@link Long#MAX_VALUE}
+     */
+    private static final int VALUE_WIDTH = 19;
+
+    private final Path directory;
+
+    private final long initialValue;
+
+    public FileRangeStore(Path directory) {
+        this(directory, 1L);
+    }
+
+    /**
+     * @param directory    Directory of the range files
+     * @param initialValue The first ID of every new key
+     */
+    public FileRangeStore(Path directory, long initialValue) {
+        Assert.isTrue(null != directory, "The directory must not be null.");
+        this.directory = directory;
+        this.initialValue = initialValue;
+    }
+
+    @Override
+    public long allocate(String key, long step) {
+        Assert.isTrue(null != key && KEY_PATTERN.matcher(key).matches(), "Invalid key, only [A-Za-z0-9_.-] are allowed: %s", key);
+        Assert.isTrue(step > 0, "The step must be positive: %d", step);
+
+        synchronized (PROCESS_LOCK) {
+            try {
+                Files.createDirectories(directory);
+                try (FileChannel channel = FileChannel.open(directory.resolve(key + ".range"),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    // 关闭通道时释放锁
+                    channel.lock();
+                    final long start = read(channel);
+                    write(channel, Math.addExact(start, step));
+                    return start;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private long read(FileChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(channel.size(), VALUE_WIDTH));
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+            // 读满缓冲区
+        }
+        final String text = new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII).trim();
+        return text.isEmpty() ? initialValue : Long.parseLong(text);
+    }
+
+    private static void write(FileChannel channel, long value) throws IOException {
+        // 固定宽度原地覆盖, 不截断文件, 避免写入过程中崩溃导致文件为空而重新从初始值分配
+        final ByteBuffer buffer = ByteBuffer.wrap(String.format("%0" + VALUE_WIDTH + "d", value).getBytes(StandardCharsets.US_ASCII));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, buffer.position());
+        }
+        channel.force(true);
+    }
+}
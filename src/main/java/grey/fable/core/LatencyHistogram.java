@@ -0,0 +1,104 @@
+package grey.fable.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two buckets: bucket {@code i} counts the values in
+ * {@code [2^(i-1), 2^i)}, bucket 0 counts 0. Every bucket is a {@link LongAdder}, so concurrent writers
+ * do not contend, and percentiles are accurate up to a factor of 2. <br />
+ * 无锁延迟直方图, 以 2 的幂划分桶
+ *
+ * @author Fable
+ * @since 2026/10/17 16:50
+ */
+public class LatencyHistogram {
+
+    /**
+     * Number of buckets, enough for any non-negative long
+     */
+    public static final int BUCKET_COUNT = Long.SIZE;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a value, negative values are recorded as 0
+     *
+     * @param value Value, e.g. nanoseconds
+     * @author Fable
+     * @since 2026/10/17 16:51
+     */
+    public void record(long value) {
+        buckets[bucketOf(Math.max(0, value))].increment();
+    }
+
+    /**
+     * Record a value {@code count} times
+     *
+     * @param value Value, e.g. nanoseconds
+     * @param count Count
+     * @author Fable
+     * @since 2026/10/17 16:52
+     */
+    public void record(long value, long count) {
+        buckets[bucketOf(Math.max(0, value))].add(count);
+    }
+
+    /**
+     * The counts of all buckets. Concurrent updates may or may not be included.
+     *
+     * @return {@link long[]}
+     * @author Fable
+     * @since 2026/10/17 16:52
+     */
+    public long[] getCounts() {
+        final long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Upper bound of the percentile of the counts
+     *
+     * @param counts     Bucket counts, see {@link #getCounts()}
+     * @param percentile Percentile between 0 and 100, e.g. 99.9
+     * @return The exclusive upper bound of the bucket of the percentile, or 0 if nothing was recorded
+     * @author Fable
+     * @since 2026/10/17 16:53
+     */
+    public static long percentile(long[] counts, double percentile) {
+        Assert.isTrue(percentile >= 0 && percentile <= 100, "The percentile must be between 0 and 100: %s", percentile);
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (0 == total) {
+            return 0L;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(counts.length - 1);
+    }
+
+    private static int bucketOf(long value) {
+        return Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(value));
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+}
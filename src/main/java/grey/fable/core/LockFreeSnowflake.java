@@ -0,0 +1,145 @@
+package grey.fable.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free Snowflake ID class. The last used timestamp and the sequence number are packed into a single
+ * {@link AtomicLong} and updated with CAS, so concurrent callers never block on a monitor.
+ * The generated IDs use exactly the same bit layout as {@link Snowflake}.
+ * {@link RollbackStrategy#BACKUP_WORKER} is not supported. <br />
+ * 无锁雪花 ID, 将最后使用的时间戳与序列号打包到一个 {@link AtomicLong} 中, 通过 CAS 更新
+ *
+ * @author Fable
+ * @since 2026/10/17 9:12
+ */
+public class LockFreeSnowflake extends Snowflake {
+
+    /**
+     * Packed state: {@code (lastTimestamp - epoch) << sequenceBits | sequence}.
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * Data center ID and worker ID already shifted into place
+     */
+    private final long nodeBits;
+
+    public LockFreeSnowflake() {
+        this(builder());
+    }
+
+    public LockFreeSnowflake(long workerId) {
+        this(builder().workerId(workerId));
+    }
+
+    public LockFreeSnowflake(long dataCenterId, long workerId) {
+        this(builder().dataCenterId(dataCenterId).workerId(workerId));
+    }
+
+    LockFreeSnowflake(SnowflakeBuilder builder) {
+        super(builder);
+        Assert.isTrue(RollbackStrategy.BACKUP_WORKER != rollbackStrategy,
+                "The rollback strategy %s is not supported by %s.", rollbackStrategy, getClass().getSimpleName());
+        this.nodeBits = (dataCenterId << layout.dataCenterIdShift) | (workerId << layout.workerIdShift);
+    }
+
+    /**
+     * Generate the nextId using the Snowflake algorithm, CAS is used here instead of synchronized.
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 9:14
+     */
+    @Override
+    long generateId() {
+        return toId(reserve(1));
+    }
+
+    /**
+     * Fill the range [fromIndex, toIndex) of the array with IDs. Each CAS reserves as many sequence numbers
+     * of the current millisecond as are still free, so a large range costs one CAS per millisecond.
+     *
+     * @param ids       Target array
+     * @param fromIndex From index (inclusive)
+     * @param toIndex   To index (exclusive)
+     * @author Fable
+     * @since 2026/10/17 10:02
+     */
+    @Override
+    void generateIds(long[] ids, int fromIndex, int toIndex) {
+        int index = fromIndex;
+        while (index < toIndex) {
+            final long start = reserve(toIndex - index);
+            final int granted = granted(start, toIndex - index);
+            final long first = toId(start);
+            for (int i = 0; i < granted; i++) {
+                ids[index++] = first + i;
+            }
+        }
+    }
+
+    /**
+     * Reserve up to {@code count} consecutive sequence numbers of one millisecond with a single CAS.
+     * The number actually reserved is {@link #granted(long, int)}.
+     *
+     * @param count Wanted count, must be positive
+     * @return Packed state of the first reserved sequence number
+     * @author Fable
+     * @since 2026/10/17 10:04
+     */
+    long reserve(int count) {
+        for (; ; ) {
+            // 先读取状态再读取时钟, 保证读到的时钟不会早于其他线程已经写入的时间戳 (除非真的发生了时钟回拨)
+            final long current = state.get();
+            final long lastTimestamp = (current >>> layout.sequenceBits) + layout.epoch;
+            long currentTimestamp = timeSource.currentTimeMillis();
+            if (currentTimestamp < lastTimestamp) {
+                currentTimestamp = rollback(currentTimestamp, lastTimestamp);
+            }
+
+            final long start;
+            if (currentTimestamp > lastTimestamp) {
+                // 不在同一毫秒内, 则序列号重新从 0 开始
+                checkNewMillis(currentTimestamp);
+                start = (currentTimestamp - layout.epoch) << layout.sequenceBits;
+            } else if ((current & layout.sequenceMask) != layout.sequenceMask) {
+                start = current + 1;
+            } else {
+                // 当前毫秒使用的序列号已达到最大个数, 使用新的时间戳
+                start = (tilNextMillis(lastTimestamp) - layout.epoch) << layout.sequenceBits;
+            }
+
+            if (state.compareAndSet(current, start + granted(start, count) - 1)) {
+                return start;
+            }
+            if (isMetricsEnabled) {
+                metrics.recordCasRetry();
+            }
+        }
+    }
+
+    /**
+     * The number of sequence numbers granted by {@link #reserve(int)}, limited by the end of the millisecond
+     *
+     * @param start Packed state returned by {@link #reserve(int)}
+     * @param count Wanted count
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 10:05
+     */
+    int granted(long start, int count) {
+        return (int) Math.min(count, layout.sequenceMask + 1 - (start & layout.sequenceMask));
+    }
+
+    /**
+     * Convert the packed state into an ID
+     *
+     * @param packed Packed state
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 10:06
+     */
+    long toId(long packed) {
+        return ((packed >>> layout.sequenceBits) << layout.timestampShift) | nodeBits | (packed & layout.sequenceMask);
+    }
+}
@@ -0,0 +1,37 @@
+package grey.fable.core;
+
+import grey.fable.core.map.MapUtil;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory {@link RangeStore}. A local stand-in for a database or coordination service (e.g. in tests),
+ * the ranges start over when the process restarts.
+ *
+ * @author Fable
+ * @since 2026/10/17 18:03
+ */
+public class MemoryRangeStore implements RangeStore {
+
+    private final Map<String, AtomicLong> sequences = MapUtil.concurrentHashMap();
+
+    private final long initialValue;
+
+    public MemoryRangeStore() {
+        this(1L);
+    }
+
+    /**
+     * @param initialValue The first ID of every key
+     */
+    public MemoryRangeStore(long initialValue) {
+        this.initialValue = initialValue;
+    }
+
+    @Override
+    public long allocate(String key, long step) {
+        Assert.isTrue(step > 0, "The step must be positive: %d", step);
+        return sequences.computeIfAbsent(key, k -> new AtomicLong(initialValue)).getAndAdd(step);
+    }
+}
@@ -15,8 +15,27 @@ public class PID {
     private PID() {
     }
 
+    /**
+     * Process ID, read from {@link ProcessHandle} so that the management subsystem is not loaded
+     */
     public static final int PROCESS_ID = getProcessId();
 
+    /**
+     * Retrieve the current process ID from {@link ProcessHandle}, falling back to {@link #getProcessIdByName()}
+     * on platforms that do not support it.
+     *
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 18:30
+     */
+    private static int getProcessId() {
+        try {
+            return (int) ProcessHandle.current().pid();
+        } catch (UnsupportedOperationException e) {
+            return getProcessIdByName();
+        }
+    }
+
     /**
      * To obtain the current process ID, first retrieve the process name, read the ID value before the '@' symbol.
      * If it doesn't exist, then read the hash value of the process name.
@@ -25,7 +44,7 @@ public class PID {
      * @author Fable
      * @since 2024/5/16 15:15
      */
-    private static int getProcessId() {
+    private static int getProcessIdByName() {
         final String processName = ManagementFactory.getRuntimeMXBean().getName();
         if (StringUtil.isBlank(processName)) {
             return 0;
@@ -34,4 +53,4 @@ public class PID {
         final int index = processName.indexOf('@');
         return index > 0 ? Integer.parseInt(processName.substring(0, index)) : processName.hashCode();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package grey.fable.core;
+
+/**
+ * Store of ID ranges of {@link SegmentIdGenerator}. Every call must hand out a range that does not overlap any
+ * range handed out before for the same key, by any process sharing the store, and later ranges must be higher. <br />
+ * 号段存储, 同一个 key 的号段不能重叠且必须递增
+ *
+ * @author Fable
+ * @since 2026/10/17 18:00
+ */
+@FunctionalInterface
+public interface RangeStore {
+
+    /**
+     * Allocate the next range of the key
+     *
+     * @param key  Key of the ID sequence, e.g. a table name
+     * @param step Size of the range, positive
+     * @return The first ID of the range {@code [start, start + step)}
+     * @author Fable
+     * @since 2026/10/17 18:01
+     */
+    long allocate(String key, long step);
+}
@@ -0,0 +1,36 @@
+package grey.fable.core;
+
+/**
+ * Strategy of {@link Snowflake} when the server clock goes backwards. <br />
+ * 服务器时钟回拨时雪花 ID 的处理策略
+ *
+ * @author Fable
+ * @since 2026/10/17 11:02
+ */
+public enum RollbackStrategy {
+
+    /**
+     * Throw {@link IllegalStateException}, the original behavior
+     */
+    THROW,
+
+    /**
+     * Wait until the clock catches up with the last used timestamp,
+     * if the rollback is not more than the maximum rollback milliseconds
+     */
+    WAIT,
+
+    /**
+     * Keep generating on the last used timestamp and borrow the following milliseconds when the sequence
+     * numbers are exhausted, as long as the used timestamp is not ahead of the clock by more than the maximum
+     * rollback milliseconds
+     */
+    BORROW,
+
+    /**
+     * Reserve the highest worker ID bit as a backup bit. On a rollback, switch to the other value of the bit,
+     * which has its own last used timestamp, so the rolled back interval can be reused without duplicates.
+     * Only supported by the lock based {@link Snowflake}, and the worker ID must leave the highest bit free.
+     */
+    BACKUP_WORKER
+}
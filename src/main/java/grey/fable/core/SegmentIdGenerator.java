@@ -0,0 +1,332 @@
+package grey.fable.core;
+
+import grey.fable.core.builder.Builder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Segment ID generator with a double buffer: IDs are served from a range (segment) allocated from a
+ * {@link RangeStore}, and once the configured fraction of the current segment is used, the next segment is
+ * allocated asynchronously, so in steady state callers never wait for the store. The IDs are dense and increasing,
+ * unlike {@link Snowflake} IDs, but the unused rest of a segment is lost when the process stops. <br />
+ * 双号段 ID 生成器, 当前号段使用到一定比例时异步预取下一个号段
+ * <pre>
+ *     SegmentIdGenerator generator = SegmentIdGenerator.builder()
+ *             .store(new FileRangeStore(Path.of("/data/ids")))
+ *             .key("order")
+ *             .step(1000)
+ *             .build();
+ * </pre>
+ * Within a segment the IDs are handed out with {@link AtomicLong#getAndIncrement()}; the IDs of concurrent callers
+ * are unique and increase per caller, the order between callers is the order of the increments.
+ *
+ * @author Fable
+ * @since 2026/10/17 18:10
+ */
+public class SegmentIdGenerator {
+
+    /**
+     * Default size of a segment
+     */
+    public static final long DEFAULT_STEP = 1000;
+
+    /**
+     * Default used fraction of the current segment that starts the prefetch of the next one
+     */
+    public static final double DEFAULT_PREFETCH_RATIO = 0.1D;
+
+    /**
+     * Marks a segment that was switched without a prefetch, so that no prefetch starts for it any more
+     */
+    private static final CompletableFuture<Segment> NOT_PREFETCHED = CompletableFuture.completedFuture(null);
+
+    private final RangeStore store;
+
+    private final String key;
+
+    private final long step;
+
+    private final double prefetchRatio;
+
+    private final Executor executor;
+
+    /**
+     * Lock of switching segments, only held for the switch itself unless the prefetch has not finished yet
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Segment current;
+
+    private SegmentIdGenerator(SegmentBuilder builder) {
+        this.store = builder.store;
+        this.key = builder.key;
+        this.step = builder.step;
+        this.prefetchRatio = builder.prefetchRatio;
+        this.executor = null != builder.executor ? builder.executor : PrefetchExecutor.INSTANCE;
+        this.current = allocate();
+    }
+
+    /**
+     * Create a {@link SegmentBuilder}
+     *
+     * @return {@link SegmentBuilder}
+     * @author Fable
+     * @since 2026/10/17 18:11
+     */
+    public static SegmentBuilder builder() {
+        return new SegmentBuilder();
+    }
+
+    /**
+     * Generate the next ID
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 18:12
+     */
+    public long nextId() {
+        for (; ; ) {
+            final Segment segment = current;
+            final long id = segment.next.getAndIncrement();
+            if (id < segment.end) {
+                if (id >= segment.prefetchAt && null == segment.prefetched.get()) {
+                    prefetch(segment);
+                }
+                return id;
+            }
+            switchSegment(segment);
+        }
+    }
+
+    /**
+     * Start the prefetch of the segment after the given one, unless another caller has started it or the segment
+     * has been switched
+     *
+     * @param segment The current segment
+     * @author Fable
+     * @since 2026/10/17 23:55
+     */
+    private void prefetch(Segment segment) {
+        // 先挂到号段上再开始分配, 切换时总能看到已开始的预取, 取到的号段不会丢失
+        final CompletableFuture<Segment> future = new CompletableFuture<>();
+        if (!segment.prefetched.compareAndSet(null, future)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(allocate());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Replace the exhausted segment with the prefetched one, or allocate one synchronously if the prefetch
+     * has not started or failed
+     *
+     * @param exhausted The exhausted segment
+     * @author Fable
+     * @since 2026/10/17 18:13
+     */
+    private void switchSegment(Segment exhausted) {
+        lock.lock();
+        try {
+            if (current != exhausted) {
+                // 其他线程已经完成切换
+                return;
+            }
+
+            // 尚未开始的预取不再开始; 已开始的等待并使用它取到的号段
+            exhausted.prefetched.compareAndSet(null, NOT_PREFETCHED);
+            Segment next = null;
+            try {
+                next = exhausted.prefetched.get().join();
+            } catch (RuntimeException e) {
+                // 预取失败, 下面同步重试一次, 失败时抛给调用者
+            }
+            current = null != next ? next : allocate();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Segment allocate() {
+        final long start = store.allocate(key, step);
+        return new Segment(start, Math.addExact(start, step), start + (long) (step * prefetchRatio));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getStep() {
+        return step;
+    }
+
+    public double getPrefetchRatio() {
+        return prefetchRatio;
+    }
+
+    /**
+     * Number of IDs left in the current segment, not counting the prefetched one
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 18:14
+     */
+    public long getRemaining() {
+        final Segment segment = current;
+        return Math.max(0, segment.end - segment.next.get());
+    }
+
+    /**
+     * Range {@code [next, end)} of IDs
+     */
+    private static final class Segment {
+
+        private final AtomicLong next;
+
+        private final long end;
+
+        /**
+         * The first ID whose caller starts the prefetch of the next segment
+         */
+        private final long prefetchAt;
+
+        /**
+         * The next segment being prefetched, null if the prefetch has not started, set at most once
+         */
+        private final AtomicReference<CompletableFuture<Segment>> prefetched = new AtomicReference<>();
+
+        private Segment(long start, long end, long prefetchAt) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+            this.prefetchAt = prefetchAt;
+        }
+    }
+
+    /**
+     * Shared daemon threads of the prefetches
+     */
+    private static final class PrefetchExecutor {
+
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "fable-segment-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * {@link SegmentIdGenerator} builder class
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public static final class SegmentBuilder implements Builder<SegmentIdGenerator> {
+
+        private RangeStore store;
+
+        private String key;
+
+        private long step = DEFAULT_STEP;
+
+        private double prefetchRatio = DEFAULT_PREFETCH_RATIO;
+
+        private Executor executor;
+
+        private SegmentBuilder() {
+        }
+
+        /**
+         * Set the {@link RangeStore}
+         *
+         * @param store {@link RangeStore}
+         * @return {@link SegmentBuilder}
+         * @author Fable
+         * @since 2026/10/17 18:15
+         */
+        public SegmentBuilder store(RangeStore store) {
+            this.store = store;
+            return this;
+        }
+
+        /**
+         * Set the key of the ID sequence in the store
+         *
+         * @param key Key
+         * @return {@link SegmentBuilder}
+         * @author Fable
+         * @since 2026/10/17 18:15
+         */
+        public SegmentBuilder key(String key) {
+            this.key = key;
+            return this;
+        }
+
+        /**
+         * Set the size of a segment
+         *
+         * @param step Step
+         * @return {@link SegmentBuilder}
+         * @author Fable
+         * @since 2026/10/17 18:16
+         */
+        public SegmentBuilder step(long step) {
+            this.step = step;
+            return this;
+        }
+
+        /**
+         * Set the used fraction of the current segment that starts the prefetch of the next one, 0 prefetches at once
+         *
+         * @param prefetchRatio Between 0 (inclusive) and 1 (exclusive)
+         * @return {@link SegmentBuilder}
+         * @author Fable
+         * @since 2026/10/17 18:16
+         */
+        public SegmentBuilder prefetchRatio(double prefetchRatio) {
+            this.prefetchRatio = prefetchRatio;
+            return this;
+        }
+
+        /**
+         * Set the {@link Executor} of the prefetches, shared daemon threads by default
+         *
+         * @param executor {@link Executor}
+         * @return {@link SegmentBuilder}
+         * @author Fable
+         * @since 2026/10/17 18:17
+         */
+        public SegmentBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Build the generator, the first segment is allocated synchronously
+         *
+         * @return {@link SegmentIdGenerator}
+         * @author Fable
+         * @since 2026/10/17 18:17
+         */
+        @Override
+        public SegmentIdGenerator build() {
+            Assert.isTrue(null != store, "The range store must not be null.");
+            Assert.isTrue(null != key && !key.isEmpty(), "The key must not be empty.");
+            Assert.isTrue(step > 0, "The step must be positive: %d", step);
+            Assert.isTrue(prefetchRatio >= 0 && prefetchRatio < 1, "The prefetch ratio must be in [0, 1): %s", prefetchRatio);
+            return new SegmentIdGenerator(this);
+        }
+    }
+}
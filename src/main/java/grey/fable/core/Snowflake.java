@@ -1,9 +1,18 @@
 package grey.fable.core;
 
 import grey.fable.core.utils.IdUtil;
+import grey.fable.core.worker.WorkerIdAssigner;
+import grey.fable.core.worker.WorkerIdLease;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.LongStream;
 
 /**
- * Snowflake ID class
+ * Snowflake ID class. The constants below describe the default bit layout,
+ * other layouts can be configured with {@link SnowflakeLayout}.
  *
  * @author Fable
  * @since 2024/5/16 14:54
@@ -13,7 +22,7 @@ public class Snowflake {
     /**
      * Data center ID occupies 5 bits
      */
-    private static final long DATA_CENTER_ID_BITS = 5;
+    static final long DATA_CENTER_ID_BITS = 5;
 
     /**
      * Data center ID occupies 5 bits, with a maximum value of 31.
@@ -22,22 +31,22 @@ public class Snowflake {
      *     <li> After negation, it is: 0000000000000000000000000000000000000000000000000000000000011111 </li>
      * </ul>
      */
-    private static final long MAX_DATA_CENTER_ID = ~(-1L << DATA_CENTER_ID_BITS);
+    static final long MAX_DATA_CENTER_ID = ~(-1L << DATA_CENTER_ID_BITS);
 
     /**
      * Machine ID occupies 5 bits
      */
-    private static final long WORKER_ID_BITS = 5;
+    static final long WORKER_ID_BITS = 5;
 
     /**
      * Machine ID occupies 5 bits, with a maximum value of 31.
      */
-    private static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
+    static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
 
     /**
      * Sequence number occupies 12 bits
      */
-    private static final long SEQUENCE_BITS = 12L;
+    static final long SEQUENCE_BITS = 12L;
 
     /**
      * Sequence mask (the lowest 12 bits are 1, the higher bits are all 0),
@@ -45,7 +54,7 @@ public class Snowflake {
      * If the value is 0, it means the incremented sequence number has exceeded 4095. <br />
      * 序列掩码(最低 12 位为 1, 高位都为 0), 主要用于与自增后的序列号进行位与, 如果值为 0, 则代表自增后的序列号超过了 4095
      */
-    private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+    static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
 
     /**
      * The latest sequence number within the same millisecond, with a maximum value of (2^12 - 1 = 4095).
@@ -55,22 +64,44 @@ public class Snowflake {
     /**
      * Number of bits the WORKER_ID needs to be left-shifted by 12
      */
-    private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
+    static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
 
     /**
      * Number of bits the DATA_CENTER_ID needs to be left-shifted by 12+5
      */
-    private static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+    static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
 
     /**
      * Number of bits the TIMESTAMP needs to be left-shifted by 12+5+5
      */
-    private static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
+    static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
 
     /**
      * Initial time
      */
-    private static final long INITIAL_EPOCH = 1678068570258L;
+    static final long INITIAL_EPOCH = 1678068570258L;
+
+    /**
+     * Timestamp occupies the remaining 41 bits (63 - 12 - 5 - 5), which lasts for about 69 years since the initial time
+     */
+    static final long TIMESTAMP_BITS = Long.SIZE - 1 - TIMESTAMP_SHIFT;
+
+    /**
+     * Number of {@link Thread#onSpinWait()} rounds before parking while waiting for the next millisecond
+     */
+    private static final int SPIN_TRIES = 128;
+
+    /**
+     * Nanoseconds to park per round after spinning, a fraction of a millisecond,
+     * used when the {@link TimeSource} does not know when the next millisecond starts
+     */
+    private static final long PARK_NANOS = 50_000L;
+
+    /**
+     * Lock of the generator state. A {@link ReentrantLock} instead of synchronized,
+     * so that waiting virtual threads do not pin their carrier thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
 
     /**
      * Record the last used millisecond timestamp, primarily used for determining if it's the same millisecond,
@@ -79,41 +110,156 @@ public class Snowflake {
      */
     private long lastTimestamp = -1L;
 
-    private final long dataCenterId;
+    /**
+     * The last used timestamp of the other value of the backup worker ID bit,
+     * only used by {@link RollbackStrategy#BACKUP_WORKER}
+     */
+    private long standbyTimestamp = -1L;
+
+    /**
+     * Bit layout, {@link SnowflakeLayout#DEFAULT} unless configured
+     */
+    final SnowflakeLayout layout;
 
-    private final long workerId;
+    final long dataCenterId;
+
+    final long workerId;
+
+    /**
+     * Lease of the worker ID when it was assigned by a {@link WorkerIdAssigner}, checked whenever a new millisecond starts
+     */
+    private final WorkerIdLease workerIdLease;
+
+    /**
+     * The highest worker ID bit, reserved as backup bit by {@link RollbackStrategy#BACKUP_WORKER}
+     */
+    private final long backupWorkerId;
+
+    /**
+     * Data center ID and worker ID already shifted into place, the backup bit may be switched on rollback
+     */
+    private long nodeBits;
+
+    final RollbackStrategy rollbackStrategy;
+
+    final long maxRollbackMillis;
+
+    final SnowflakeMetrics metrics;
+
+    /**
+     * Whether the hot path metrics are recorded, a final field so that the check is nearly free when disabled
+     */
+    final boolean isMetricsEnabled;
+
+    final TimeSource timeSource;
 
     public Snowflake() {
-        this(IdUtil.getWorkerId(IdUtil.getDataCenterId(MAX_DATA_CENTER_ID), MAX_WORKER_ID));
+        this(builder());
     }
 
     public Snowflake(long workerId) {
-        this(IdUtil.getDataCenterId(MAX_DATA_CENTER_ID), workerId);
+        this(builder().workerId(workerId));
     }
 
     public Snowflake(long dataCenterId, long workerId) {
-        this.workerId = Assert.checkBetween(workerId, 0, MAX_WORKER_ID);
-        this.dataCenterId = Assert.checkBetween(dataCenterId, 0, MAX_DATA_CENTER_ID);
+        this(builder().dataCenterId(dataCenterId).workerId(workerId));
+    }
+
+    Snowflake(SnowflakeBuilder builder) {
+        this.layout = builder.layout;
+        this.dataCenterId = Assert.checkBetween(null != builder.dataCenterId ? builder.dataCenterId :
+                0 == layout.maxDataCenterId ? 0 : IdUtil.getDataCenterId(layout.maxDataCenterId), 0, layout.maxDataCenterId);
+        this.backupWorkerId = 0 == layout.workerIdBits ? 0 : 1L << (layout.workerIdBits - 1);
+        this.rollbackStrategy = builder.rollbackStrategy;
+        if (null != builder.workerId) {
+            this.workerIdLease = null;
+            this.workerId = Assert.checkBetween(builder.workerId, 0, layout.maxWorkerId);
+        } else {
+            // 备用位被保留时, 只分配不含备用位的 workerId
+            final WorkerIdAssigner assigner = null != builder.workerIdAssigner ? builder.workerIdAssigner : IdUtil.getWorkerIdAssigner();
+            this.workerIdLease = assigner.assign(dataCenterId,
+                    RollbackStrategy.BACKUP_WORKER == rollbackStrategy && 0 != backupWorkerId ? backupWorkerId - 1 : layout.maxWorkerId);
+            this.workerId = Assert.checkBetween(workerIdLease.getWorkerId(), 0, layout.maxWorkerId);
+        }
+        this.maxRollbackMillis = builder.maxRollbackMillis;
+        this.timeSource = builder.timeSource;
+        this.isMetricsEnabled = builder.isMetricsEnabled;
+        this.metrics = new SnowflakeMetrics(isMetricsEnabled);
+        this.nodeBits = (dataCenterId << layout.dataCenterIdShift) | (workerId << layout.workerIdShift);
+
+        if (RollbackStrategy.BACKUP_WORKER == rollbackStrategy) {
+            Assert.isTrue(0 != backupWorkerId && workerId < backupWorkerId,
+                    "The worker ID must be less than %d to reserve the backup bit.", backupWorkerId);
+        }
+    }
+
+    /**
+     * Create a {@link SnowflakeBuilder}
+     *
+     * @return {@link SnowflakeBuilder}
+     * @author Fable
+     * @since 2026/10/17 11:24
+     */
+    public static SnowflakeBuilder builder() {
+        return new SnowflakeBuilder();
     }
 
     /**
-     * Generate the nextId using the Snowflake algorithm, synchronized is used here for synchronization.
+     * Generate the nextId using the Snowflake algorithm, a {@link ReentrantLock} is used here for synchronization.
      *
      * @return {@link long}
      * @author Fable
      * @since 2024/5/16 15:17
      */
-    public synchronized long nextId() {
-        long currentTimestamp = System.currentTimeMillis();
+    public long nextId() {
+        if (!isMetricsEnabled) {
+            return generateId();
+        }
 
-        if (currentTimestamp < lastTimestamp) {
-            throw new IllegalStateException(String.format("可能出现服务器时钟回拨问题, 请检查服务器时间. " +
-                    "当前服务器时间戳: %d, 上一次使用时间戳: %d", currentTimestamp, lastTimestamp));
+        final long start = System.nanoTime();
+        final long id = generateId();
+        metrics.recordIds(1, System.nanoTime() - start);
+        return id;
+    }
+
+    /**
+     * Generate one ID, overridden by the other implementations
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 17:10
+     */
+    long generateId() {
+        lock();
+        try {
+            return nextIdLocked();
+        } finally {
+            lock.unlock();
         }
+    }
+
+    /**
+     * Acquire the lock, and record the wait if it was held by another thread
+     *
+     * @author Fable
+     * @since 2026/10/17 17:11
+     */
+    private void lock() {
+        if (!isMetricsEnabled) {
+            lock.lock();
+        } else if (!lock.tryLock()) {
+            final long start = System.nanoTime();
+            lock.lock();
+            metrics.recordLockWait(System.nanoTime() - start);
+        }
+    }
+
+    private long nextIdLocked() {
+        long currentTimestamp = currentTimestamp();
 
         if (currentTimestamp == lastTimestamp) {
             // 序列号每次加 1, 然后和序列掩码进行位于
-            final long seq = (sequence + 1) & SEQUENCE_MASK;
+            final long seq = (sequence + 1) & layout.sequenceMask;
             // 为 0 则表示序列号大于 4095, 当前毫秒使用的序列号已达到最大个数, 使用新的时间戳
             if (seq == 0) {
                 currentTimestamp = tilNextMillis(lastTimestamp);
@@ -121,6 +267,7 @@ public class Snowflake {
             this.sequence = seq;
         } else {
             // 不在同一毫秒内, 则序列号重新从 0 开始
+            checkNewMillis(currentTimestamp);
             sequence = 0L;
         }
 
@@ -128,35 +275,378 @@ public class Snowflake {
         lastTimestamp = currentTimestamp;
 
         // 核心算法, 将不同部分的数值移动到指定的位置, 然后进行位或操作
-        return ((currentTimestamp - INITIAL_EPOCH) << TIMESTAMP_SHIFT)
-                | (dataCenterId << DATA_CENTER_ID_SHIFT)
-                | (workerId << WORKER_ID_SHIFT)
+        return ((currentTimestamp - layout.epoch) << layout.timestampShift)
+                | nodeBits
                 | sequence;
     }
 
     /**
-     * Waiting in a loop for the next time
+     * Generate the specified number of IDs in one critical section
+     *
+     * @param count Count
+     * @return {@link LongStream}
+     * @author Fable
+     * @since 2026/10/17 9:48
+     */
+    public LongStream nextIds(int count) {
+        Assert.isTrue(count >= 0, "The count must not be negative: %d", count);
+        final long[] ids = new long[count];
+        fill(ids);
+        return LongStream.of(ids);
+    }
+
+    /**
+     * Fill the whole array with IDs in one critical section
+     *
+     * @param ids Target array
+     * @author Fable
+     * @since 2026/10/17 9:49
+     */
+    public void fill(long[] ids) {
+        fill(ids, 0, ids.length);
+    }
+
+    /**
+     * Fill the range [fromIndex, toIndex) of the array with IDs in one critical section.
+     * The clock is read once per millisecond instead of once per ID, and when the sequence
+     * numbers of the current millisecond are exhausted the range continues in the following milliseconds.
+     *
+     * @param ids       Target array
+     * @param fromIndex From index (inclusive)
+     * @param toIndex   To index (exclusive)
+     * @author Fable
+     * @since 2026/10/17 9:50
+     */
+    public void fill(long[] ids, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, ids.length);
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        if (!isMetricsEnabled) {
+            generateIds(ids, fromIndex, toIndex);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        generateIds(ids, fromIndex, toIndex);
+        metrics.recordIds(toIndex - fromIndex, System.nanoTime() - start);
+    }
+
+    /**
+     * Fill the non-empty range of the array with IDs, overridden by the other implementations
+     *
+     * @param ids       Target array
+     * @param fromIndex From index (inclusive)
+     * @param toIndex   To index (exclusive)
+     * @author Fable
+     * @since 2026/10/17 17:12
+     */
+    void generateIds(long[] ids, int fromIndex, int toIndex) {
+        lock();
+        try {
+            fillLocked(ids, fromIndex, toIndex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fillLocked(long[] ids, int fromIndex, int toIndex) {
+        long currentTimestamp = currentTimestamp();
+
+        // 下一个可用的序列号, 可能为序列掩码 + 1, 表示当前毫秒已用完
+        long seq;
+        if (currentTimestamp == lastTimestamp) {
+            seq = sequence + 1;
+        } else {
+            checkNewMillis(currentTimestamp);
+            seq = 0L;
+        }
+
+        int index = fromIndex;
+        while (true) {
+            if (seq > layout.sequenceMask) {
+                // 先记录已用完的毫秒, 等待中发生时钟回拨时 rollback 看到的是批量实际用到的时间戳
+                lastTimestamp = currentTimestamp;
+                sequence = layout.sequenceMask;
+                currentTimestamp = tilNextMillis(currentTimestamp);
+                seq = 0L;
+            }
+
+            final long base = ((currentTimestamp - layout.epoch) << layout.timestampShift) | nodeBits;
+            final int end = (int) Math.min(toIndex, index + (layout.sequenceMask + 1 - seq));
+            while (index < end) {
+                ids[index++] = base | seq++;
+            }
+
+            if (index == toIndex) {
+                break;
+            }
+        }
+
+        lastTimestamp = currentTimestamp;
+        sequence = seq - 1;
+    }
+
+    /**
+     * The timestamp (milliseconds since 1970) of an ID generated with the layout of this generator
+     *
+     * @param id ID
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:12
+     */
+    public long timestampOf(long id) {
+        return layout.timestampOf(id);
+    }
+
+    /**
+     * The data center ID of an ID generated with the layout of this generator
+     *
+     * @param id ID
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:12
+     */
+    public long dataCenterOf(long id) {
+        return layout.dataCenterOf(id);
+    }
+
+    /**
+     * The worker ID of an ID generated with the layout of this generator.
+     * With {@link RollbackStrategy#BACKUP_WORKER} it includes the backup bit.
+     *
+     * @param id ID
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:13
+     */
+    public long workerOf(long id) {
+        return layout.workerOf(id);
+    }
+
+    /**
+     * The sequence number of an ID generated with the layout of this generator
+     *
+     * @param id ID
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:13
+     */
+    public long sequenceOf(long id) {
+        return layout.sequenceOf(id);
+    }
+
+    /**
+     * The lowest ID of the millisecond, see {@link SnowflakeLayout#minIdAt(long)}
+     *
+     * @param timestamp Timestamp in milliseconds since 1970
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:14
+     */
+    public long minIdAt(long timestamp) {
+        return layout.minIdAt(timestamp);
+    }
+
+    /**
+     * The highest ID of the millisecond, see {@link SnowflakeLayout#maxIdAt(long)}
+     *
+     * @param timestamp Timestamp in milliseconds since 1970
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:14
+     */
+    public long maxIdAt(long timestamp) {
+        return layout.maxIdAt(timestamp);
+    }
+
+    public long getDataCenterId() {
+        return dataCenterId;
+    }
+
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * The lease of the worker ID, close it to hand the worker ID back when the generator is no longer used
+     *
+     * @return {@link WorkerIdLease}, or null if the worker ID was configured explicitly
+     * @author Fable
+     * @since 2026/10/17 16:12
+     */
+    public WorkerIdLease getWorkerIdLease() {
+        return workerIdLease;
+    }
+
+    public SnowflakeLayout getLayout() {
+        return layout;
+    }
+
+    public RollbackStrategy getRollbackStrategy() {
+        return rollbackStrategy;
+    }
+
+    public TimeSource getTimeSource() {
+        return timeSource;
+    }
+
+    public SnowflakeMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Read the clock, and resolve a rollback against the last used timestamp
+     *
+     * @return A timestamp not less than the last used timestamp
+     * @author Fable
+     * @since 2026/10/17 11:30
+     */
+    private long currentTimestamp() {
+        final long currentTimestamp = timeSource.currentTimeMillis();
+        return currentTimestamp < lastTimestamp ? rollback(currentTimestamp, lastTimestamp) : currentTimestamp;
+    }
+
+    /**
+     * Waiting in a loop for the next time, spinning with {@link Thread#onSpinWait()} first
+     * and then parking for a fraction of a millisecond per round instead of burning a core.
      *
      * @param lastTimestamp Last recorded time
      * @return {@link long}
      * @author Fable
      * @since 2024/5/16 15:17
      */
-    private long tilNextMillis(long lastTimestamp) {
-        long currentTimestamp = System.currentTimeMillis();
+    long tilNextMillis(long lastTimestamp) {
+        long currentTimestamp = timeSource.currentTimeMillis();
 
-        // Loop until the operating system timestamp changes
-        while (currentTimestamp == lastTimestamp) {
-            currentTimestamp = System.currentTimeMillis();
+        if (currentTimestamp == lastTimestamp) {
+            final long start = System.nanoTime();
+            int spins = 0;
+
+            // Loop until the operating system timestamp changes
+            while (currentTimestamp == lastTimestamp) {
+                if (spins < SPIN_TRIES) {
+                    spins++;
+                    Thread.onSpinWait();
+                } else {
+                    parkToNextMillis();
+                }
+                currentTimestamp = timeSource.currentTimeMillis();
+            }
+            metrics.recordExhausted(System.nanoTime() - start);
         }
 
         if (currentTimestamp < lastTimestamp) {
             // If the current timestamp is smaller than the last used timestamp,
             // it indicates that the operating system time has regressed.
-            throw new IllegalStateException(String.format("可能出现服务器时钟回拨问题, 请检查服务器时间. " +
-                    "当前服务器时间戳: %d, 上一次使用时间戳: %d", currentTimestamp, lastTimestamp));
+            currentTimestamp = rollback(currentTimestamp, lastTimestamp + 1);
+        }
+
+        checkNewMillis(currentTimestamp);
+        return currentTimestamp;
+    }
+
+    /**
+     * Checks before the first ID of a new millisecond: the timestamp must fit into the layout, and the worker ID
+     * must still be held, so that no other generator can be using it
+     *
+     * @param timestamp The new millisecond
+     * @author Fable
+     * @since 2026/10/17 16:10
+     */
+    final void checkNewMillis(long timestamp) {
+        if (timestamp > layout.getHorizon()) {
+            // 时间戳超出布局可表示的范围, 继续生成会溢出到节点位
+            throw new IllegalStateException(String.format("The timestamp %d is beyond the horizon %d of the %d-bit " +
+                    "timestamp layout, no more IDs can be generated.", timestamp, layout.getHorizon(), layout.timestampBits));
+        }
+        if (null != workerIdLease && !workerIdLease.isValid()) {
+            throw new IllegalStateException(String.format(
+                    "The lease of worker ID %d of data center %d has been lost, no more IDs can be generated.", workerId, dataCenterId));
+        }
+    }
+
+    /**
+     * Park until the next millisecond if the time source knows when it starts, otherwise park for a fraction of it
+     *
+     * @author Fable
+     * @since 2026/10/17 13:20
+     */
+    private void parkToNextMillis() {
+        final long nanos = timeSource.nanosToNextMillis();
+        LockSupport.parkNanos(nanos > 0 ? nanos : PARK_NANOS);
+    }
+
+    /**
+     * Handle a clock rollback according to the {@link RollbackStrategy}
+     *
+     * @param currentTimestamp Current time, smaller than the minimum timestamp
+     * @param minTimestamp     The minimum timestamp that can be used without duplicates
+     * @return The timestamp to use
+     * @author Fable
+     * @since 2026/10/17 11:33
+     */
+    long rollback(long currentTimestamp, long minTimestamp) {
+        metrics.recordRollback();
+
+        final long offset = minTimestamp - currentTimestamp;
+        switch (rollbackStrategy) {
+            case WAIT:
+                if (offset <= maxRollbackMillis) {
+                    return waitUntil(minTimestamp);
+                }
+                break;
+            case BORROW:
+                if (offset <= maxRollbackMillis) {
+                    metrics.recordBorrow();
+                    return minTimestamp;
+                }
+                break;
+            case BACKUP_WORKER:
+                // 切换到备用 workerId 位, 备用位有自己的最后使用时间戳, 只有它早于当前时间才能切换
+                if (standbyTimestamp < currentTimestamp) {
+                    final long timestamp = lastTimestamp;
+                    lastTimestamp = standbyTimestamp;
+                    standbyTimestamp = timestamp;
+                    nodeBits ^= backupWorkerId << layout.workerIdShift;
+                    metrics.recordBackupSwitch();
+                    return currentTimestamp;
+                }
+                break;
+            default:
+                break;
         }
 
+        metrics.recordRollbackRejected();
+        throw new IllegalStateException(String.format("可能出现服务器时钟回拨问题, 请检查服务器时间. " +
+                "当前服务器时间戳: %d, 可用的最小时间戳: %d, 回拨策略: %s", currentTimestamp, minTimestamp, rollbackStrategy));
+    }
+
+    /**
+     * Wait until the clock reaches the timestamp
+     *
+     * @param timestamp Timestamp
+     * @return The current time, not less than the timestamp
+     * @author Fable
+     * @since 2026/10/17 11:36
+     */
+    private long waitUntil(long timestamp) {
+        final long start = System.nanoTime();
+        int spins = 0;
+        long currentTimestamp;
+        while ((currentTimestamp = timeSource.currentTimeMillis()) < timestamp) {
+            if (timestamp - currentTimestamp > 1) {
+                // 距离目标时间超过 1 毫秒, 直接休眠到目标时间的前一毫秒
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(timestamp - currentTimestamp - 1));
+            } else if (spins < SPIN_TRIES) {
+                spins++;
+                Thread.onSpinWait();
+            } else {
+                parkToNextMillis();
+            }
+        }
+        metrics.recordRollbackWait(System.nanoTime() - start);
         return currentTimestamp;
     }
-}
\ No newline at end of file
+}
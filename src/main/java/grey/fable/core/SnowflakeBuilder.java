@@ -0,0 +1,208 @@
+package grey.fable.core;
+
+import grey.fable.core.builder.Builder;
+import grey.fable.core.utils.IdUtil;
+import grey.fable.core.worker.WorkerIdAssigner;
+
+/**
+ * {@link Snowflake} builder class
+ * <pre>
+ *     Snowflake snowflake = Snowflake.builder()
+ *             .mode(SnowflakeBuilder.Mode.LOCK_FREE)
+ *             .rollbackStrategy(RollbackStrategy.WAIT, 10)
+ *             .build();
+ * </pre>
+ *
+ * @author Fable
+ * @since 2026/10/17 11:15
+ */
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public class SnowflakeBuilder implements Builder<Snowflake> {
+
+    /**
+     * Implementation of the generator
+     */
+    public enum Mode {
+
+        /**
+         * {@link Snowflake}
+         */
+        SYNCHRONIZED,
+
+        /**
+         * {@link LockFreeSnowflake}
+         */
+        LOCK_FREE,
+
+        /**
+         * {@link StripedSnowflake}
+         */
+        STRIPED
+    }
+
+    Mode mode = Mode.SYNCHRONIZED;
+
+    /**
+     * Data center ID, derived from the local hardware address when null
+     */
+    Long dataCenterId;
+
+    /**
+     * Worker ID, assigned by the {@link WorkerIdAssigner} when null
+     */
+    Long workerId;
+
+    /**
+     * Assigner of the worker ID, {@link IdUtil#getWorkerIdAssigner()} when null
+     */
+    WorkerIdAssigner workerIdAssigner;
+
+    RollbackStrategy rollbackStrategy = RollbackStrategy.THROW;
+
+    long maxRollbackMillis;
+
+    int blockSize = StripedSnowflake.DEFAULT_BLOCK_SIZE;
+
+    TimeSource timeSource = TimeSource.system();
+
+    SnowflakeLayout layout = SnowflakeLayout.DEFAULT;
+
+    boolean isMetricsEnabled;
+
+    /**
+     * Set the implementation of the generator
+     *
+     * @param mode {@link Mode}
+     * @return {@link SnowflakeBuilder}
+     * @author Fable
+     * @since 2026/10/17 11:16
+     */
+    public SnowflakeBuilder mode(Mode mode) {
+        Assert.isTrue(null != mode, "The mode must not be null.");
+        this.mode = mode;
+        return this;
+    }
+
+    /**
+     * Set the data center ID
+     *
+     * @param dataCenterId DataCenterId
+     * @return {@link SnowflakeBuilder}
+     * @author Fable
+     * @since 2026/10/17 11:16
+     */
+    public SnowflakeBuilder dataCenterId(long dataCenterId) {
+        this.dataCenterId = dataCenterId;
+        return this;
+    }
+
+    /**
+     * Set the worker ID
+     *
+     * @param workerId WorkerId
+     * @return {@link SnowflakeBuilder}
+     * @author Fable
+     * @since 2026/10/17 11:17
+     */
+    public SnowflakeBuilder workerId(long workerId) {
+        this.workerId = workerId;
+        return this;
+    }
+
+    /**
+     * Set the assigner of the worker ID, used when no worker ID is set.
+     * {@link #build()} throws {@link IllegalStateException} if it has no free worker ID left.
+     *
+     * @param workerIdAssigner {@link WorkerIdAssigner}
+     * @return {@link SnowflakeBuilder}
+     * @author Fable
+     * @since 2026/10/17 16:05
+     */
+    public SnowflakeBuilder workerIdAssigner(WorkerIdAssigner workerIdAssigner) {
+        Assert.isTrue(null != workerIdAssigner, "The worker ID assigner must not be null.");
+        this.workerIdAssigner = workerIdAssigner;
+        return this;
+    }
+
+    /**
+     * Set the strategy on clock rollback
+     *
+     * @param rollbackStrategy  {@link RollbackStrategy}
+     * @param maxRollbackMillis The maximum tolerated rollback (or lead over the clock when borrowing) in milliseconds
+     * @return {@link SnowflakeBuilder}
+     * @author Fable
+     * @since 2026/10/17 11:18
+     */
+    public SnowflakeBuilder rollbackStrategy(RollbackStrategy rollbackStrategy, long maxRollbackMillis) {
+        Assert.isTrue(null != rollbackStrategy, "The rollback strategy must not be null.");
+        this.rollbackStrategy = rollbackStrategy;
+        this.maxRollbackMillis = Assert.checkBetween(maxRollbackMillis, 0, Long.MAX_VALUE);
+        return this;
+    }
+
+    /**
+     * Set the maximum block size of {@link Mode#STRIPED}
+     *
+     * @param blockSize BlockSize
+     * @return {@link SnowflakeBuilder}
+     * @author Fable
+     * @since 2026/10/17 11:19
+     */
+    public SnowflakeBuilder blockSize(int blockSize) {
+        this.blockSize = blockSize;
+        return this;
+    }
+
+    /**
+     * Set the {@link TimeSource}, e.g. {@link TimeSource#monotonic()}
+     *
+     * @param timeSource {@link TimeSource}
+     * @return {@link SnowflakeBuilder}
+     * @author Fable
+     * @since 2026/10/17 13:24
+     */
+    public SnowflakeBuilder timeSource(TimeSource timeSource) {
+        Assert.isTrue(null != timeSource, "The time source must not be null.");
+        this.timeSource = timeSource;
+        return this;
+    }
+
+    /**
+     * Set the {@link SnowflakeLayout}, the data center ID and worker ID must fit into it
+     *
+     * @param layout {@link SnowflakeLayout}
+     * @return {@link SnowflakeBuilder}
+     * @author Fable
+     * @since 2026/10/17 14:08
+     */
+    public SnowflakeBuilder layout(SnowflakeLayout layout) {
+        Assert.isTrue(null != layout, "The layout must not be null.");
+        this.layout = layout;
+        return this;
+    }
+
+    /**
+     * Enable the hot path metrics, see {@link SnowflakeMetrics}
+     *
+     * @param isEnabled IsEnabled
+     * @return {@link SnowflakeBuilder}
+     * @author Fable
+     * @since 2026/10/17 17:14
+     */
+    public SnowflakeBuilder metrics(boolean isEnabled) {
+        this.isMetricsEnabled = isEnabled;
+        return this;
+    }
+
+    @Override
+    public Snowflake build() {
+        switch (mode) {
+            case LOCK_FREE:
+                return new LockFreeSnowflake(this);
+            case STRIPED:
+                return new StripedSnowflake(this);
+            default:
+                return new Snowflake(this);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package grey.fable.core;
+
+import grey.fable.core.builder.Builder;
+
+/**
+ * Bit layout of a Snowflake ID: {@code sign(1) | timestamp | data center ID | worker ID | sequence}.
+ * All shifts and masks are precomputed into final fields, so encoding stays branch-free. <br />
+ * 雪花 ID 的位布局, 所有位移和掩码都预先计算为 final 字段
+ * <pre>
+ *     SnowflakeLayout layout = SnowflakeLayout.builder()
+ *             .timestampBits(41)
+ *             .nodeBits(3, 9)
+ *             .sequenceBits(10)
+ *             .build();
+ * </pre>
+ *
+ * @author Fable
+ * @since 2026/10/17 13:50
+ */
+public final class SnowflakeLayout {
+
+    /**
+     * The default layout of {@link Snowflake}: 41 bits timestamp, 5 bits data center ID, 5 bits worker ID
+     * and 12 bits sequence since {@link Snowflake#INITIAL_EPOCH}
+     */
+    public static final SnowflakeLayout DEFAULT = new SnowflakeLayout(
+            Snowflake.TIMESTAMP_BITS, Snowflake.DATA_CENTER_ID_BITS, Snowflake.WORKER_ID_BITS,
+            Snowflake.SEQUENCE_BITS, Snowflake.INITIAL_EPOCH);
+
+    final long timestampBits;
+
+    final long dataCenterIdBits;
+
+    final long workerIdBits;
+
+    final long sequenceBits;
+
+    final long epoch;
+
+    final long maxTimestamp;
+
+    final long maxDataCenterId;
+
+    final long maxWorkerId;
+
+    final long sequenceMask;
+
+    final long workerIdShift;
+
+    final long dataCenterIdShift;
+
+    final long timestampShift;
+
+    private SnowflakeLayout(long timestampBits, long dataCenterIdBits, long workerIdBits, long sequenceBits, long epoch) {
+        this.timestampBits = Assert.checkBetween(timestampBits, 1, Long.SIZE - 1);
+        this.dataCenterIdBits = Assert.checkBetween(dataCenterIdBits, 0, Long.SIZE - 1);
+        this.workerIdBits = Assert.checkBetween(workerIdBits, 0, Long.SIZE - 1);
+        this.sequenceBits = Assert.checkBetween(sequenceBits, 1, Long.SIZE - 1);
+        Assert.isTrue(timestampBits + dataCenterIdBits + workerIdBits + sequenceBits <= Long.SIZE - 1,
+                "The layout needs %d bits, but only %d bits are available.",
+                timestampBits + dataCenterIdBits + workerIdBits + sequenceBits, Long.SIZE - 1);
+        this.epoch = Assert.checkBetween(epoch, 0, Long.MAX_VALUE);
+
+        this.maxTimestamp = ~(-1L << timestampBits);
+        this.maxDataCenterId = ~(-1L << dataCenterIdBits);
+        this.maxWorkerId = ~(-1L << workerIdBits);
+        this.sequenceMask = ~(-1L << sequenceBits);
+        this.workerIdShift = sequenceBits;
+        this.dataCenterIdShift = sequenceBits + workerIdBits;
+        this.timestampShift = sequenceBits + workerIdBits + dataCenterIdBits;
+    }
+
+    /**
+     * Create a {@link LayoutBuilder} starting from the default layout
+     *
+     * @return {@link LayoutBuilder}
+     * @author Fable
+     * @since 2026/10/17 13:52
+     */
+    public static LayoutBuilder builder() {
+        return new LayoutBuilder();
+    }
+
+    /**
+     * The last millisecond (since 1970) that can be encoded
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 13:53
+     */
+    public long getHorizon() {
+        return epoch + maxTimestamp;
+    }
+
+    /**
+     * Encode an ID from its parts
+     *
+     * @param timestamp    Timestamp in milliseconds since 1970
+     * @param dataCenterId DataCenterId
+     * @param workerId     WorkerId
+     * @param sequence     Sequence
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:05
+     */
+    public long encode(long timestamp, long dataCenterId, long workerId, long sequence) {
+        return ((Assert.checkBetween(timestamp, epoch, getHorizon()) - epoch) << timestampShift)
+                | (Assert.checkBetween(dataCenterId, 0, maxDataCenterId) << dataCenterIdShift)
+                | (Assert.checkBetween(workerId, 0, maxWorkerId) << workerIdShift)
+                | Assert.checkBetween(sequence, 0, sequenceMask);
+    }
+
+    /**
+     * The timestamp (milliseconds since 1970) of the ID
+     *
+     * @param id ID
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:06
+     */
+    public long timestampOf(long id) {
+        return (id >>> timestampShift) + epoch;
+    }
+
+    /**
+     * The data center ID of the ID
+     *
+     * @param id ID
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:06
+     */
+    public long dataCenterOf(long id) {
+        return (id >>> dataCenterIdShift) & maxDataCenterId;
+    }
+
+    /**
+     * The worker ID of the ID
+     *
+     * @param id ID
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:07
+     */
+    public long workerOf(long id) {
+        return (id >>> workerIdShift) & maxWorkerId;
+    }
+
+    /**
+     * The sequence number of the ID
+     *
+     * @param id ID
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:07
+     */
+    public long sequenceOf(long id) {
+        return id & sequenceMask;
+    }
+
+    /**
+     * The lowest ID of the millisecond, of any node. {@code id >= minIdAt(from) && id <= maxIdAt(to)}
+     * selects exactly the IDs generated in the time range [from, to].
+     *
+     * @param timestamp Timestamp in milliseconds since 1970
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:08
+     */
+    public long minIdAt(long timestamp) {
+        return (Assert.checkBetween(timestamp, epoch, getHorizon()) - epoch) << timestampShift;
+    }
+
+    /**
+     * The highest ID of the millisecond, of any node
+     *
+     * @param timestamp Timestamp in milliseconds since 1970
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 15:08
+     */
+    public long maxIdAt(long timestamp) {
+        return minIdAt(timestamp) | ~(-1L << timestampShift);
+    }
+
+    public long getTimestampBits() {
+        return timestampBits;
+    }
+
+    public long getDataCenterIdBits() {
+        return dataCenterIdBits;
+    }
+
+    public long getWorkerIdBits() {
+        return workerIdBits;
+    }
+
+    public long getSequenceBits() {
+        return sequenceBits;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getMaxDataCenterId() {
+        return maxDataCenterId;
+    }
+
+    public long getMaxWorkerId() {
+        return maxWorkerId;
+    }
+
+    public long getSequenceMask() {
+        return sequenceMask;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SnowflakeLayout)) {
+            return false;
+        }
+        final SnowflakeLayout that = (SnowflakeLayout) o;
+        return timestampBits == that.timestampBits
+                && dataCenterIdBits == that.dataCenterIdBits
+                && workerIdBits == that.workerIdBits
+                && sequenceBits == that.sequenceBits
+                && epoch == that.epoch;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(timestampBits);
+        result = 31 * result + Long.hashCode(dataCenterIdBits);
+        result = 31 * result + Long.hashCode(workerIdBits);
+        result = 31 * result + Long.hashCode(sequenceBits);
+        return 31 * result + Long.hashCode(epoch);
+    }
+
+    @Override
+    public String toString() {
+        return "SnowflakeLayout{" +
+                "timestampBits=" + timestampBits +
+                ", dataCenterIdBits=" + dataCenterIdBits +
+                ", workerIdBits=" + workerIdBits +
+                ", sequenceBits=" + sequenceBits +
+                ", epoch=" + epoch +
+                '}';
+    }
+
+    /**
+     * {@link SnowflakeLayout} builder class
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public static final class LayoutBuilder implements Builder<SnowflakeLayout> {
+
+        private long timestampBits = Snowflake.TIMESTAMP_BITS;
+
+        private long dataCenterIdBits = Snowflake.DATA_CENTER_ID_BITS;
+
+        private long workerIdBits = Snowflake.WORKER_ID_BITS;
+
+        private long sequenceBits = Snowflake.SEQUENCE_BITS;
+
+        private long epoch = Snowflake.INITIAL_EPOCH;
+
+        private LayoutBuilder() {
+        }
+
+        /**
+         * Set the number of timestamp bits
+         *
+         * @param timestampBits TimestampBits
+         * @return {@link LayoutBuilder}
+         * @author Fable
+         * @since 2026/10/17 13:55
+         */
+        public LayoutBuilder timestampBits(long timestampBits) {
+            this.timestampBits = timestampBits;
+            return this;
+        }
+
+        /**
+         * Set the number of node bits, split into data center ID bits and worker ID bits
+         *
+         * @param dataCenterIdBits DataCenterIdBits
+         * @param workerIdBits     WorkerIdBits
+         * @return {@link LayoutBuilder}
+         * @author Fable
+         * @since 2026/10/17 13:55
+         */
+        public LayoutBuilder nodeBits(long dataCenterIdBits, long workerIdBits) {
+            this.dataCenterIdBits = dataCenterIdBits;
+            this.workerIdBits = workerIdBits;
+            return this;
+        }
+
+        /**
+         * Set the number of sequence bits
+         *
+         * @param sequenceBits SequenceBits
+         * @return {@link LayoutBuilder}
+         * @author Fable
+         * @since 2026/10/17 13:56
+         */
+        public LayoutBuilder sequenceBits(long sequenceBits) {
+            this.sequenceBits = sequenceBits;
+            return this;
+        }
+
+        /**
+         * Set the epoch in milliseconds since 1970
+         *
+         * @param epoch Epoch
+         * @return {@link LayoutBuilder}
+         * @author Fable
+         * @since 2026/10/17 13:56
+         */
+        public LayoutBuilder epoch(long epoch) {
+            this.epoch = epoch;
+            return this;
+        }
+
+        /**
+         * Build the layout, the epoch must not be in the future and the horizon must not be in the past
+         *
+         * @return {@link SnowflakeLayout}
+         * @author Fable
+         * @since 2026/10/17 13:57
+         */
+        @Override
+        public SnowflakeLayout build() {
+            final SnowflakeLayout layout = new SnowflakeLayout(timestampBits, dataCenterIdBits, workerIdBits, sequenceBits, epoch);
+            final long now = System.currentTimeMillis();
+            Assert.isTrue(epoch <= now, "The epoch %d must not be in the future.", epoch);
+            Assert.isTrue(layout.getHorizon() > now,
+                    "The timestamp horizon %d of %d bits since %d has already passed.", layout.getHorizon(), timestampBits, epoch);
+            return layout;
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package grey.fable.core;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a {@link Snowflake} generator. The counted events (clock rollback, sequence exhaustion) are rare,
+ * so they are always recorded. <br />
+ * 雪花 ID 生成器的计数器
+ * <p>
+ * The hot path metrics (ID count, call latency, lock waits, CAS retries) are only recorded when enabled with
+ * {@link SnowflakeBuilder#metrics(boolean)}; a disabled generator only checks a final boolean per call.
+ * The latency includes the cost of two {@link System#nanoTime()} calls.
+ *
+ * @author Fable
+ * @since 2026/10/17 11:08
+ */
+public class SnowflakeMetrics implements SnowflakeMetricsMXBean {
+
+    /**
+     * Domain of the registered MBeans
+     */
+    public static final String JMX_DOMAIN = "grey.fable";
+
+    private final boolean isEnabled;
+
+    /**
+     * Number of generated IDs
+     */
+    private final LongAdder idCount = new LongAdder();
+
+    /**
+     * Latency of the calls generating IDs, a batch counts as one call
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Number of times a caller found the lock held
+     */
+    private final LongAdder lockWaitCount = new LongAdder();
+
+    /**
+     * Nanoseconds spent waiting for the lock
+     */
+    private final LongAdder lockWaitNanos = new LongAdder();
+
+    /**
+     * Number of failed CAS of the lock-free generators
+     */
+    private final LongAdder casRetryCount = new LongAdder();
+
+    /**
+     * Number of times the clock was observed behind the last used timestamp
+     */
+    private final LongAdder rollbackCount = new LongAdder();
+
+    /**
+     * Number of rollbacks the strategy could not handle, which failed with an exception
+     */
+    private final LongAdder rollbackRejectedCount = new LongAdder();
+
+    /**
+     * Nanoseconds spent waiting for the clock to catch up after a rollback
+     */
+    private final LongAdder rollbackWaitNanos = new LongAdder();
+
+    /**
+     * Number of times a timestamp ahead of the clock was used
+     */
+    private final LongAdder borrowCount = new LongAdder();
+
+    /**
+     * Number of switches of the backup worker ID bit
+     */
+    private final LongAdder backupSwitchCount = new LongAdder();
+
+    /**
+     * Number of times the sequence numbers of a millisecond were exhausted and a caller waited for the next one
+     */
+    private final LongAdder exhaustedCount = new LongAdder();
+
+    /**
+     * Nanoseconds callers stalled waiting for the next millisecond after exhaustion
+     */
+    private final LongAdder exhaustedWaitNanos = new LongAdder();
+
+    SnowflakeMetrics(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    void recordIds(long count, long nanos) {
+        idCount.add(count);
+        latency.record(nanos);
+    }
+
+    void recordLockWait(long nanos) {
+        lockWaitCount.increment();
+        lockWaitNanos.add(nanos);
+    }
+
+    void recordCasRetry() {
+        casRetryCount.increment();
+    }
+
+    void recordRollback() {
+        rollbackCount.increment();
+    }
+
+    void recordRollbackRejected() {
+        rollbackRejectedCount.increment();
+    }
+
+    void recordRollbackWait(long nanos) {
+        rollbackWaitNanos.add(nanos);
+    }
+
+    void recordBorrow() {
+        borrowCount.increment();
+    }
+
+    void recordBackupSwitch() {
+        backupSwitchCount.increment();
+    }
+
+    void recordExhausted(long nanos) {
+        exhaustedCount.increment();
+        exhaustedWaitNanos.add(nanos);
+    }
+
+    /**
+     * Take a consistent-enough copy of all metrics, e.g. to compute rates between two snapshots
+     *
+     * @return {@link Snapshot}
+     * @author Fable
+     * @since 2026/10/17 17:00
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Register the metrics as MBean {@code grey.fable:type=Snowflake,name=<name>} on the platform MBean server
+     *
+     * @param name Name of the generator
+     * @return {@link ObjectName}
+     * @author Fable
+     * @since 2026/10/17 17:02
+     */
+    public ObjectName registerMBean(String name) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = objectName(name);
+            server.registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register the Snowflake metrics MBean: " + name, e);
+        }
+    }
+
+    /**
+     * Unregister the MBean registered by {@link #registerMBean(String)}
+     *
+     * @param name Name of the generator
+     * @author Fable
+     * @since 2026/10/17 17:03
+     */
+    public static void unregisterMBean(String name) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = objectName(name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister the Snowflake metrics MBean: " + name, e);
+        }
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        Assert.isTrue(null != name && !name.isEmpty(), "The MBean name must not be empty.");
+        return new ObjectName(JMX_DOMAIN + ":type=Snowflake,name=" + ObjectName.quote(name));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    @Override
+    public long getIdCount() {
+        return idCount.sum();
+    }
+
+    @Override
+    public long getLockWaitCount() {
+        return lockWaitCount.sum();
+    }
+
+    @Override
+    public long getLockWaitNanos() {
+        return lockWaitNanos.sum();
+    }
+
+    @Override
+    public long getCasRetryCount() {
+        return casRetryCount.sum();
+    }
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return LatencyHistogram.percentile(latency.getCounts(), 50);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return LatencyHistogram.percentile(latency.getCounts(), 99);
+    }
+
+    @Override
+    public long getLatencyP999Nanos() {
+        return LatencyHistogram.percentile(latency.getCounts(), 99.9);
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        return latency.getCounts();
+    }
+
+    @Override
+    public long getRollbackCount() {
+        return rollbackCount.sum();
+    }
+
+    @Override
+    public long getRollbackRejectedCount() {
+        return rollbackRejectedCount.sum();
+    }
+
+    @Override
+    public long getRollbackWaitNanos() {
+        return rollbackWaitNanos.sum();
+    }
+
+    @Override
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    @Override
+    public long getBackupSwitchCount() {
+        return backupSwitchCount.sum();
+    }
+
+    @Override
+    public long getExhaustedCount() {
+        return exhaustedCount.sum();
+    }
+
+    @Override
+    public long getExhaustedWaitNanos() {
+        return exhaustedWaitNanos.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SnowflakeMetrics{" +
+                "isEnabled=" + isEnabled +
+                ", idCount=" + getIdCount() +
+                ", lockWaitCount=" + getLockWaitCount() +
+                ", casRetryCount=" + getCasRetryCount() +
+                ", rollbackCount=" + getRollbackCount() +
+                ", rollbackRejectedCount=" + getRollbackRejectedCount() +
+                ", rollbackWaitNanos=" + getRollbackWaitNanos() +
+                ", borrowCount=" + getBorrowCount() +
+                ", backupSwitchCount=" + getBackupSwitchCount() +
+                ", exhaustedCount=" + getExhaustedCount() +
+                ", exhaustedWaitNanos=" + getExhaustedWaitNanos() +
+                '}';
+    }
+
+    /**
+     * Immutable copy of {@link SnowflakeMetrics}
+     */
+    public static final class Snapshot {
+
+        /**
+         * {@link System#nanoTime()} when the snapshot was taken
+         */
+        private final long nanoTime;
+
+        private final long idCount;
+
+        private final long lockWaitCount;
+
+        private final long lockWaitNanos;
+
+        private final long casRetryCount;
+
+        private final long[] latencyHistogram;
+
+        private final long rollbackCount;
+
+        private final long rollbackRejectedCount;
+
+        private final long rollbackWaitNanos;
+
+        private final long borrowCount;
+
+        private final long backupSwitchCount;
+
+        private final long exhaustedCount;
+
+        private final long exhaustedWaitNanos;
+
+        private Snapshot(SnowflakeMetrics metrics) {
+            this.nanoTime = System.nanoTime();
+            this.idCount = metrics.getIdCount();
+            this.lockWaitCount = metrics.getLockWaitCount();
+            this.lockWaitNanos = metrics.getLockWaitNanos();
+            this.casRetryCount = metrics.getCasRetryCount();
+            this.latencyHistogram = metrics.getLatencyHistogram();
+            this.rollbackCount = metrics.getRollbackCount();
+            this.rollbackRejectedCount = metrics.getRollbackRejectedCount();
+            this.rollbackWaitNanos = metrics.getRollbackWaitNanos();
+            this.borrowCount = metrics.getBorrowCount();
+            this.backupSwitchCount = metrics.getBackupSwitchCount();
+            this.exhaustedCount = metrics.getExhaustedCount();
+            this.exhaustedWaitNanos = metrics.getExhaustedWaitNanos();
+        }
+
+        /**
+         * Generated IDs per second since the previous snapshot
+         *
+         * @param previous An earlier snapshot of the same metrics
+         * @return {@link double}
+         * @author Fable
+         * @since 2026/10/17 17:05
+         */
+        public double idsPerSecond(Snapshot previous) {
+            final long nanos = nanoTime - previous.nanoTime;
+            return nanos <= 0 ? 0D : (double) (idCount - previous.idCount) * TimeUnit.SECONDS.toNanos(1) / nanos;
+        }
+
+        /**
+         * Upper bound of the call latency percentile in nanoseconds, see {@link LatencyHistogram#percentile(long[], double)}
+         *
+         * @param percentile Percentile between 0 and 100
+         * @return {@link long}
+         * @author Fable
+         * @since 2026/10/17 17:06
+         */
+        public long latencyPercentileNanos(double percentile) {
+            return LatencyHistogram.percentile(latencyHistogram, percentile);
+        }
+
+        public long getNanoTime() {
+            return nanoTime;
+        }
+
+        public long getIdCount() {
+            return idCount;
+        }
+
+        public long getLockWaitCount() {
+            return lockWaitCount;
+        }
+
+        public long getLockWaitNanos() {
+            return lockWaitNanos;
+        }
+
+        public long getCasRetryCount() {
+            return casRetryCount;
+        }
+
+        public long[] getLatencyHistogram() {
+            return latencyHistogram.clone();
+        }
+
+        public long getRollbackCount() {
+            return rollbackCount;
+        }
+
+        public long getRollbackRejectedCount() {
+            return rollbackRejectedCount;
+        }
+
+        public long getRollbackWaitNanos() {
+            return rollbackWaitNanos;
+        }
+
+        public long getBorrowCount() {
+            return borrowCount;
+        }
+
+        public long getBackupSwitchCount() {
+            return backupSwitchCount;
+        }
+
+        public long getExhaustedCount() {
+            return exhaustedCount;
+        }
+
+        public long getExhaustedWaitNanos() {
+            return exhaustedWaitNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "idCount=" + idCount +
+                    ", lockWaitCount=" + lockWaitCount +
+                    ", lockWaitNanos=" + lockWaitNanos +
+                    ", casRetryCount=" + casRetryCount +
+                    ", latencyHistogram=" + Arrays.toString(latencyHistogram) +
+                    ", rollbackCount=" + rollbackCount +
+                    ", rollbackRejectedCount=" + rollbackRejectedCount +
+                    ", rollbackWaitNanos=" + rollbackWaitNanos +
+                    ", borrowCount=" + borrowCount +
+                    ", backupSwitchCount=" + backupSwitchCount +
+                    ", exhaustedCount=" + exhaustedCount +
+                    ", exhaustedWaitNanos=" + exhaustedWaitNanos +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package grey.fable.core;
+
+/**
+ * JMX view of {@link SnowflakeMetrics}, registered with {@link SnowflakeMetrics#registerMBean(String)}.
+ * The hot path attributes stay 0 unless the metrics were enabled with {@link SnowflakeBuilder#metrics(boolean)}.
+ *
+ * @author Fable
+ * @since 2026/10/17 16:55
+ */
+public interface SnowflakeMetricsMXBean {
+
+    boolean isEnabled();
+
+    long getIdCount();
+
+    long getLockWaitCount();
+
+    long getLockWaitNanos();
+
+    long getCasRetryCount();
+
+    long getLatencyP50Nanos();
+
+    long getLatencyP99Nanos();
+
+    long getLatencyP999Nanos();
+
+    long[] getLatencyHistogram();
+
+    long getRollbackCount();
+
+    long getRollbackRejectedCount();
+
+    long getRollbackWaitNanos();
+
+    long getBorrowCount();
+
+    long getBackupSwitchCount();
+
+    long getExhaustedCount();
+
+    long getExhaustedWaitNanos();
+}
@@ -0,0 +1,164 @@
+package grey.fable.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped Snowflake ID class. Every thread leases a block of sequence numbers of the current millisecond
+ * from the shared {@link LockFreeSnowflake} state and then generates IDs from its own block,
+ * so the common case does not write any shared memory. <br />
+ * 每个线程从共享状态中租用当前毫秒的一段序列号, 之后在线程本地生成 ID, 常规情况下不会写共享内存
+ * <p>
+ * The block size of a thread starts at 1 and doubles every time the thread uses up a whole block within
+ * one millisecond, up to the configured maximum, and halves when a block expires half unused. So short-lived
+ * (e.g. virtual) threads waste almost nothing, while busy threads quickly reach the maximum block size.
+ * Slots that are leased but not used before the clock passes the millisecond of the block are lost, see
+ * {@link #getWastedCount()}. A block leased for a millisecond ahead of the clock, after waiting for the next
+ * millisecond or when borrowing on rollback, stays usable until the clock passes it.
+ *
+ * @author Fable
+ * @since 2026/10/17 10:31
+ */
+public class StripedSnowflake extends LockFreeSnowflake {
+
+    /**
+     * Default maximum number of sequence numbers leased by a thread at once
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final int maxBlockSize;
+
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    /**
+     * Number of sequence numbers leased by threads
+     */
+    private final LongAdder leasedCount = new LongAdder();
+
+    /**
+     * Number of leased sequence numbers that expired unused
+     */
+    private final LongAdder wastedCount = new LongAdder();
+
+    public StripedSnowflake() {
+        this(builder());
+    }
+
+    public StripedSnowflake(long dataCenterId, long workerId) {
+        this(builder().dataCenterId(dataCenterId).workerId(workerId));
+    }
+
+    public StripedSnowflake(long dataCenterId, long workerId, int maxBlockSize) {
+        this(builder().dataCenterId(dataCenterId).workerId(workerId).blockSize(maxBlockSize));
+    }
+
+    StripedSnowflake(SnowflakeBuilder builder) {
+        super(builder);
+        this.maxBlockSize = (int) Assert.checkBetween(builder.blockSize, 1, layout.sequenceMask + 1);
+    }
+
+    /**
+     * Generate the nextId from the block leased by the current thread
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 10:33
+     */
+    @Override
+    long generateId() {
+        final Block block = blocks.get();
+        final long currentTimestamp = timeSource.currentTimeMillis() - layout.epoch;
+
+        // 块的时间戳可能领先于时钟 (等待下一毫秒或借用未来时间戳时租用), 这样的块仍然有效, 直到时钟越过它
+        if (block.next < block.end && (block.next >>> layout.sequenceBits) >= currentTimestamp) {
+            return toId(block.next++);
+        }
+        return toId(lease(block));
+    }
+
+    /**
+     * Lease a new block for the current thread, and account the remainder of the expired block as wasted
+     *
+     * @param block Block of the current thread
+     * @return Packed state of the first sequence number of the new block
+     * @author Fable
+     * @since 2026/10/17 10:35
+     */
+    private long lease(Block block) {
+        final long unused = block.end - block.next;
+        if (unused > 0) {
+            wastedCount.add(unused);
+            if (unused << 1 >= block.size) {
+                block.size = Math.max(1, block.size >>> 1);
+            }
+        } else if (block.end != 0) {
+            block.size = Math.min(maxBlockSize, block.size << 1);
+        }
+
+        final long start = reserve(block.size);
+        final int granted = granted(start, block.size);
+        leasedCount.add(granted);
+
+        block.next = start + 1;
+        block.end = start + granted;
+        return start;
+    }
+
+    /**
+     * Number of sequence numbers leased by threads so far
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 10:37
+     */
+    public long getLeasedCount() {
+        return leasedCount.sum();
+    }
+
+    /**
+     * Number of leased sequence numbers that expired unused. Blocks still held by threads are not counted.
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 10:37
+     */
+    public long getWastedCount() {
+        return wastedCount.sum();
+    }
+
+    /**
+     * Share of the leased sequence numbers that expired unused, between 0 and 1
+     *
+     * @return {@link double}
+     * @author Fable
+     * @since 2026/10/17 10:38
+     */
+    public double getWasteRatio() {
+        final long leased = getLeasedCount();
+        return 0 == leased ? 0D : (double) getWastedCount() / leased;
+    }
+
+    public int getMaxBlockSize() {
+        return maxBlockSize;
+    }
+
+    /**
+     * Sequence block leased by one thread, the bounds are packed states like in {@link LockFreeSnowflake}
+     */
+    private static final class Block {
+
+        /**
+         * Next unused packed state (inclusive)
+         */
+        private long next;
+
+        /**
+         * End of the block (exclusive)
+         */
+        private long end;
+
+        /**
+         * Size of the next lease
+         */
+        private int size = 1;
+    }
+}
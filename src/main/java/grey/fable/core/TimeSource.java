@@ -0,0 +1,138 @@
+package grey.fable.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Millisecond time source of {@link Snowflake}. <br />
+ * 雪花 ID 使用的毫秒时间源
+ * <ul>
+ *     <li> {@link #system()}: {@link System#currentTimeMillis()}, the default </li>
+ *     <li> {@link #cached()}: a millisecond clock ticked by a background daemon thread, reading it is a volatile read </li>
+ *     <li> {@link #monotonic()}: {@link System#nanoTime()} anchored to the wall clock once, it never goes backwards </li>
+ * </ul>
+ *
+ * @author Fable
+ * @since 2026/10/17 13:05
+ */
+@FunctionalInterface
+public interface TimeSource {
+
+    /**
+     * Current time in milliseconds since the epoch
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 13:06
+     */
+    long currentTimeMillis();
+
+    /**
+     * Nanoseconds until the next millisecond starts, used to park precisely while waiting for it
+     *
+     * @return {@link long}, or -1 if unknown
+     * @author Fable
+     * @since 2026/10/17 13:07
+     */
+    default long nanosToNextMillis() {
+        return -1L;
+    }
+
+    /**
+     * The system clock
+     *
+     * @return {@link TimeSource}
+     * @author Fable
+     * @since 2026/10/17 13:08
+     */
+    static TimeSource system() {
+        return System::currentTimeMillis;
+    }
+
+    /**
+     * The shared cached clock, its ticker thread is started on first use
+     *
+     * @return {@link TimeSource}
+     * @author Fable
+     * @since 2026/10/17 13:08
+     */
+    static TimeSource cached() {
+        return CachedTimeSource.INSTANCE;
+    }
+
+    /**
+     * A monotonic clock anchored to the wall clock now. Long running processes may drift slightly
+     * from the wall clock, since {@link System#nanoTime()} is not adjusted by NTP steps.
+     *
+     * @return {@link TimeSource}
+     * @author Fable
+     * @since 2026/10/17 13:09
+     */
+    static TimeSource monotonic() {
+        return new MonotonicTimeSource();
+    }
+
+    /**
+     * Time source ticked every millisecond by a daemon thread
+     */
+    final class CachedTimeSource implements TimeSource {
+
+        private static final CachedTimeSource INSTANCE = new CachedTimeSource();
+
+        private volatile long now = System.currentTimeMillis();
+
+        private CachedTimeSource() {
+            final Thread ticker = new Thread(this::tick, "fable-cached-clock");
+            ticker.setDaemon(true);
+            ticker.start();
+        }
+
+        private void tick() {
+            while (true) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                now = System.currentTimeMillis();
+            }
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return now;
+        }
+    }
+
+    /**
+     * Time source based on {@link System#nanoTime()}
+     */
+    final class MonotonicTimeSource implements TimeSource {
+
+        private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+        /**
+         * {@link System#nanoTime()} at the start of the anchor millisecond
+         */
+        private final long anchorNanos;
+
+        private final long anchorMillis;
+
+        private MonotonicTimeSource() {
+            // 等待墙上时钟跳变, 使锚点对齐到毫秒的开始
+            final long millis = System.currentTimeMillis();
+            long current;
+            while ((current = System.currentTimeMillis()) == millis) {
+                Thread.onSpinWait();
+            }
+            this.anchorNanos = System.nanoTime();
+            this.anchorMillis = current;
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return anchorMillis + (System.nanoTime() - anchorNanos) / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public long nanosToNextMillis() {
+            return NANOS_PER_MILLI - (System.nanoTime() - anchorNanos) % NANOS_PER_MILLI;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package grey.fable.core;
+
+import grey.fable.core.utils.IdCodec;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered ULID generator, no worker coordination is needed. A ULID is 128 bits: a 48-bit timestamp in
+ * milliseconds and 80 random bits, written as 26 Crockford Base32 characters that sort like the binary form. <br />
+ * 按时间有序的 ULID 生成器
+ * <p>
+ * To stay monotonic within a millisecond, the highest 16 random bits are used as a counter: seeded randomly with
+ * the highest bit clear at the start of every millisecond and incremented by every call within it, while the lower
+ * 64 bits stay random. When the counter overflows it carries into the timestamp. The timestamp and the counter are
+ * updated with a single CAS, the random bits come from {@link ThreadLocalRandom}, which never blocks but is not
+ * suitable for IDs that must be unguessable.
+ *
+ * @author Fable
+ * @since 2026/10/17 17:35
+ */
+public class UlidGenerator {
+
+    /**
+     * Length of the text form
+     */
+    public static final int LENGTH = 26;
+
+    /**
+     * Number of counter bits
+     */
+    private static final int COUNTER_BITS = 16;
+
+    private static final IdCodec BASE32 = IdCodec.CROCKFORD_BASE32;
+
+    /**
+     * Last used {@code timestamp << 16 | counter}, the most significant bits of the last ULID
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    private final TimeSource timeSource;
+
+    public UlidGenerator() {
+        this(TimeSource.system());
+    }
+
+    public UlidGenerator(TimeSource timeSource) {
+        Assert.isTrue(null != timeSource, "The time source must not be null.");
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Generate the next ULID in its text form
+     *
+     * @return {@link String}
+     * @author Fable
+     * @since 2026/10/17 17:36
+     */
+    public String next() {
+        final char[] chars = new char[LENGTH];
+        encode(nextMostSignificantBits(), nextLeastSignificantBits(), chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Generate the next ULID into the array without allocating, as {@code [msb, lsb]}
+     *
+     * @param dst    Target array
+     * @param offset Offset of the most significant bits
+     * @author Fable
+     * @since 2026/10/17 17:37
+     */
+    public void next(long[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 2, dst.length);
+        dst[offset] = nextMostSignificantBits();
+        dst[offset + 1] = nextLeastSignificantBits();
+    }
+
+    /**
+     * Generate the next ULID into the buffer as 16 big-endian bytes at its position, and advance the position
+     *
+     * @param dst Target buffer, heap or direct
+     * @author Fable
+     * @since 2026/10/17 17:38
+     */
+    public void next(ByteBuffer dst) {
+        final int position = dst.position();
+        Objects.checkFromIndexSize(position, 2 * Long.BYTES, dst.limit());
+        dst.putLong(position, nextMostSignificantBits());
+        dst.putLong(position + Long.BYTES, nextLeastSignificantBits());
+        dst.position(position + 2 * Long.BYTES);
+    }
+
+    /**
+     * Generate the next ULID into the char array as text without allocating
+     *
+     * @param dst    Target array
+     * @param offset Start offset in the array
+     * @return The number of characters written, always {@link #LENGTH}
+     * @author Fable
+     * @since 2026/10/17 17:39
+     */
+    public int next(char[] dst, int offset) {
+        return encode(nextMostSignificantBits(), nextLeastSignificantBits(), dst, offset);
+    }
+
+    /**
+     * The most significant bits of the next ULID: timestamp and counter
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 17:40
+     */
+    public long nextMostSignificantBits() {
+        for (; ; ) {
+            final long current = state.get();
+            // 新的毫秒以最高位为 0 的随机数作为计数器的初始值, 同一毫秒内 (或时钟回拨时) 在上一个值的基础上加 1
+            final long seeded = timeSource.currentTimeMillis() << COUNTER_BITS
+                    | ThreadLocalRandom.current().nextInt(1 << (COUNTER_BITS - 1));
+            final long next = seeded >>> COUNTER_BITS > current >>> COUNTER_BITS ? seeded : current + 1;
+            if (state.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * The random least significant bits
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 17:40
+     */
+    public static long nextLeastSignificantBits() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * The timestamp (milliseconds since 1970) of a ULID
+     *
+     * @param msb Most significant bits
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 17:41
+     */
+    public static long timestampOf(long msb) {
+        return msb >>> COUNTER_BITS;
+    }
+
+    /**
+     * Encode a ULID into the char array as text
+     *
+     * @param msb    Most significant bits
+     * @param lsb    Least significant bits
+     * @param dst    Target array
+     * @param offset Start offset in the array
+     * @return The number of characters written, always {@link #LENGTH}
+     * @author Fable
+     * @since 2026/10/17 17:42
+     */
+    public static int encode(long msb, long lsb, char[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, LENGTH, dst.length);
+        // 128 位从低位开始每 5 位一个字符, 第一个字符只有 3 位
+        for (int i = LENGTH - 1, shift = 0; i >= 0; i--, shift += 5) {
+            final long bits;
+            if (shift >= Long.SIZE) {
+                bits = msb >>> (shift - Long.SIZE);
+            } else if (shift + 5 <= Long.SIZE) {
+                bits = lsb >>> shift;
+            } else {
+                bits = (lsb >>> shift) | (msb << (Long.SIZE - shift));
+            }
+            dst[offset + i] = BASE32.digit((int) (bits & 31));
+        }
+        return LENGTH;
+    }
+
+    /**
+     * Decode a ULID from its text form, case-insensitive
+     *
+     * @param cs     {@link CharSequence} of {@link #LENGTH} characters
+     * @param dst    Target array of {@code [msb, lsb]}
+     * @param offset Offset of the most significant bits
+     * @author Fable
+     * @since 2026/10/17 17:43
+     */
+    public static void decode(CharSequence cs, long[] dst, int offset) {
+        Assert.isTrue(LENGTH == cs.length(), "The length of a ULID must be %d: %s", LENGTH, cs);
+        Objects.checkFromIndexSize(offset, 2, dst.length);
+
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            final int value = BASE32.valueOf(cs.charAt(i));
+            if (value < 0 || (0 == i && value > 7)) {
+                throw new IllegalArgumentException(String.format("Invalid ULID character at %d: %s", i, cs));
+            }
+            // 128 位整体左移 5 位后加上新字符
+            msb = (msb << 5) | (lsb >>> (Long.SIZE - 5));
+            lsb = (lsb << 5) | value;
+        }
+        dst[offset] = msb;
+        dst[offset + 1] = lsb;
+    }
+}
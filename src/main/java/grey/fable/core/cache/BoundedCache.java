@@ -0,0 +1,560 @@
+package grey.fable.core.cache;
+
+import grey.fable.core.map.MapUtil;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link Cache} on a {@link java.util.concurrent.ConcurrentHashMap} with segmented LRU eviction. <br />
+ * 基于 ConcurrentHashMap 与分段 LRU 淘汰的有界缓存
+ * <p>
+ * Reads only touch the map and append the entry to a lossy {@link ReadBuffer}, they never take a lock. Writes and
+ * the maintenance (applying the buffered reads, expiring, evicting) run under one eviction lock. New entries enter
+ * the probation segment; an entry read again is promoted to the protected segment, which holds up to 80% of the
+ * limit and demotes its least recently used entries back to probation. Eviction takes the least recently used entry
+ * of probation first, so a scan of entries read once cannot flush the entries that are read repeatedly.
+ * <p>
+ * Expired entries are never returned. They are removed by the maintenance from the head of the write order (expire
+ * after write) or of the segments (expire after access), or when a read finds them expired.
+ * <p>
+ * A put or invalidate of a key that is being loaded supersedes the load: the loaded value is still returned to the
+ * callers of {@link #get(Object, Function)}, but it is not cached, so it cannot overwrite the newer state.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author Fable
+ * @since 2026/10/17 21:42
+ */
+final class BoundedCache<K, V> implements Cache<K, V> {
+
+    /**
+     * Share of the limit held by the protected segment
+     */
+    private static final double PROTECTED_RATIO = 0.8D;
+
+    private final Map<K, Node<K, V>> data;
+
+    /**
+     * Loads in progress, see {@link #get(Object, Function)}
+     */
+    private final Map<K, Load<V>> loads;
+
+    private final long maximum;
+
+    private final long maximumProtected;
+
+    private final Weigher<? super K, ? super V> weigher;
+
+    private final long expireAfterWriteNanos;
+
+    private final long expireAfterAccessNanos;
+
+    private final boolean isExpiring;
+
+    private final boolean isRecordingStats;
+
+    private final LongSupplier ticker;
+
+    private final CacheStats.Counter stats = new CacheStats.Counter();
+
+    private final ReadBuffer<Node<K, V>> readBuffer = new ReadBuffer<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // 以下字段只在持有淘汰锁时访问
+
+    private final Segment<K, V> probation = new Segment<>();
+
+    private final Segment<K, V> protectedSegment = new Segment<>();
+
+    private Node<K, V> writeHead;
+
+    private Node<K, V> writeTail;
+
+    private volatile long weightedSize;
+
+    BoundedCache(CacheBuilder<K, V> builder) {
+        this.data = MapUtil.concurrentHashMap(builder.initialCapacity);
+        this.loads = MapUtil.concurrentHashMap();
+        this.maximum = CacheBuilder.UNSET != builder.maximumSize ? builder.maximumSize : builder.maximumWeight;
+        this.maximumProtected = (long) (maximum * PROTECTED_RATIO);
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.isExpiring = CacheBuilder.UNSET != expireAfterWriteNanos || CacheBuilder.UNSET != expireAfterAccessNanos;
+        this.isRecordingStats = builder.isRecordingStats;
+        this.ticker = builder.ticker;
+    }
+
+    @Override
+    public V getIfPresent(K key) {
+        final V value = getValue(key);
+        if (isRecordingStats) {
+            if (null == value) {
+                stats.recordMiss();
+            } else {
+                stats.recordHit();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getValue(key);
+        if (null != value) {
+            if (isRecordingStats) {
+                stats.recordHit();
+            }
+            return value;
+        }
+
+        // 同一个键的并发加载合并为一次, 其他调用者等待加载结果
+        final Load<V> load = new Load<>();
+        final Load<V> running = loads.putIfAbsent(key, load);
+        if (null != running) {
+            if (running.owner == Thread.currentThread()) {
+                throw new IllegalStateException("Recursive load of the key: " + key);
+            }
+            if (isRecordingStats) {
+                stats.recordHit();
+            }
+            return running.await();
+        }
+
+        try {
+            // 占位之前其他线程可能刚完成加载
+            value = getValue(key);
+            if (null != value) {
+                if (isRecordingStats) {
+                    stats.recordHit();
+                }
+            } else {
+                value = load(key, loader, load);
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    private V load(K key, Function<? super K, ? extends V> loader, Load<V> load) {
+        if (isRecordingStats) {
+            stats.recordMiss();
+        }
+        final long start = System.nanoTime();
+        final V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            if (isRecordingStats) {
+                stats.recordLoadFailure(System.nanoTime() - start);
+            }
+            throw e;
+        }
+        if (isRecordingStats) {
+            stats.recordLoadSuccess(System.nanoTime() - start);
+        }
+        if (null != value) {
+            write(key, value, load);
+        }
+        return value;
+    }
+
+    /**
+     * Read the value without recording stats
+     */
+    private V getValue(K key) {
+        checkNotNull(key, "key");
+        final Node<K, V> node = data.get(key);
+        if (null == node) {
+            return null;
+        }
+
+        final V value;
+        if (isExpiring) {
+            final long now = ticker.getAsLong();
+            // 过期的条目同样放入读缓冲区, 由维护任务移除
+            value = isExpired(node, now) ? null : node.value;
+            if (null != value && CacheBuilder.UNSET != expireAfterAccessNanos) {
+                node.accessNanos = now;
+            }
+        } else {
+            value = node.value;
+        }
+        afterRead(node);
+        return value;
+    }
+
+    private void afterRead(Node<K, V> node) {
+        final int result = readBuffer.offer(node);
+        if ((ReadBuffer.DRAIN == result || ReadBuffer.FULL == result) && evictionLock.tryLock()) {
+            try {
+                maintain();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        write(key, value, null);
+    }
+
+    /**
+     * Store the value of a put, or of a load unless the load was superseded
+     *
+     * @param load The load of the value, null for a put
+     */
+    private void write(K key, V value, Load<V> load) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        final int weight = null == weigher ? 1 : weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("The weight must not be negative: " + weight);
+        }
+
+        final Node<K, V> node = new Node<>(key, value, weight, isExpiring ? ticker.getAsLong() : 0L);
+        evictionLock.lock();
+        try {
+            if (null == load) {
+                supersedeLoad(key);
+            } else if (load.isSuperseded) {
+                // 加载期间键被写入或失效, 加载结果已过时, 不放入缓存
+                return;
+            }
+            final Node<K, V> previous = data.put(key, node);
+            if (null != previous) {
+                unlink(previous);
+            }
+            link(node);
+            maintain();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(K key) {
+        checkNotNull(key, "key");
+        evictionLock.lock();
+        try {
+            supersedeLoad(key);
+            final Node<K, V> node = data.remove(key);
+            if (null != node) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            for (Load<V> load : loads.values()) {
+                load.isSuperseded = true;
+            }
+            readBuffer.drain(this::onRead);
+            data.clear();
+            while (null != probation.head) {
+                unlink(probation.head);
+            }
+            while (null != protectedSegment.head) {
+                unlink(protectedSegment.head);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public long estimatedSize() {
+        return data.size();
+    }
+
+    /**
+     * Total weight of the entries, the number of entries without a weigher
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 21:43
+     */
+    long weightedSize() {
+        return weightedSize;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return stats.snapshot();
+    }
+
+    @Override
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintain();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Apply the buffered reads, remove expired entries and evict over the limit, under the eviction lock
+     */
+    private void maintain() {
+        readBuffer.drain(this::onRead);
+        if (isExpiring) {
+            expire(ticker.getAsLong());
+        }
+        evict();
+    }
+
+    private void onRead(Node<K, V> node) {
+        if (Node.DEAD == node.segment) {
+            return;
+        }
+        if (isExpiring && isExpired(node, ticker.getAsLong())) {
+            remove(node);
+            return;
+        }
+        if (Node.PROBATION == node.segment) {
+            // 再次被访问的条目晋升到保护段, 保护段超出份额时把最久未用的降回试用段
+            probation.unlink(node);
+            protectedSegment.linkLast(node);
+            node.segment = Node.PROTECTED;
+            while (protectedSegment.weight > maximumProtected && protectedSegment.head != node) {
+                final Node<K, V> demoted = protectedSegment.head;
+                protectedSegment.unlink(demoted);
+                probation.linkLast(demoted);
+                demoted.segment = Node.PROBATION;
+            }
+        } else {
+            protectedSegment.unlink(node);
+            protectedSegment.linkLast(node);
+        }
+    }
+
+    private void expire(long now) {
+        if (CacheBuilder.UNSET != expireAfterWriteNanos) {
+            while (null != writeHead && isExpired(writeHead, now)) {
+                remove(writeHead);
+            }
+        }
+        if (CacheBuilder.UNSET != expireAfterAccessNanos) {
+            // 段内按访问顺序排列, 从头部开始直到遇到未过期的条目
+            while (null != probation.head && isExpired(probation.head, now)) {
+                remove(probation.head);
+            }
+            while (null != protectedSegment.head && isExpired(protectedSegment.head, now)) {
+                remove(protectedSegment.head);
+            }
+        }
+    }
+
+    private void evict() {
+        while (weightedSize > maximum) {
+            final Node<K, V> victim = null != probation.head ? probation.head : protectedSegment.head;
+            if (null == victim) {
+                return;
+            }
+            remove(victim);
+        }
+    }
+
+    /**
+     * Remove an entry by eviction or expiration
+     */
+    private void remove(Node<K, V> node) {
+        data.remove(node.key, node);
+        unlink(node);
+        if (isRecordingStats) {
+            stats.recordEviction(node.weight);
+        }
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (CacheBuilder.UNSET != expireAfterWriteNanos && now - node.writeNanos >= expireAfterWriteNanos)
+                || (CacheBuilder.UNSET != expireAfterAccessNanos && now - node.accessNanos >= expireAfterAccessNanos);
+    }
+
+    /**
+     * Add a new entry to the probation segment and the write order
+     */
+    private void link(Node<K, V> node) {
+        probation.linkLast(node);
+        node.segment = Node.PROBATION;
+        if (CacheBuilder.UNSET != expireAfterWriteNanos) {
+            node.writePrev = writeTail;
+            if (null == writeTail) {
+                writeHead = node;
+            } else {
+                writeTail.writeNext = node;
+            }
+            writeTail = node;
+        }
+        weightedSize += node.weight;
+    }
+
+    /**
+     * Remove an entry from its segment and the write order, the buffered reads of it are then ignored
+     */
+    private void unlink(Node<K, V> node) {
+        if (Node.DEAD == node.segment) {
+            return;
+        }
+        (Node.PROBATION == node.segment ? probation : protectedSegment).unlink(node);
+        node.segment = Node.DEAD;
+        if (CacheBuilder.UNSET != expireAfterWriteNanos) {
+            if (null == node.writePrev) {
+                writeHead = node.writeNext;
+            } else {
+                node.writePrev.writeNext = node.writeNext;
+            }
+            if (null == node.writeNext) {
+                writeTail = node.writePrev;
+            } else {
+                node.writeNext.writePrev = node.writePrev;
+            }
+            node.writePrev = null;
+            node.writeNext = null;
+        }
+        weightedSize -= node.weight;
+    }
+
+    /**
+     * Keep the running load of the key, if any, from caching its value, under the eviction lock
+     */
+    private void supersedeLoad(K key) {
+        final Load<V> load = loads.get(key);
+        if (null != load) {
+            load.isSuperseded = true;
+        }
+    }
+
+    private static void checkNotNull(Object object, String name) {
+        if (null == object) {
+            throw new IllegalArgumentException("The " + name + " must not be null.");
+        }
+    }
+
+    /**
+     * Cache entry, the links and the segment are only accessed under the eviction lock
+     */
+    static final class Node<K, V> {
+
+        static final int PROBATION = 0;
+
+        static final int PROTECTED = 1;
+
+        static final int DEAD = 2;
+
+        final K key;
+
+        final V value;
+
+        final int weight;
+
+        final long writeNanos;
+
+        volatile long accessNanos;
+
+        int segment;
+
+        Node<K, V> prev;
+
+        Node<K, V> next;
+
+        Node<K, V> writePrev;
+
+        Node<K, V> writeNext;
+
+        Node(K key, V value, int weight, long now) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeNanos = now;
+            this.accessNanos = now;
+        }
+    }
+
+    /**
+     * Access ordered list of entries, least recently used at the head
+     */
+    static final class Segment<K, V> {
+
+        Node<K, V> head;
+
+        Node<K, V> tail;
+
+        long weight;
+
+        void linkLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (null == tail) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            weight += node.weight;
+        }
+
+        void unlink(Node<K, V> node) {
+            if (null == node.prev) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (null == node.next) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            weight -= node.weight;
+        }
+    }
+
+    /**
+     * A load in progress that other callers of the same key wait for
+     */
+    private static final class Load<V> extends CompletableFuture<V> {
+
+        private final Thread owner = Thread.currentThread();
+
+        /**
+         * Whether the key was put or invalidated during the load, only accessed under the eviction lock
+         */
+        private boolean isSuperseded;
+
+        V await() {
+            try {
+                return join();
+            } catch (CompletionException | CancellationException e) {
+                final Throwable cause = null == e.getCause() ? e : e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
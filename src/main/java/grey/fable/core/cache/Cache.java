@@ -0,0 +1,112 @@
+package grey.fable.core.cache;
+
+import java.util.function.Function;
+
+/**
+ * Bounded concurrent cache. Entries are evicted when the size or weight limit is exceeded, and expire after write
+ * or after access when configured. Reads never block, null keys and values are not allowed. Built by
+ * {@link CacheBuilder}. <br />
+ * 有界并发缓存
+ * <pre>
+ *     Cache&lt;Long, Order&gt; orders = Cache.&lt;Long, Order&gt;builder()
+ *             .maximumSize(10_000)
+ *             .expireAfterWrite(Duration.ofMinutes(5))
+ *             .recordStats()
+ *             .build();
+ *     Order order = orders.get(id, repository::findById);
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author Fable
+ * @since 2026/10/17 21:20
+ */
+public interface Cache<K, V> {
+
+    /**
+     * Create a {@link CacheBuilder}
+     *
+     * @return {@link CacheBuilder}
+     * @author Fable
+     * @since 2026/10/17 21:21
+     */
+    static <K, V> CacheBuilder<K, V> builder() {
+        return new CacheBuilder<>();
+    }
+
+    /**
+     * Get the value of the key without loading it
+     *
+     * @param key Key
+     * @return The value, or null if absent or expired
+     * @author Fable
+     * @since 2026/10/17 21:22
+     */
+    V getIfPresent(K key);
+
+    /**
+     * Get the value of the key, or load and cache it if absent. Concurrent calls for the same absent key are
+     * coalesced: only one of them runs the loader, the others wait for its result. The loader must not load the
+     * same key of this cache again.
+     *
+     * @param key    Key
+     * @param loader Loads the value, a null result is returned but not cached
+     * @return The current or loaded value
+     * @author Fable
+     * @since 2026/10/17 21:23
+     */
+    V get(K key, Function<? super K, ? extends V> loader);
+
+    /**
+     * Put the value of the key, replacing the current one
+     *
+     * @param key   Key
+     * @param value Value
+     * @author Fable
+     * @since 2026/10/17 21:24
+     */
+    void put(K key, V value);
+
+    /**
+     * Remove the key
+     *
+     * @param key Key
+     * @author Fable
+     * @since 2026/10/17 21:24
+     */
+    void invalidate(K key);
+
+    /**
+     * Remove all entries
+     *
+     * @author Fable
+     * @since 2026/10/17 21:25
+     */
+    void invalidateAll();
+
+    /**
+     * Approximate number of entries, may include expired entries not removed yet
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 21:25
+     */
+    long estimatedSize();
+
+    /**
+     * Statistics of the cache, all zero unless enabled with {@link CacheBuilder#recordStats()}
+     *
+     * @return {@link CacheStats}
+     * @author Fable
+     * @since 2026/10/17 21:26
+     */
+    CacheStats stats();
+
+    /**
+     * Run the pending maintenance now: apply the buffered reads, remove expired entries and evict
+     *
+     * @author Fable
+     * @since 2026/10/17 21:26
+     */
+    void cleanUp();
+}
@@ -0,0 +1,166 @@
+package grey.fable.core.cache;
+
+import grey.fable.core.Assert;
+import grey.fable.core.builder.Builder;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link Cache} builder class. A limit is required: either {@link #maximumSize(long)}, or
+ * {@link #maximumWeight(long)} with a {@link #weigher(Weigher)}. <br />
+ * 缓存构建器
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author Fable
+ * @since 2026/10/17 21:36
+ */
+@SuppressWarnings("UnusedReturnValue")
+public final class CacheBuilder<K, V> implements Builder<Cache<K, V>> {
+
+    static final long UNSET = -1L;
+
+    long maximumSize = UNSET;
+
+    long maximumWeight = UNSET;
+
+    Weigher<? super K, ? super V> weigher;
+
+    long expireAfterWriteNanos = UNSET;
+
+    long expireAfterAccessNanos = UNSET;
+
+    int initialCapacity = 16;
+
+    boolean isRecordingStats;
+
+    LongSupplier ticker = System::nanoTime;
+
+    CacheBuilder() {
+    }
+
+    /**
+     * Limit the number of entries
+     *
+     * @param maximumSize Maximum number of entries, 0 caches nothing
+     * @return {@link CacheBuilder}
+     * @author Fable
+     * @since 2026/10/17 21:37
+     */
+    public CacheBuilder<K, V> maximumSize(long maximumSize) {
+        Assert.isTrue(maximumSize >= 0, "The maximum size must not be negative: %d", maximumSize);
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Limit the total weight of the entries, requires a {@link #weigher(Weigher)}
+     *
+     * @param maximumWeight Maximum total weight, 0 caches nothing
+     * @return {@link CacheBuilder}
+     * @author Fable
+     * @since 2026/10/17 21:37
+     */
+    public CacheBuilder<K, V> maximumWeight(long maximumWeight) {
+        Assert.isTrue(maximumWeight >= 0, "The maximum weight must not be negative: %d", maximumWeight);
+        this.maximumWeight = maximumWeight;
+        return this;
+    }
+
+    /**
+     * Set the {@link Weigher} of the entries, see {@link #maximumWeight(long)}
+     *
+     * @param weigher {@link Weigher}
+     * @return {@link CacheBuilder}
+     * @author Fable
+     * @since 2026/10/17 21:38
+     */
+    public CacheBuilder<K, V> weigher(Weigher<? super K, ? super V> weigher) {
+        this.weigher = weigher;
+        return this;
+    }
+
+    /**
+     * Expire an entry the given time after it was put
+     *
+     * @param duration {@link Duration}, positive
+     * @return {@link CacheBuilder}
+     * @author Fable
+     * @since 2026/10/17 21:38
+     */
+    public CacheBuilder<K, V> expireAfterWrite(Duration duration) {
+        this.expireAfterWriteNanos = toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Expire an entry the given time after it was last put or read
+     *
+     * @param duration {@link Duration}, positive
+     * @return {@link CacheBuilder}
+     * @author Fable
+     * @since 2026/10/17 21:39
+     */
+    public CacheBuilder<K, V> expireAfterAccess(Duration duration) {
+        this.expireAfterAccessNanos = toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Set the initial capacity of the underlying map
+     *
+     * @param initialCapacity Initial capacity
+     * @return {@link CacheBuilder}
+     * @author Fable
+     * @since 2026/10/17 21:39
+     */
+    public CacheBuilder<K, V> initialCapacity(int initialCapacity) {
+        Assert.isTrue(initialCapacity >= 0, "The initial capacity must not be negative: %d", initialCapacity);
+        this.initialCapacity = initialCapacity;
+        return this;
+    }
+
+    /**
+     * Record the {@link CacheStats}, a cache without stats only checks a final boolean per operation
+     *
+     * @return {@link CacheBuilder}
+     * @author Fable
+     * @since 2026/10/17 21:40
+     */
+    public CacheBuilder<K, V> recordStats() {
+        this.isRecordingStats = true;
+        return this;
+    }
+
+    /**
+     * Set the nanosecond clock of the expiration, {@link System#nanoTime()} by default
+     *
+     * @param ticker Nanosecond clock
+     * @return {@link CacheBuilder}
+     * @author Fable
+     * @since 2026/10/17 21:40
+     */
+    public CacheBuilder<K, V> ticker(LongSupplier ticker) {
+        Assert.isTrue(null != ticker, "The ticker must not be null.");
+        this.ticker = ticker;
+        return this;
+    }
+
+    @Override
+    public Cache<K, V> build() {
+        Assert.isTrue(UNSET == maximumSize || UNSET == maximumWeight,
+                "The maximum size and the maximum weight must not both be set.");
+        Assert.isTrue(UNSET != maximumSize || UNSET != maximumWeight,
+                "The maximum size or the maximum weight must be set.");
+        Assert.isTrue((UNSET != maximumWeight) == (null != weigher),
+                "A weigher must be set together with the maximum weight.");
+        return new BoundedCache<>(this);
+    }
+
+    private static long toNanos(Duration duration) {
+        Assert.isTrue(null != duration && !duration.isNegative() && !duration.isZero(),
+                "The duration must be positive: %s", duration);
+        return duration.toNanos();
+    }
+}
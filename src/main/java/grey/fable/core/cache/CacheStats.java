@@ -0,0 +1,170 @@
+package grey.fable.core.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Immutable snapshot of the statistics of a {@link Cache}. <br />
+ * 缓存统计快照
+ * <p>
+ * A lookup that finds a valid entry is a hit, otherwise a miss. A caller of {@link Cache#get(Object, java.util.function.Function)}
+ * that waits for the load of another caller counts as a hit, only the loading caller counts a miss and a load.
+ *
+ * @author Fable
+ * @since 2026/10/17 21:28
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long loadSuccessCount;
+
+    private final long loadFailureCount;
+
+    private final long totalLoadNanos;
+
+    private final long evictionCount;
+
+    private final long evictionWeight;
+
+    private CacheStats(Counter counter) {
+        this.hitCount = counter.hitCount.sum();
+        this.missCount = counter.missCount.sum();
+        this.loadSuccessCount = counter.loadSuccessCount.sum();
+        this.loadFailureCount = counter.loadFailureCount.sum();
+        this.totalLoadNanos = counter.totalLoadNanos.sum();
+        this.evictionCount = counter.evictionCount.sum();
+        this.evictionWeight = counter.evictionWeight.sum();
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Ratio of hits to requests
+     *
+     * @return Between 0 and 1, 1 if there was no request
+     * @author Fable
+     * @since 2026/10/17 21:29
+     */
+    public double getHitRate() {
+        final long requestCount = getRequestCount();
+        return 0 == requestCount ? 1D : (double) hitCount / requestCount;
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    /**
+     * Number of loads that threw an exception
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 21:29
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    public long getTotalLoadNanos() {
+        return totalLoadNanos;
+    }
+
+    /**
+     * Average nanoseconds of a load, successful or not
+     *
+     * @return {@link double}, 0 if there was no load
+     * @author Fable
+     * @since 2026/10/17 21:30
+     */
+    public double getAverageLoadNanos() {
+        final long loadCount = loadSuccessCount + loadFailureCount;
+        return 0 == loadCount ? 0D : (double) totalLoadNanos / loadCount;
+    }
+
+    /**
+     * Number of entries evicted by the size or weight limit or by expiration, not counting explicit removals
+     *
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 21:30
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getEvictionWeight() {
+        return evictionWeight;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", loadSuccessCount=" + loadSuccessCount +
+                ", loadFailureCount=" + loadFailureCount +
+                ", totalLoadNanos=" + totalLoadNanos +
+                ", evictionCount=" + evictionCount +
+                ", evictionWeight=" + evictionWeight +
+                '}';
+    }
+
+    /**
+     * Counters behind the snapshots, only updated when stats are enabled
+     */
+    static final class Counter {
+
+        private final LongAdder hitCount = new LongAdder();
+
+        private final LongAdder missCount = new LongAdder();
+
+        private final LongAdder loadSuccessCount = new LongAdder();
+
+        private final LongAdder loadFailureCount = new LongAdder();
+
+        private final LongAdder totalLoadNanos = new LongAdder();
+
+        private final LongAdder evictionCount = new LongAdder();
+
+        private final LongAdder evictionWeight = new LongAdder();
+
+        void recordHit() {
+            hitCount.increment();
+        }
+
+        void recordMiss() {
+            missCount.increment();
+        }
+
+        void recordLoadSuccess(long nanos) {
+            loadSuccessCount.increment();
+            totalLoadNanos.add(nanos);
+        }
+
+        void recordLoadFailure(long nanos) {
+            loadFailureCount.increment();
+            totalLoadNanos.add(nanos);
+        }
+
+        void recordEviction(int weight) {
+            evictionCount.increment();
+            evictionWeight.add(weight);
+        }
+
+        CacheStats snapshot() {
+            return new CacheStats(this);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package grey.fable.core.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Lossy striped buffer of cache reads. Readers append to the stripe of their thread with one CAS and never wait:
+ * when the stripe is full or contended the read is dropped, which only makes the eviction order slightly less
+ * precise. The buffered reads are applied in batches by {@link #drain(Consumer)} under the eviction lock, so the
+ * bookkeeping of reads is amortized instead of locking per read. <br />
+ * 有损的分段读缓冲区
+ *
+ * @param <E> Element type
+ * @author Fable
+ * @since 2026/10/17 21:32
+ */
+final class ReadBuffer<E> {
+
+    /**
+     * The read was buffered
+     */
+    static final int SUCCESS = 0;
+
+    /**
+     * The read was buffered and the stripe is half full, the caller should try to drain
+     */
+    static final int DRAIN = 1;
+
+    /**
+     * The read was dropped because the stripe is full
+     */
+    static final int FULL = 2;
+
+    /**
+     * The read was dropped because another reader won the CAS
+     */
+    static final int CONTENDED = 3;
+
+    private static final int STRIPE_SIZE = 16;
+
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe<E>[] stripes;
+
+    private final int stripeMask;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ReadBuffer() {
+        final int count = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.stripeMask = count - 1;
+    }
+
+    /**
+     * Append a read to the stripe of the current thread
+     *
+     * @param element Element
+     * @return {@link #SUCCESS}, {@link #DRAIN}, {@link #FULL} or {@link #CONTENDED}
+     * @author Fable
+     * @since 2026/10/17 21:33
+     */
+    @SuppressWarnings("deprecation")
+    int offer(E element) {
+        // 按线程 ID 散列到固定的分段, 同一线程总是写同一分段
+        final int hash = (int) Thread.currentThread().getId() * 0x9E3779B9;
+        final Stripe<E> stripe = stripes[(hash ^ (hash >>> 16)) & stripeMask];
+        final long head = stripe.readCounter.get();
+        final long tail = stripe.writeCounter.get();
+        final long size = tail - head;
+        if (size >= STRIPE_SIZE) {
+            return FULL;
+        }
+        if (!stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+            return CONTENDED;
+        }
+        stripe.buffer.lazySet((int) (tail & STRIPE_MASK), element);
+        return size + 1 >= STRIPE_SIZE / 2 ? DRAIN : SUCCESS;
+    }
+
+    /**
+     * Apply the buffered reads, must be called under the eviction lock
+     *
+     * @param consumer Applies a read
+     * @author Fable
+     * @since 2026/10/17 21:34
+     */
+    void drain(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            long head = stripe.readCounter.get();
+            final long tail = stripe.writeCounter.get();
+            for (; head < tail; head++) {
+                final int index = (int) (head & STRIPE_MASK);
+                final E element = stripe.buffer.get(index);
+                if (null == element) {
+                    // 写入者已占位但还未发布元素, 下次再处理
+                    break;
+                }
+                stripe.buffer.lazySet(index, null);
+                consumer.accept(element);
+            }
+            stripe.readCounter.lazySet(head);
+        }
+    }
+
+    private static final class Stripe<E> {
+
+        private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+
+        private final AtomicLong readCounter = new AtomicLong();
+
+        private final AtomicLong writeCounter = new AtomicLong();
+    }
+}
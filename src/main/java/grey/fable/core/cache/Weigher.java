@@ -0,0 +1,25 @@
+package grey.fable.core.cache;
+
+/**
+ * Weight of a cache entry, see {@link CacheBuilder#maximumWeight(long)}. <br />
+ * 缓存条目的权重
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author Fable
+ * @since 2026/10/17 21:27
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * Weigh an entry, called once when it is put
+     *
+     * @param key   Key
+     * @param value Value
+     * @return The weight, must not be negative
+     * @author Fable
+     * @since 2026/10/17 21:27
+     */
+    int weigh(K key, V value);
+}
@@ -0,0 +1,294 @@
+package grey.fable.core.map;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Thread-safe map from a key to a list of values, replacing {@code ConcurrentHashMap<K, List<V>>} whose lists are
+ * mutated outside the lock of the map. The values of a key are an immutable array that is copied on every write
+ * inside {@link ConcurrentHashMap#compute}, so writes to different keys only contend when they share a bin of the
+ * table, and reads never lock: {@link #get(Object)} returns a snapshot that later writes do not change.
+ * Copying suits keys with up to a few hundred values that are read more often than written.
+ * Null keys and values are not allowed. <br />
+ * 并发多值 Map, 每个键的值列表写时复制
+ * <pre>
+ *     ConcurrentMultimap&lt;String, Listener&gt; listeners = MapUtil.concurrentMultimap();
+ *     listeners.put("order.created", listener);
+ *     for (Listener listener : listeners.get("order.created")) {
+ *         listener.onEvent(event);
+ *     }
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author Fable
+ * @since 2026/10/17 22:40
+ */
+public class ConcurrentMultimap<K, V> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final Map<K, Object[]> map;
+
+    /**
+     * Number of values of all keys
+     */
+    private final LongAdder size = new LongAdder();
+
+    public ConcurrentMultimap() {
+        this.map = MapUtil.concurrentHashMap();
+    }
+
+    /**
+     * Create a multimap that holds the expected number of keys without resizing
+     *
+     * @param expectedKeys Expected number of keys
+     */
+    public ConcurrentMultimap(int expectedKeys) {
+        this.map = MapUtil.concurrentHashMapWithExpectedSize(expectedKeys);
+    }
+
+    /**
+     * Get the values of the key
+     *
+     * @param key Key
+     * @return Immutable snapshot of the values in insertion order, empty if absent
+     * @author Fable
+     * @since 2026/10/17 22:41
+     */
+    public List<V> get(K key) {
+        final Object[] values = map.get(key);
+        return null == values ? Collections.emptyList() : new Snapshot<>(values);
+    }
+
+    public boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    public boolean containsEntry(K key, V value) {
+        return indexOf(map.get(key), value) >= 0;
+    }
+
+    /**
+     * Append a value to the values of the key
+     *
+     * @param key   Key
+     * @param value Value
+     * @author Fable
+     * @since 2026/10/17 22:42
+     */
+    public void put(K key, V value) {
+        checkValue(value);
+        map.compute(key, (k, values) -> {
+            size.increment();
+            if (null == values) {
+                return new Object[]{value};
+            }
+            final Object[] result = Arrays.copyOf(values, values.length + 1);
+            result[values.length] = value;
+            return result;
+        });
+    }
+
+    /**
+     * Append values to the values of the key with a single copy
+     *
+     * @param key    Key
+     * @param values Values
+     * @author Fable
+     * @since 2026/10/17 22:43
+     */
+    public void putAll(K key, Collection<? extends V> values) {
+        final Object[] added = values.toArray();
+        if (0 == added.length) {
+            return;
+        }
+        for (Object value : added) {
+            checkValue(value);
+        }
+        map.compute(key, (k, current) -> {
+            final Object[] base = null == current ? EMPTY : current;
+            final Object[] result = Arrays.copyOf(base, base.length + added.length);
+            System.arraycopy(added, 0, result, base.length, added.length);
+            size.add(added.length);
+            return result;
+        });
+    }
+
+    /**
+     * Remove the first occurrence of the value from the values of the key, the key is removed with its last value
+     *
+     * @param key   Key
+     * @param value Value
+     * @return Whether the value was removed
+     * @author Fable
+     * @since 2026/10/17 22:44
+     */
+    public boolean remove(K key, V value) {
+        // 先无锁检查, 不存在时不进入 compute
+        if (null == value || indexOf(map.get(key), value) < 0) {
+            return false;
+        }
+        final boolean[] removed = new boolean[1];
+        map.computeIfPresent(key, (k, values) -> {
+            final int index = indexOf(values, value);
+            if (index < 0) {
+                return values;
+            }
+            removed[0] = true;
+            size.decrement();
+            if (1 == values.length) {
+                return null;
+            }
+            final Object[] result = new Object[values.length - 1];
+            System.arraycopy(values, 0, result, 0, index);
+            System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+            return result;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Remove the key with all its values
+     *
+     * @param key Key
+     * @return The removed values, empty if absent
+     * @author Fable
+     * @since 2026/10/17 22:45
+     */
+    public List<V> removeAll(K key) {
+        final Object[] values = map.remove(key);
+        if (null == values) {
+            return Collections.emptyList();
+        }
+        size.add(-values.length);
+        return new Snapshot<>(values);
+    }
+
+    /**
+     * Number of values of all keys
+     *
+     * @return Size, an estimate while the multimap is being modified
+     * @author Fable
+     * @since 2026/10/17 22:46
+     */
+    public long size() {
+        return size.sum();
+    }
+
+    /**
+     * Number of keys
+     *
+     * @return Key count
+     * @author Fable
+     * @since 2026/10/17 22:46
+     */
+    public int keyCount() {
+        return map.size();
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * Unmodifiable view of the keys
+     *
+     * @return {@link Set}
+     * @author Fable
+     * @since 2026/10/17 22:47
+     */
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(map.keySet());
+    }
+
+    /**
+     * Perform the action on each key with a snapshot of its values
+     *
+     * @param action Action
+     * @author Fable
+     * @since 2026/10/17 22:47
+     */
+    public void forEach(BiConsumer<? super K, ? super List<V>> action) {
+        map.forEach((key, values) -> action.accept(key, new Snapshot<>(values)));
+    }
+
+    /**
+     * Remove all keys, values put concurrently may remain
+     *
+     * @author Fable
+     * @since 2026/10/17 22:48
+     */
+    public void clear() {
+        for (K key : map.keySet()) {
+            removeAll(key);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append('{');
+        map.forEach((key, values) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(new Snapshot<>(values));
+        });
+        return builder.append('}').toString();
+    }
+
+    private static int indexOf(Object[] values, Object value) {
+        if (null != values) {
+            for (int i = 0; i < values.length; i++) {
+                if (Objects.equals(values[i], value)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static void checkValue(Object value) {
+        if (null == value) {
+            throw new IllegalArgumentException("The value must not be null.");
+        }
+    }
+
+    /**
+     * Read-only list over an array that is never modified after publication
+     */
+    private static final class Snapshot<V> extends AbstractList<V> implements RandomAccess {
+
+        private final Object[] values;
+
+        private Snapshot(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(int index) {
+            return (V) values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return values.clone();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package grey.fable.core.map;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Thread-safe counters by key, replacing {@code ConcurrentHashMap<K, AtomicLong>} whose hot counters make every
+ * thread retry the same CAS. Each key has a {@link LongAdder} that spreads contended updates over per-thread cells,
+ * and an update only reads the map once the counter of the key exists. Reads sum the cells, so a count read during
+ * updates is an estimate; {@link #snapshot()} and {@link #topK(int)} are not atomic across keys either.
+ * Null keys are not allowed. <br />
+ * 并发计数 Map, 基于 LongAdder
+ * <pre>
+ *     CountingMap&lt;String&gt; hits = MapUtil.countingMap();
+ *     hits.increment(request.getPath());
+ *     List&lt;Map.Entry&lt;String, Long&gt;&gt; hottest = hits.topK(10);
+ * </pre>
+ *
+ * @param <K> Key type
+ * @author Fable
+ * @since 2026/10/17 22:50
+ */
+public class CountingMap<K> {
+
+    private static final Comparator<Map.Entry<?, Long>> BY_COUNT =
+            (left, right) -> Long.compare(left.getValue(), right.getValue());
+
+    private final Map<K, LongAdder> counters;
+
+    public CountingMap() {
+        this.counters = MapUtil.concurrentHashMap();
+    }
+
+    /**
+     * Create a counting map that holds the expected number of keys without resizing
+     *
+     * @param expectedKeys Expected number of keys
+     */
+    public CountingMap(int expectedKeys) {
+        this.counters = MapUtil.concurrentHashMapWithExpectedSize(expectedKeys);
+    }
+
+    public void increment(K key) {
+        counterOf(key).increment();
+    }
+
+    public void decrement(K key) {
+        counterOf(key).decrement();
+    }
+
+    /**
+     * Add to the count of the key, a missing key counts from 0
+     *
+     * @param key   Key
+     * @param delta Delta
+     * @author Fable
+     * @since 2026/10/17 22:51
+     */
+    public void add(K key, long delta) {
+        counterOf(key).add(delta);
+    }
+
+    /**
+     * Get the count of the key
+     *
+     * @param key Key
+     * @return The count, 0 if absent
+     * @author Fable
+     * @since 2026/10/17 22:52
+     */
+    public long get(K key) {
+        final LongAdder counter = counters.get(key);
+        return null == counter ? 0L : counter.sum();
+    }
+
+    public boolean containsKey(K key) {
+        return counters.containsKey(key);
+    }
+
+    /**
+     * Remove the counter of the key. Updates racing with the removal may be lost.
+     *
+     * @param key Key
+     * @return The count, 0 if absent
+     * @author Fable
+     * @since 2026/10/17 22:53
+     */
+    public long remove(K key) {
+        final LongAdder counter = counters.remove(key);
+        return null == counter ? 0L : counter.sum();
+    }
+
+    /**
+     * Number of keys
+     *
+     * @return Size
+     * @author Fable
+     * @since 2026/10/17 22:53
+     */
+    public int size() {
+        return counters.size();
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    /**
+     * Sum of the counts of all keys
+     *
+     * @return Total
+     * @author Fable
+     * @since 2026/10/17 22:54
+     */
+    public long total() {
+        long total = 0L;
+        for (LongAdder counter : counters.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Unmodifiable view of the keys
+     *
+     * @return {@link Set}
+     * @author Fable
+     * @since 2026/10/17 22:54
+     */
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(counters.keySet());
+    }
+
+    public void forEach(ObjLongConsumer<? super K> action) {
+        counters.forEach((key, counter) -> action.accept(key, counter.sum()));
+    }
+
+    /**
+     * Copy the current counts
+     *
+     * @return Mutable {@link Map} of the counts
+     * @author Fable
+     * @since 2026/10/17 22:55
+     */
+    public Map<K, Long> snapshot() {
+        final Map<K, Long> snapshot = MapUtil.hashMapWithExpectedSize(counters.size());
+        counters.forEach((key, counter) -> snapshot.put(key, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * The keys with the highest counts, found with a bounded min-heap instead of sorting all keys
+     *
+     * @param k Maximum number of keys
+     * @return Immutable entries in descending order of count, ties in no particular order
+     * @author Fable
+     * @since 2026/10/17 22:56
+     */
+    public List<Map.Entry<K, Long>> topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K must not be negative: " + k);
+        }
+        if (0 == k) {
+            return new ArrayList<>(0);
+        }
+        // 堆顶是当前第 k 大的计数, 只有更大的计数才入堆
+        final PriorityQueue<Map.Entry<K, Long>> heap = new PriorityQueue<>(Math.min(k, counters.size()) + 1, BY_COUNT);
+        counters.forEach((key, counter) -> {
+            final long count = counter.sum();
+            if (heap.size() < k) {
+                heap.add(MapUtil.entry(true, key, count));
+            } else if (count > heap.peek().getValue()) {
+                heap.poll();
+                heap.add(MapUtil.entry(true, key, count));
+            }
+        });
+        final List<Map.Entry<K, Long>> result = new ArrayList<>(heap);
+        result.sort(BY_COUNT.reversed());
+        return result;
+    }
+
+    /**
+     * Remove all counters, updates racing with the removal may be lost
+     *
+     * @author Fable
+     * @since 2026/10/17 22:57
+     */
+    public void clear() {
+        counters.clear();
+    }
+
+    @Override
+    public String toString() {
+        return counters.toString();
+    }
+
+    private LongAdder counterOf(K key) {
+        // 计数器已存在时只读 Map, 不进入 computeIfAbsent 的锁
+        final LongAdder counter = counters.get(key);
+        return null != counter ? counter : counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+}
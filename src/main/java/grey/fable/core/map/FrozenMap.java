@@ -0,0 +1,444 @@
+package grey.fable.core.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Compact immutable {@link Map} for read-mostly data such as configuration, see {@link MapBuilder#buildFrozen()}.
+ * The entries are kept in a flat array of alternating keys and values, without the per-entry node objects of a
+ * {@link java.util.HashMap}, and iterate in the order of the source map. Null keys are not allowed, null values are.
+ * <br />
+ * 紧凑的不可变 Map
+ * <ul>
+ *     <li> Up to {@link #FLAT_MAX_SIZE} entries: lookups scan the hashes of the entries, which is faster than
+ *     an index at that size </li>
+ *     <li> Larger maps: the entries are stored by slot of an open-addressed table with their precomputed hashes, and
+ *     a separate order array keeps the iteration order. The slots are assigned by hash and displace: the keys are
+ *     grouped into buckets, and each bucket gets the displacement that places all its keys into free slots, so every
+ *     lookup probes exactly one slot. Keys with equal hashes can never be displaced apart, so they are kept in a
+ *     small overflow area after the table, probed linearly only when the key is not in its displaced slot. If no
+ *     displacement is found, the table falls back to linear probing. </li>
+ * </ul>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author Fable
+ * @since 2026/10/17 22:10
+ */
+abstract class FrozenMap<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * Maximum number of entries of a map that is only scanned
+     */
+    static final int FLAT_MAX_SIZE = 8;
+
+    /**
+     * {@code [key0, value0, key1, value1, ...]}, an entry at index {@code i} is at {@code table[i * 2]}
+     */
+    final Object[] table;
+
+    /**
+     * Spread hash of the key of each entry of {@link #table}
+     */
+    final int[] hashes;
+
+    private final int size;
+
+    private transient Set<Map.Entry<K, V>> entrySet;
+
+    FrozenMap(Object[] table, int size) {
+        this.table = table;
+        this.hashes = new int[table.length / 2];
+        this.size = size;
+    }
+
+    /**
+     * Freeze a copy of the map
+     *
+     * @param map {@link Map}, without null keys
+     * @return Immutable {@link Map}
+     * @author Fable
+     * @since 2026/10/17 22:11
+     */
+    static <K, V> Map<K, V> of(Map<? extends K, ? extends V> map) {
+        final Object[] entries = new Object[map.size() * 2];
+        int index = 0;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            if (null == entry.getKey()) {
+                throw new IllegalArgumentException("A frozen map does not allow null keys.");
+            }
+            entries[index++] = entry.getKey();
+            entries[index++] = entry.getValue();
+        }
+        return map.size() <= FLAT_MAX_SIZE ? new Flat<>(entries) : Hashed.of(entries);
+    }
+
+    /**
+     * The index of the entry of the key in {@link #table}, -1 if absent
+     */
+    abstract int indexOf(Object key);
+
+    /**
+     * The index in {@link #table} of the entry at a position of the source order
+     */
+    abstract int indexAt(int position);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : (V) table[index * 2 + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        final int index = indexOf(key);
+        return index < 0 ? defaultValue : (V) table[index * 2 + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int position = 0; position < size; position++) {
+            final int index = indexAt(position) * 2;
+            action.accept((K) table[index], (V) table[index + 1]);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (null == entrySet) {
+            entrySet = new AbstractSet<>() {
+
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    /**
+     * Iterates the entries in the order of the source map, {@link Iterator#remove()} is not supported
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (position >= size) {
+                throw new NoSuchElementException();
+            }
+            final int index = indexAt(position++) * 2;
+            return new SimpleImmutableEntry<>((K) table[index], (V) table[index + 1]);
+        }
+    }
+
+    /**
+     * Small map, lookups scan the hashes of the entries in the source order
+     */
+    private static final class Flat<K, V> extends FrozenMap<K, V> {
+
+        private Flat(Object[] entries) {
+            super(entries, entries.length / 2);
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = spread(entries[i * 2].hashCode());
+            }
+        }
+
+        @Override
+        int indexOf(Object key) {
+            if (null == key) {
+                return -1;
+            }
+            // 先比较哈希值, 只对哈希值相等的键调用 equals
+            final int hash = spread(key.hashCode());
+            for (int i = 0; i < hashes.length; i++) {
+                if (hashes[i] == hash && equals(table[i * 2], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int indexAt(int position) {
+            return position;
+        }
+    }
+
+    /**
+     * Large map, the entries are stored by slot of an open-addressed table, so a lookup reads the hash and the key
+     * of one slot and the value next to it
+     */
+    private static final class Hashed<K, V> extends FrozenMap<K, V> {
+
+        /**
+         * Number of tries to find the displacement of a bucket before giving up
+         */
+        private static final int MAX_DISPLACEMENT_TRIES = 1 << 12;
+
+        /**
+         * Slot of each entry in the source order
+         */
+        private final int[] order;
+
+        /**
+         * Mask of the main table, whose slots are {@code [0, mask]}
+         */
+        private final int mask;
+
+        /**
+         * Mask of the overflow area, whose slots are {@code [mask + 1, mask + 1 + overflowMask]}, -1 when no two keys
+         * share a hash
+         */
+        private final int overflowMask;
+
+        /**
+         * Displacement of each bucket when every key of the main table has its own slot, null when the main table
+         * uses linear probing
+         */
+        private final int[] displacements;
+
+        private Hashed(Object[] entries, int[] entryHashes, boolean[] overflows, int overflowSize) {
+            super(new Object[(capacityOf(entryHashes.length - overflowSize)
+                    + (0 == overflowSize ? 0 : capacityOf(overflowSize))) * 2], entryHashes.length);
+            final int size = entryHashes.length;
+            this.mask = capacityOf(size - overflowSize) - 1;
+            this.overflowMask = hashes.length - mask - 2;
+            this.order = new int[size];
+            // 先算出每个条目的槽位, 再按槽位摆放条目
+            this.displacements = displace(entryHashes, overflows, size - overflowSize);
+            final boolean[] used = new boolean[hashes.length];
+            if (null == displacements) {
+                probe(entryHashes, overflows, false, used);
+            }
+            probe(entryHashes, overflows, true, used);
+            for (int i = 0; i < size; i++) {
+                final int slot = order[i];
+                hashes[slot] = entryHashes[i];
+                table[slot * 2] = entries[i * 2];
+                table[slot * 2 + 1] = entries[i * 2 + 1];
+            }
+        }
+
+        /**
+         * Create the map, the keys that share a hash with another key go to the overflow area
+         *
+         * @param entries {@code [key0, value0, key1, value1, ...]}
+         * @return {@link Hashed}
+         */
+        private static <K, V> Hashed<K, V> of(Object[] entries) {
+            final int size = entries.length / 2;
+            final int[] entryHashes = new int[size];
+            for (int i = 0; i < size; i++) {
+                entryHashes[i] = spread(entries[i * 2].hashCode());
+            }
+
+            final int[] sorted = entryHashes.clone();
+            Arrays.sort(sorted);
+            final boolean[] overflows = new boolean[size];
+            int overflowSize = 0;
+            for (int i = 0; i < size; i++) {
+                // 相等的哈希值在排序后相邻, 找到的位置两侧至少有一个相等
+                final int index = Arrays.binarySearch(sorted, entryHashes[i]);
+                if ((index > 0 && sorted[index - 1] == entryHashes[i])
+                        || (index + 1 < size && sorted[index + 1] == entryHashes[i])) {
+                    overflows[i] = true;
+                    overflowSize++;
+                }
+            }
+            return new Hashed<>(entries, entryHashes, overflows, overflowSize);
+        }
+
+        @Override
+        int indexOf(Object key) {
+            if (null == key) {
+                return -1;
+            }
+            final int hash = spread(key.hashCode());
+            if (null != displacements) {
+                final int slot = slotOf(hash, displacements[bucketOf(hash, displacements.length)]);
+                final Object current = table[slot * 2];
+                if (null != current && hashes[slot] == hash && equals(current, key)) {
+                    return slot;
+                }
+            } else {
+                final int slot = probe(0, mask, hash, key);
+                if (slot >= 0) {
+                    return slot;
+                }
+            }
+            return overflowMask < 0 ? -1 : probe(mask + 1, overflowMask, hash, key);
+        }
+
+        @Override
+        int indexAt(int position) {
+            return order[position];
+        }
+
+        /**
+         * Find the key by linear probing in an area of the table
+         *
+         * @return The slot, or -1 if absent
+         */
+        private int probe(int start, int areaMask, int hash, Object key) {
+            for (int i = hash & areaMask; ; i = (i + 1) & areaMask) {
+                final Object current = table[(start + i) * 2];
+                if (null == current) {
+                    return -1;
+                }
+                if (hashes[start + i] == hash && equals(current, key)) {
+                    return start + i;
+                }
+            }
+        }
+
+        /**
+         * Assign the slots of the main table by hash and displace
+         *
+         * @param entryHashes Spread hash of each entry
+         * @param overflows   Whether each entry goes to the overflow area instead
+         * @param size        Number of entries of the main table
+         * @return The displacements, or null if a bucket could not be placed
+         */
+        private int[] displace(int[] entryHashes, boolean[] overflows, int size) {
+            final int bucketCount = Integer.highestOneBit(Math.max(1, size / 2)) << 1;
+            final int[] bucketSizes = new int[bucketCount];
+            for (int i = 0; i < entryHashes.length; i++) {
+                if (!overflows[i]) {
+                    bucketSizes[bucketOf(entryHashes[i], bucketCount)]++;
+                }
+            }
+
+            // 按桶分组条目, 大桶先放置
+            final int[] bucketStarts = new int[bucketCount + 1];
+            for (int b = 0; b < bucketCount; b++) {
+                bucketStarts[b + 1] = bucketStarts[b] + bucketSizes[b];
+            }
+            final int[] bucketEntries = new int[size];
+            final int[] fill = bucketStarts.clone();
+            for (int i = 0; i < entryHashes.length; i++) {
+                if (!overflows[i]) {
+                    bucketEntries[fill[bucketOf(entryHashes[i], bucketCount)]++] = i;
+                }
+            }
+            final Integer[] buckets = new Integer[bucketCount];
+            for (int b = 0; b < bucketCount; b++) {
+                buckets[b] = b;
+            }
+            Arrays.sort(buckets, (left, right) -> bucketSizes[right] - bucketSizes[left]);
+
+            final boolean[] used = new boolean[mask + 1];
+            final int[] result = new int[bucketCount];
+            for (Integer bucket : buckets) {
+                final int start = bucketStarts[bucket];
+                final int end = bucketStarts[bucket + 1];
+                if (start == end) {
+                    break;
+                }
+                int displacement = 0;
+                while (!tryPlace(entryHashes, bucketEntries, start, end, displacement, used)) {
+                    if (++displacement == MAX_DISPLACEMENT_TRIES) {
+                        return null;
+                    }
+                }
+                result[bucket] = displacement;
+            }
+            return result;
+        }
+
+        /**
+         * Assign the displaced slots to the entries of a bucket if all of them are free
+         */
+        private boolean tryPlace(int[] entryHashes, int[] bucketEntries, int start, int end, int displacement,
+                                 boolean[] used) {
+            for (int i = start; i < end; i++) {
+                final int entry = bucketEntries[i];
+                final int slot = slotOf(entryHashes[entry], displacement);
+                if (used[slot]) {
+                    // 与已放置的条目冲突 (包括同一个桶内的), 撤销本次放置
+                    for (int j = start; j < i; j++) {
+                        used[order[bucketEntries[j]]] = false;
+                    }
+                    return false;
+                }
+                used[slot] = true;
+                order[entry] = slot;
+            }
+            return true;
+        }
+
+        /**
+         * Assign the slots of the main table or of the overflow area by linear probing
+         */
+        private void probe(int[] entryHashes, boolean[] overflows, boolean isOverflow, boolean[] used) {
+            final int start = isOverflow ? mask + 1 : 0;
+            final int areaMask = isOverflow ? overflowMask : mask;
+            for (int i = 0; i < entryHashes.length; i++) {
+                if (overflows[i] != isOverflow) {
+                    continue;
+                }
+                int slot = entryHashes[i] & areaMask;
+                while (used[start + slot]) {
+                    slot = (slot + 1) & areaMask;
+                }
+                used[start + slot] = true;
+                order[i] = start + slot;
+            }
+        }
+
+        private static int capacityOf(int size) {
+            // 装载因子不超过 0.75
+            return Integer.highestOneBit(Math.max(2, size + (size + 2) / 3) - 1) << 1;
+        }
+
+        private static int bucketOf(int hash, int bucketCount) {
+            return (hash >>> 16 ^ hash * 0x9E3779B9) & (bucketCount - 1);
+        }
+
+        private int slotOf(int hash, int displacement) {
+            // 双重哈希: 混合只依赖哈希值, 可以和读取位移并行执行, 奇数步长保证位移遍历所有槽位
+            final int mixed = hash * 0x9E3779B9;
+            return (mixed + displacement * ((mixed >>> 15) | 1)) & mask;
+        }
+    }
+
+    static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    static boolean equals(Object current, Object key) {
+        return current == key || current.equals(key);
+    }
+}
@@ -0,0 +1,363 @@
+package grey.fable.core.map;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Map from {@code int} keys to object values without boxing the keys.
+ * The entries live in two parallel arrays with open addressing and linear probing, and removals shift the
+ * following entries back instead of leaving tombstones, so an entry costs 4 bytes for the key plus a reference.
+ * Null values are not allowed, a null result always means the key is absent. Not thread-safe. <br />
+ * int 键的开放寻址 Map, 键不装箱
+ * <pre>
+ *     IntObjectMap&lt;Order&gt; orders = MapUtil.intObjectMap(1024);
+ *     orders.put(id, order);
+ *     IntObjectMap.Cursor&lt;Order&gt; cursor = orders.cursor();
+ *     while (cursor.advance()) {
+ *         handle(cursor.key(), cursor.value());
+ *     }
+ * </pre>
+ *
+ * @param <V> Value type
+ * @author Fable
+ * @since 2026/10/17 20:50
+ */
+public class IntObjectMap<V> {
+
+    private int[] keys;
+
+    /**
+     * Values of the slots, null marks an empty slot
+     */
+    private Object[] values;
+
+    private int shift;
+
+    private int threshold;
+
+    private int size;
+
+    public IntObjectMap() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Create a map that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     */
+    public IntObjectMap(int expectedSize) {
+        allocate(PrimitiveHashing.capacityFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.shift = PrimitiveHashing.shiftOf(capacity);
+        this.threshold = PrimitiveHashing.thresholdOf(capacity);
+    }
+
+    /**
+     * Get the value of the key
+     *
+     * @param key Key
+     * @return The value, or null if absent
+     * @author Fable
+     * @since 2026/10/17 20:51
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        final V value = get(key);
+        return null == value ? defaultValue : value;
+    }
+
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Put the value of the key
+     *
+     * @param key   Key
+     * @param value Value, must not be null
+     * @return The previous value, or null if absent
+     * @author Fable
+     * @since 2026/10/17 20:52
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        checkValue(value);
+        final int mask = values.length - 1;
+        for (int index = PrimitiveHashing.slot(key, shift); ; index = (index + 1) & mask) {
+            final Object current = values[index];
+            if (null == current) {
+                insert(index, key, value);
+                return null;
+            }
+            if (keys[index] == key) {
+                values[index] = value;
+                return (V) current;
+            }
+        }
+    }
+
+    /**
+     * Put the value of the key if it is absent
+     *
+     * @param key   Key
+     * @param value Value, must not be null
+     * @return The current value, or null if it was absent and the value was put
+     * @author Fable
+     * @since 2026/10/17 20:53
+     */
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(int key, V value) {
+        checkValue(value);
+        final int mask = values.length - 1;
+        for (int index = PrimitiveHashing.slot(key, shift); ; index = (index + 1) & mask) {
+            final Object current = values[index];
+            if (null == current) {
+                insert(index, key, value);
+                return null;
+            }
+            if (keys[index] == key) {
+                return (V) current;
+            }
+        }
+    }
+
+    /**
+     * Get the value of the key, or compute and put it if absent
+     *
+     * @param key             Key
+     * @param mappingFunction Computes the value, a null result puts nothing
+     * @return The current or computed value, null if the function returned null
+     * @author Fable
+     * @since 2026/10/17 20:54
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction) {
+        final int mask = values.length - 1;
+        for (int index = PrimitiveHashing.slot(key, shift); ; index = (index + 1) & mask) {
+            final Object current = values[index];
+            if (null == current) {
+                final V value = mappingFunction.apply(key);
+                if (null != value) {
+                    // 计算函数可能修改了 Map, 重新查找插入位置
+                    put(key, value);
+                }
+                return value;
+            }
+            if (keys[index] == key) {
+                return (V) current;
+            }
+        }
+    }
+
+    /**
+     * Remove the key
+     *
+     * @param key Key
+     * @return The removed value, or null if absent
+     * @author Fable
+     * @since 2026/10/17 20:55
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        final int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        final V value = (V) values[index];
+        removeAt(index);
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    /**
+     * Remove all entries and keep the capacity
+     *
+     * @author Fable
+     * @since 2026/10/17 20:55
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Create a {@link Cursor} over the entries, in no particular order
+     *
+     * @return {@link Cursor}
+     * @author Fable
+     * @since 2026/10/17 20:56
+     */
+    public Cursor<V> cursor() {
+        return new Cursor<>(this);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        final Cursor<V> cursor = cursor();
+        while (cursor.advance()) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(cursor.key()).append('=').append(cursor.value());
+        }
+        return sb.append('}').toString();
+    }
+
+    private int indexOf(int key) {
+        final int mask = values.length - 1;
+        for (int index = PrimitiveHashing.slot(key, shift); ; index = (index + 1) & mask) {
+            if (null == values[index]) {
+                return -1;
+            }
+            if (keys[index] == key) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Write the entry into the empty slot, growing the table first if the entry would exceed the threshold, so a
+     * full map throws before the entry is stored
+     */
+    private void insert(int index, int key, Object value) {
+        if (size >= threshold) {
+            rehash(PrimitiveHashing.grow(values.length));
+            // 扩容后槽位变化, 键不在表中, 重新查找空位
+            final int mask = values.length - 1;
+            index = PrimitiveHashing.slot(key, shift);
+            while (null != values[index]) {
+                index = (index + 1) & mask;
+            }
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    /**
+     * Empty the slot and shift back the following entries of the probe sequence that may move into it
+     */
+    private void removeAt(int index) {
+        final int mask = values.length - 1;
+        int gap = index;
+        for (int i = (gap + 1) & mask; null != values[i]; i = (i + 1) & mask) {
+            // 理想位置不在 (gap, i] 之间的条目可以前移到空位
+            final int ideal = PrimitiveHashing.slot(keys[i], shift);
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        values[gap] = null;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (null != oldValues[i]) {
+                int index = PrimitiveHashing.slot(oldKeys[i], shift);
+                while (null != values[index]) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static void checkValue(Object value) {
+        if (null == value) {
+            throw new IllegalArgumentException("The value must not be null.");
+        }
+    }
+
+    /**
+     * Iterates the entries without allocating per entry, and can be {@link #reset()} and reused. The map must not
+     * be modified while iterating, except by {@link #setValue(Object)}.
+     *
+     * @param <V> Value type
+     */
+    public static final class Cursor<V> {
+
+        private final IntObjectMap<V> map;
+
+        private int index = -1;
+
+        private Cursor(IntObjectMap<V> map) {
+            this.map = map;
+        }
+
+        /**
+         * Move to the next entry
+         *
+         * @return Whether there is one
+         * @author Fable
+         * @since 2026/10/17 20:57
+         */
+        public boolean advance() {
+            final Object[] values = map.values;
+            while (++index < values.length) {
+                if (null != values[index]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public int key() {
+            return map.keys[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        public V value() {
+            return (V) map.values[index];
+        }
+
+        /**
+         * Replace the value of the current entry
+         *
+         * @param value Value, must not be null
+         * @author Fable
+         * @since 2026/10/17 20:58
+         */
+        public void setValue(V value) {
+            checkValue(value);
+            map.values[index] = value;
+        }
+
+        /**
+         * Move back before the first entry
+         *
+         * @return {@link Cursor}
+         * @author Fable
+         * @since 2026/10/17 20:58
+         */
+        public Cursor<V> reset() {
+            index = -1;
+            return this;
+        }
+    }
+}
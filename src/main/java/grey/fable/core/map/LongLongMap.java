@@ -0,0 +1,386 @@
+package grey.fable.core.map;
+
+import java.util.Arrays;
+
+/**
+ * Map from {@code long} keys to {@code long} values without boxing, e.g. counters or ID mappings keyed by
+ * Snowflake IDs. Keys and values are interleaved in a single array with open addressing and linear probing, so an
+ * entry costs 16 bytes and a lookup touches one cache line. Key 0 marks an empty slot and is kept aside.
+ * An absent key reads as the missing value given at construction, 0 by default. Not thread-safe. <br />
+ * long 键 long 值的开放寻址 Map, 不装箱
+ * <pre>
+ *     LongLongMap counts = MapUtil.longLongMap(1024);
+ *     counts.addTo(id, 1);
+ *     LongLongMap.Cursor cursor = counts.cursor();
+ *     while (cursor.advance()) {
+ *         report(cursor.key(), cursor.value());
+ *     }
+ * </pre>
+ *
+ * @author Fable
+ * @since 2026/10/17 21:00
+ */
+public class LongLongMap {
+
+    private static final long EMPTY = 0L;
+
+    private final long missingValue;
+
+    /**
+     * {@code [key0, value0, key1, value1, ...]}, a key of {@link #EMPTY} marks an empty slot
+     */
+    private long[] entries;
+
+    private int shift;
+
+    private int threshold;
+
+    /**
+     * Number of entries in the table, not counting key 0
+     */
+    private int size;
+
+    private boolean hasZeroKey;
+
+    private long zeroValue;
+
+    public LongLongMap() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    public LongLongMap(int expectedSize) {
+        this(expectedSize, 0L);
+    }
+
+    /**
+     * Create a map that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     * @param missingValue Value returned for absent keys
+     */
+    public LongLongMap(int expectedSize, long missingValue) {
+        this.missingValue = missingValue;
+        allocate(PrimitiveHashing.capacityFor(expectedSize, PrimitiveHashing.MAX_INTERLEAVED_CAPACITY));
+    }
+
+    private void allocate(int capacity) {
+        this.entries = new long[capacity * 2];
+        this.shift = PrimitiveHashing.shiftOf(capacity);
+        this.threshold = PrimitiveHashing.thresholdOf(capacity);
+    }
+
+    /**
+     * Get the value of the key
+     *
+     * @param key Key
+     * @return The value, or the missing value if absent
+     * @author Fable
+     * @since 2026/10/17 21:01
+     */
+    public long get(long key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        if (EMPTY == key) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        final int index = indexOf(key);
+        return index < 0 ? defaultValue : entries[index + 1];
+    }
+
+    public boolean containsKey(long key) {
+        return EMPTY == key ? hasZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * Put the value of the key
+     *
+     * @param key   Key
+     * @param value Value
+     * @return The previous value, or the missing value if absent
+     * @author Fable
+     * @since 2026/10/17 21:02
+     */
+    public long put(long key, long value) {
+        if (EMPTY == key) {
+            final long previous = hasZeroKey ? zeroValue : missingValue;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+        final int index = probe(key);
+        if (EMPTY == entries[index]) {
+            insert(index, key, value);
+            return missingValue;
+        }
+        final long previous = entries[index + 1];
+        entries[index + 1] = value;
+        return previous;
+    }
+
+    /**
+     * Put the value of the key if it is absent
+     *
+     * @param key   Key
+     * @param value Value
+     * @return The current value, or the missing value if it was absent and the value was put
+     * @author Fable
+     * @since 2026/10/17 21:03
+     */
+    public long putIfAbsent(long key, long value) {
+        if (EMPTY == key) {
+            if (hasZeroKey) {
+                return zeroValue;
+            }
+            hasZeroKey = true;
+            zeroValue = value;
+            return missingValue;
+        }
+        final int index = probe(key);
+        if (EMPTY == entries[index]) {
+            insert(index, key, value);
+            return missingValue;
+        }
+        return entries[index + 1];
+    }
+
+    /**
+     * Add the delta to the value of the key, an absent key starts from 0
+     *
+     * @param key   Key
+     * @param delta Delta
+     * @return The new value
+     * @author Fable
+     * @since 2026/10/17 21:04
+     */
+    public long addTo(long key, long delta) {
+        if (EMPTY == key) {
+            zeroValue = hasZeroKey ? zeroValue + delta : delta;
+            hasZeroKey = true;
+            return zeroValue;
+        }
+        final int index = probe(key);
+        if (EMPTY == entries[index]) {
+            insert(index, key, delta);
+            return delta;
+        }
+        return entries[index + 1] += delta;
+    }
+
+    /**
+     * Remove the key
+     *
+     * @param key Key
+     * @return The removed value, or the missing value if absent
+     * @author Fable
+     * @since 2026/10/17 21:05
+     */
+    public long remove(long key) {
+        if (EMPTY == key) {
+            if (!hasZeroKey) {
+                return missingValue;
+            }
+            hasZeroKey = false;
+            return zeroValue;
+        }
+        final int index = indexOf(key);
+        if (index < 0) {
+            return missingValue;
+        }
+        final long value = entries[index + 1];
+        removeAt(index);
+        return value;
+    }
+
+    public int size() {
+        return hasZeroKey ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+    public long getMissingValue() {
+        return missingValue;
+    }
+
+    /**
+     * Remove all entries and keep the capacity
+     *
+     * @author Fable
+     * @since 2026/10/17 21:05
+     */
+    public void clear() {
+        Arrays.fill(entries, EMPTY);
+        size = 0;
+        hasZeroKey = false;
+    }
+
+    /**
+     * Create a {@link Cursor} over the entries, in no particular order
+     *
+     * @return {@link Cursor}
+     * @author Fable
+     * @since 2026/10/17 21:06
+     */
+    public Cursor cursor() {
+        return new Cursor(this);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        final Cursor cursor = cursor();
+        while (cursor.advance()) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(cursor.key()).append('=').append(cursor.value());
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * The index of the key in {@link #entries}, or of the empty slot that ends its probe sequence
+     */
+    private int probe(long key) {
+        final int mask = entries.length - 1;
+        for (int index = PrimitiveHashing.slot(key, shift) << 1; ; index = (index + 2) & mask) {
+            final long current = entries[index];
+            if (EMPTY == current || key == current) {
+                return index;
+            }
+        }
+    }
+
+    private int indexOf(long key) {
+        final int index = probe(key);
+        return EMPTY == entries[index] ? -1 : index;
+    }
+
+    /**
+     * Write the entry into the empty slot, growing the table first if the entry would exceed the threshold, so a
+     * full map throws before the entry is stored
+     */
+    private void insert(int index, long key, long value) {
+        if (size >= threshold) {
+            rehash(PrimitiveHashing.grow(entries.length >> 1, PrimitiveHashing.MAX_INTERLEAVED_CAPACITY));
+            // 扩容后槽位变化, 重新查找空位
+            index = probe(key);
+        }
+        entries[index] = key;
+        entries[index + 1] = value;
+        size++;
+    }
+
+    /**
+     * Empty the slot and shift back the following entries of the probe sequence that may move into it
+     */
+    private void removeAt(int index) {
+        final int mask = entries.length - 1;
+        int gap = index;
+        for (int i = (gap + 2) & mask; EMPTY != entries[i]; i = (i + 2) & mask) {
+            // 理想位置不在 (gap, i] 之间的条目可以前移到空位
+            final int ideal = PrimitiveHashing.slot(entries[i], shift) << 1;
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                entries[gap] = entries[i];
+                entries[gap + 1] = entries[i + 1];
+                gap = i;
+            }
+        }
+        entries[gap] = EMPTY;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldEntries = entries;
+        allocate(capacity);
+        final int mask = entries.length - 1;
+        for (int i = 0; i < oldEntries.length; i += 2) {
+            if (EMPTY != oldEntries[i]) {
+                int index = PrimitiveHashing.slot(oldEntries[i], shift) << 1;
+                while (EMPTY != entries[index]) {
+                    index = (index + 2) & mask;
+                }
+                entries[index] = oldEntries[i];
+                entries[index + 1] = oldEntries[i + 1];
+            }
+        }
+    }
+
+    /**
+     * Iterates the entries without allocating per entry, and can be {@link #reset()} and reused. The map must not
+     * be modified while iterating, except by {@link #setValue(long)}.
+     */
+    public static final class Cursor {
+
+        private final LongLongMap map;
+
+        /**
+         * Index in {@link #entries}, {@code entries.length} stands for key 0
+         */
+        private int index = -2;
+
+        private Cursor(LongLongMap map) {
+            this.map = map;
+        }
+
+        /**
+         * Move to the next entry
+         *
+         * @return Whether there is one
+         * @author Fable
+         * @since 2026/10/17 21:07
+         */
+        public boolean advance() {
+            final long[] entries = map.entries;
+            while ((index += 2) < entries.length) {
+                if (EMPTY != entries[index]) {
+                    return true;
+                }
+            }
+            // 键 0 不在表中, 最后访问
+            if (index == entries.length && map.hasZeroKey) {
+                return true;
+            }
+            index = entries.length + 2;
+            return false;
+        }
+
+        public long key() {
+            return index == map.entries.length ? EMPTY : map.entries[index];
+        }
+
+        public long value() {
+            return index == map.entries.length ? map.zeroValue : map.entries[index + 1];
+        }
+
+        /**
+         * Replace the value of the current entry
+         *
+         * @param value Value
+         * @author Fable
+         * @since 2026/10/17 21:08
+         */
+        public void setValue(long value) {
+            if (index == map.entries.length) {
+                map.zeroValue = value;
+            } else {
+                map.entries[index + 1] = value;
+            }
+        }
+
+        /**
+         * Move back before the first entry
+         *
+         * @return {@link Cursor}
+         * @author Fable
+         * @since 2026/10/17 21:08
+         */
+        public Cursor reset() {
+            index = -2;
+            return this;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package grey.fable.core.map;
 
 import grey.fable.core.builder.Builder;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -23,6 +25,25 @@ public class MapBuilder<K, V> implements Builder<Map<K, V>> {
         this(MapUtil.hashMap(isLinked));
     }
 
+    /**
+     * Build a {@link HashMap} that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     */
+    public MapBuilder(int expectedSize) {
+        this(false, expectedSize);
+    }
+
+    /**
+     * Build a {@link LinkedHashMap}/{@link HashMap} that holds the expected number of entries without resizing
+     *
+     * @param isLinked     IsLinked
+     * @param expectedSize Expected number of entries
+     */
+    public MapBuilder(boolean isLinked, int expectedSize) {
+        this(MapUtil.hashMapWithExpectedSize(isLinked, expectedSize));
+    }
+
     public MapBuilder(Map<K, V> map) {
         this.map = map;
     }
@@ -75,4 +96,16 @@ public class MapBuilder<K, V> implements Builder<Map<K, V>> {
     public Map<K, V> build() {
         return map;
     }
+
+    /**
+     * Build a compact immutable copy of the {@link Map} for data that is never written again, see
+     * {@link MapUtil#freeze(Map)}. The builder can still be used afterwards.
+     *
+     * @return Immutable {@link Map}
+     * @author Fable
+     * @since 2026/10/17 22:20
+     */
+    public Map<K, V> buildFrozen() {
+        return MapUtil.freeze(map);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,13 @@ public class MapUtil {
 
     private static final int DEFAULT_INITIAL_CAPACITY = 1 << 4;
 
+    /**
+     * Default load factor of {@link HashMap} and {@link LinkedHashMap}
+     */
+    private static final float DEFAULT_LOAD_FACTOR = 0.75F;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
     /**
      * Check whether the {@link Map} is empty
      *
@@ -93,6 +100,71 @@ public class MapUtil {
         return isLinked ? new LinkedHashMap<>(initCapacity) : new HashMap<>(initCapacity);
     }
 
+    /**
+     * Create a {@link HashMap} that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     * @return {@link Map}
+     * @author Fable
+     * @since 2026/10/17 22:00
+     */
+    public static <K, V> Map<K, V> hashMapWithExpectedSize(int expectedSize) {
+        return hashMapWithExpectedSize(false, expectedSize);
+    }
+
+    /**
+     * Create a {@link LinkedHashMap}/{@link HashMap} that holds the expected number of entries without resizing.
+     * Unlike {@link #hashMap(boolean, int)}, whose size is the table capacity, the capacity is computed from the
+     * load factor: a {@link HashMap} created with capacity 16 resizes when the 13th entry is put.
+     *
+     * @param isLinked     IsLinked
+     * @param expectedSize Expected number of entries
+     * @return {@link Map}
+     * @author Fable
+     * @since 2026/10/17 22:00
+     */
+    public static <K, V> Map<K, V> hashMapWithExpectedSize(boolean isLinked, int expectedSize) {
+        final int initCapacity = capacity(expectedSize);
+        return isLinked ? new LinkedHashMap<>(initCapacity) : new HashMap<>(initCapacity);
+    }
+
+    /**
+     * Create a {@link ConcurrentHashMap} that holds the expected number of entries without resizing.
+     * {@link ConcurrentHashMap#ConcurrentHashMap(int)} already treats its argument as the expected number of
+     * entries and applies the load factor itself, so it is passed unchanged.
+     *
+     * @param expectedSize Expected number of entries
+     * @return {@link Map}
+     * @author Fable
+     * @since 2026/10/17 22:01
+     */
+    public static <K, V> Map<K, V> concurrentHashMapWithExpectedSize(int expectedSize) {
+        checkExpectedSize(expectedSize);
+        return new ConcurrentHashMap<>(expectedSize);
+    }
+
+    /**
+     * The initial capacity of a {@link HashMap} that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 22:02
+     */
+    static int capacity(int expectedSize) {
+        checkExpectedSize(expectedSize);
+        // 表容量为大于等于 initialCapacity 的 2 的幂, 阈值为容量 * 0.75
+        return expectedSize < MAXIMUM_CAPACITY * DEFAULT_LOAD_FACTOR
+                ? (int) Math.ceil(expectedSize / (double) DEFAULT_LOAD_FACTOR)
+                : MAXIMUM_CAPACITY;
+    }
+
+    private static void checkExpectedSize(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size must not be negative: " + expectedSize);
+        }
+    }
+
     /**
      * Create a {@link ConcurrentHashMap} with the default initial capacity
      *
@@ -116,6 +188,121 @@ public class MapUtil {
         return new ConcurrentHashMap<>(size > 0 ? size : DEFAULT_INITIAL_CAPACITY);
     }
 
+    /**
+     * Create a {@link LongObjectMap} with the default expected size
+     *
+     * @return {@link LongObjectMap}
+     * @author Fable
+     * @since 2026/10/17 21:10
+     */
+    public static <V> LongObjectMap<V> longObjectMap() {
+        return new LongObjectMap<>();
+    }
+
+    /**
+     * Create a {@link LongObjectMap} that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     * @return {@link LongObjectMap}
+     * @author Fable
+     * @since 2026/10/17 21:10
+     */
+    public static <V> LongObjectMap<V> longObjectMap(int expectedSize) {
+        return new LongObjectMap<>(expectedSize);
+    }
+
+    /**
+     * Create a {@link LongLongMap} with the default expected size
+     *
+     * @return {@link LongLongMap}
+     * @author Fable
+     * @since 2026/10/17 21:11
+     */
+    public static LongLongMap longLongMap() {
+        return new LongLongMap();
+    }
+
+    /**
+     * Create a {@link LongLongMap} that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     * @return {@link LongLongMap}
+     * @author Fable
+     * @since 2026/10/17 21:11
+     */
+    public static LongLongMap longLongMap(int expectedSize) {
+        return new LongLongMap(expectedSize);
+    }
+
+    /**
+     * Create an {@link IntObjectMap} with the default expected size
+     *
+     * @return {@link IntObjectMap}
+     * @author Fable
+     * @since 2026/10/17 21:12
+     */
+    public static <V> IntObjectMap<V> intObjectMap() {
+        return new IntObjectMap<>();
+    }
+
+    /**
+     * Create an {@link IntObjectMap} that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     * @return {@link IntObjectMap}
+     * @author Fable
+     * @since 2026/10/17 21:12
+     */
+    public static <V> IntObjectMap<V> intObjectMap(int expectedSize) {
+        return new IntObjectMap<>(expectedSize);
+    }
+
+    /**
+     * Create a {@link ConcurrentMultimap} with the default initial capacity
+     *
+     * @return {@link ConcurrentMultimap}
+     * @author Fable
+     * @since 2026/10/17 22:58
+     */
+    public static <K, V> ConcurrentMultimap<K, V> concurrentMultimap() {
+        return new ConcurrentMultimap<>();
+    }
+
+    /**
+     * Create a {@link ConcurrentMultimap} that holds the expected number of keys without resizing
+     *
+     * @param expectedKeys Expected number of keys
+     * @return {@link ConcurrentMultimap}
+     * @author Fable
+     * @since 2026/10/17 22:58
+     */
+    public static <K, V> ConcurrentMultimap<K, V> concurrentMultimap(int expectedKeys) {
+        return new ConcurrentMultimap<>(expectedKeys);
+    }
+
+    /**
+     * Create a {@link CountingMap} with the default initial capacity
+     *
+     * @return {@link CountingMap}
+     * @author Fable
+     * @since 2026/10/17 22:59
+     */
+    public static <K> CountingMap<K> countingMap() {
+        return new CountingMap<>();
+    }
+
+    /**
+     * Create a {@link CountingMap} that holds the expected number of keys without resizing
+     *
+     * @param expectedKeys Expected number of keys
+     * @return {@link CountingMap}
+     * @author Fable
+     * @since 2026/10/17 22:59
+     */
+    public static <K> CountingMap<K> countingMap(int expectedKeys) {
+        return new CountingMap<>(expectedKeys);
+    }
+
     /**
      * Create a {@link HashMap} based on key-value pairs
      *
@@ -169,7 +356,7 @@ public class MapUtil {
      */
     @SafeVarargs
     public static <K, V> Map<K, V> ofEntries(boolean isLinked, Map.Entry<K, V>... entries) {
-        final Map<K, V> map = hashMap(isLinked, entries.length);
+        final Map<K, V> map = hashMapWithExpectedSize(isLinked, entries.length);
 
         for (Map.Entry<K, V> entry : entries) {
             map.put(entry.getKey(), entry.getValue());
@@ -177,6 +364,20 @@ public class MapUtil {
         return map;
     }
 
+    /**
+     * Create a compact immutable copy of the {@link Map} that keeps its iteration order. Small maps are a flat array
+     * of keys and values that is scanned, larger ones lay the array out as a hash table where every lookup probes a
+     * single slot when the hash codes of the keys allow it. Null keys are not allowed.
+     *
+     * @param map {@link Map}
+     * @return Immutable {@link Map}
+     * @author Fable
+     * @since 2026/10/17 22:21
+     */
+    public static <K, V> Map<K, V> freeze(Map<? extends K, ? extends V> map) {
+        return FrozenMap.of(map);
+    }
+
     /**
      * Convert key-value pairs into {@link AbstractMap.SimpleImmutableEntry}, which is immutable.
      *
@@ -218,6 +419,18 @@ public class MapUtil {
         return builder(hashMap(DEFAULT_INITIAL_CAPACITY));
     }
 
+    /**
+     * Create a {@link MapBuilder} of a {@link HashMap} that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     * @return {@link MapBuilder}
+     * @author Fable
+     * @since 2026/10/17 22:03
+     */
+    public static <K, V> MapBuilder<K, V> builder(int expectedSize) {
+        return builder(hashMapWithExpectedSize(expectedSize));
+    }
+
     /**
      * Create a {@link MapBuilder} with the key-value pairs
      *
@@ -0,0 +1,130 @@
+package grey.fable.core.map;
+
+/**
+ * Sizing and hashing shared by the open-addressing primitive maps. The table capacity is a power of two and a key
+ * is placed by Fibonacci hashing: the key is multiplied by 2^64 / φ and the high bits select the slot, so keys that
+ * only differ in their low bits, like the sequence numbers of Snowflake IDs, are spread over the table. <br />
+ * 开放寻址原始类型 Map 的容量与哈希计算
+ *
+ * @author Fable
+ * @since 2026/10/17 20:35
+ */
+final class PrimitiveHashing {
+
+    private PrimitiveHashing() {
+    }
+
+    /**
+     * 2^64 / φ
+     */
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    static final int MIN_CAPACITY = 8;
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Maximum capacity of a table that stores two {@code long} per slot in one array, whose length must stay an
+     * {@code int}
+     */
+    static final int MAX_INTERLEAVED_CAPACITY = MAX_CAPACITY >> 1;
+
+    /**
+     * Default number of entries
+     */
+    static final int DEFAULT_EXPECTED_SIZE = 12;
+
+    /**
+     * Resize when the table is more than 3/4 full
+     */
+    static final float LOAD_FACTOR = 0.75F;
+
+    /**
+     * The capacity that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     * @return A power of two
+     * @author Fable
+     * @since 2026/10/17 20:36
+     */
+    static int capacityFor(int expectedSize) {
+        return capacityFor(expectedSize, MAX_CAPACITY);
+    }
+
+    /**
+     * The capacity that holds the expected number of entries without resizing
+     *
+     * @param expectedSize Expected number of entries
+     * @param maxCapacity  Maximum capacity of the table, a power of two
+     * @return A power of two
+     * @author Fable
+     * @since 2026/10/17 23:59
+     */
+    static int capacityFor(int expectedSize, int maxCapacity) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size must not be negative: " + expectedSize);
+        }
+        final long wanted = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+        if (wanted > maxCapacity) {
+            throw new IllegalArgumentException("The expected size is too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+
+    static int thresholdOf(int capacity) {
+        return (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Shift that keeps the high bits of the hash selecting a slot of the capacity
+     *
+     * @param capacity A power of two
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 20:37
+     */
+    static int shiftOf(int capacity) {
+        return Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    /**
+     * The ideal slot of a key
+     *
+     * @param key   Key
+     * @param shift {@link #shiftOf(int)}
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 20:37
+     */
+    static int slot(long key, int shift) {
+        return (int) ((key * GOLDEN) >>> shift);
+    }
+
+    /**
+     * The capacity to grow to when the table is full
+     *
+     * @param capacity Current capacity
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 20:38
+     */
+    static int grow(int capacity) {
+        return grow(capacity, MAX_CAPACITY);
+    }
+
+    /**
+     * The capacity to grow to when the table is full
+     *
+     * @param capacity    Current capacity
+     * @param maxCapacity Maximum capacity of the table, a power of two
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 23:59
+     */
+    static int grow(int capacity, int maxCapacity) {
+        if (capacity >= maxCapacity) {
+            throw new IllegalStateException("The map is full: " + thresholdOf(capacity) + " entries.");
+        }
+        return capacity << 1;
+    }
+}
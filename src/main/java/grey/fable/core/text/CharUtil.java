@@ -1,5 +1,7 @@
 package grey.fable.core.text;
 
+import java.util.Arrays;
+
 /**
  * Char utility class
  *
@@ -12,7 +14,57 @@ public class CharUtil {
     }
 
     /**
-     * Check whether the char is blank
+     * Number of chars of a block of the table, the low byte of a char
+     */
+    private static final int BLOCK_SIZE = 256;
+
+    /**
+     * Number of {@code long} words of a block
+     */
+    private static final int BLOCK_WORDS = BLOCK_SIZE / Long.SIZE;
+
+    /**
+     * First level of the BMP table: the block of each high byte of a char. Blocks without blanks all share block 0.
+     */
+    private static final byte[] BLOCK_INDEX = new byte[(Character.MAX_VALUE + 1) / BLOCK_SIZE];
+
+    /**
+     * Second level of the BMP table: the blank bits of the distinct blocks, {@link #BLOCK_WORDS} words per block.
+     * Built from {@link #isBlankByRules(int)} at class load, so it is exactly equivalent to the rules.
+     */
+    private static final long[] BLOCKS;
+
+    static {
+        final long[][] distinct = new long[BLOCK_INDEX.length][];
+        distinct[0] = new long[BLOCK_WORDS];
+        int count = 1;
+        for (int high = 0; high < BLOCK_INDEX.length; high++) {
+            final long[] block = new long[BLOCK_WORDS];
+            for (int low = 0; low < BLOCK_SIZE; low++) {
+                if (isBlankByRules(high * BLOCK_SIZE + low)) {
+                    block[low / Long.SIZE] |= 1L << low;
+                }
+            }
+            // 相同内容的块只保存一份, 绝大多数块都是不含空白字符的块 0
+            int index = 0;
+            while (index < count && !Arrays.equals(distinct[index], block)) {
+                index++;
+            }
+            if (index == count) {
+                distinct[count++] = block;
+            }
+            BLOCK_INDEX[high] = (byte) index;
+        }
+
+        BLOCKS = new long[count * BLOCK_WORDS];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(distinct[i], 0, BLOCKS, i * BLOCK_WORDS, BLOCK_WORDS);
+        }
+    }
+
+    /**
+     * Check whether the char is blank. Chars of the BMP are looked up in a two-level table,
+     * supplementary code points are checked against the full Unicode rules.
      *
      * @param ch int
      * @return {@link boolean}
@@ -20,6 +72,37 @@ public class CharUtil {
      * @since 2024/5/16 15:14
      */
     public static boolean isBlank(int ch) {
+        if (ch >= 0 && ch <= Character.MAX_VALUE) {
+            // 高 8 位选块, 低 8 位选块内的位, long 的移位只取低 6 位
+            final int word = (BLOCK_INDEX[ch >>> 8] & 0xFF) * BLOCK_WORDS + ((ch & 0xFF) >>> 6);
+            return 0 != (BLOCKS[word] & (1L << ch));
+        }
+        return isBlankByRules(ch);
+    }
+
+    /**
+     * Check whether the code point at the index is blank. Unlike {@link #isBlank(int)} on a single char, a surrogate
+     * pair is checked as the supplementary code point it encodes, an unpaired surrogate is not blank.
+     *
+     * @param cs    {@link CharSequence}
+     * @param index Index of the char, or of the high surrogate of a pair
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 19:20
+     */
+    public static boolean isBlankCodePointAt(CharSequence cs, int index) {
+        return isBlank(Character.codePointAt(cs, index));
+    }
+
+    /**
+     * The definition of a blank char: whitespace, space separators, and a few invisible chars
+     *
+     * @param ch int
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 19:10
+     */
+    private static boolean isBlankByRules(int ch) {
         return Character.isWhitespace(ch)
                 || Character.isSpaceChar(ch)
                 || ch == '⠀'
@@ -0,0 +1,133 @@
+package grey.fable.core.text;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Reusable list of {@code (offset, length)} views into a text that is not copied, e.g. the fields found by
+ * {@link Utf8Util#split(byte[], int, int, byte[], Spans)}. The pairs are stored in a single {@code int[]} that only
+ * grows, so a {@link Spans} that is {@link #clear() cleared} and reused does not allocate. Not thread-safe. <br />
+ * 可复用的 (偏移量, 长度) 视图列表
+ *
+ * @author Fable
+ * @since 2026/10/17 19:30
+ */
+public final class Spans {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * {@code [offset0, length0, offset1, length1, ...]}
+     */
+    private int[] pairs;
+
+    private int size;
+
+    public Spans() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public Spans(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity must not be negative: " + capacity);
+        }
+        this.pairs = new int[capacity * 2];
+    }
+
+    /**
+     * Append a view
+     *
+     * @param offset Offset of the view
+     * @param length Length of the view
+     * @author Fable
+     * @since 2026/10/17 19:31
+     */
+    public void add(int offset, int length) {
+        if (size * 2 == pairs.length) {
+            pairs = Arrays.copyOf(pairs, Math.max(DEFAULT_CAPACITY * 2, pairs.length * 2));
+        }
+        pairs[size * 2] = offset;
+        pairs[size * 2 + 1] = length;
+        size++;
+    }
+
+    /**
+     * Offset of the view at the index
+     *
+     * @param index Index of the view
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 19:32
+     */
+    public int offset(int index) {
+        return pairs[Objects.checkIndex(index, size) * 2];
+    }
+
+    /**
+     * Length of the view at the index
+     *
+     * @param index Index of the view
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 19:32
+     */
+    public int length(int index) {
+        return pairs[Objects.checkIndex(index, size) * 2 + 1];
+    }
+
+    /**
+     * End (exclusive) of the view at the index
+     *
+     * @param index Index of the view
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 19:33
+     */
+    public int end(int index) {
+        return offset(index) + length(index);
+    }
+
+    /**
+     * Move the offsets of the views from the index on, used to turn array indexes into buffer indexes
+     *
+     * @param from  Index of the first view to move
+     * @param delta Added to the offsets
+     * @author Fable
+     * @since 2026/10/17 19:34
+     */
+    void shift(int from, int delta) {
+        for (int i = from; i < size; i++) {
+            pairs[i * 2] += delta;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    /**
+     * Remove all views and keep the capacity
+     *
+     * @author Fable
+     * @since 2026/10/17 19:33
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (0 != i) {
+                sb.append(", ");
+            }
+            sb.append(pairs[i * 2]).append('+').append(pairs[i * 2 + 1]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,230 @@
+package grey.fable.core.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Replace several literal targets in one pass over the text with a precomputed Aho-Corasick automaton, no regex.
+ * Immutable and thread-safe once built, so it is meant to be built once and kept. <br />
+ * 基于 Aho-Corasick 自动机的多模式替换, 构建一次后可并发复用
+ * <pre>
+ *     StringReplacer replacer = StringReplacer.of(Map.of("&amp;", "&amp;amp;", "&lt;", "&amp;lt;", "&gt;", "&amp;gt;"));
+ *     String html = replacer.replace(text);
+ * </pre>
+ * Matches do not overlap and are chosen leftmost first, and the longest target among those starting at the same
+ * index, e.g. targets {@code "ab"} and {@code "abc"} replace {@code "abc"} in {@code "abcd"}. Replacements are not
+ * scanned again.
+ *
+ * @author Fable
+ * @since 2026/10/17 20:15
+ */
+public final class StringReplacer {
+
+    private static final int ROOT = 0;
+
+    /**
+     * Sorted chars of the transitions of each state
+     */
+    private final char[][] keys;
+
+    /**
+     * Target states of the transitions, parallel to {@link #keys}
+     */
+    private final int[][] targets;
+
+    /**
+     * State reached on a mismatch: the longest proper suffix of the state that is also a state
+     */
+    private final int[] fail;
+
+    /**
+     * Length of the prefix of a target that the state stands for
+     */
+    private final int[] depth;
+
+    /**
+     * Length of the longest target that is a suffix of the state, 0 if none
+     */
+    private final int[] matchLength;
+
+    /**
+     * Replacement of that target
+     */
+    private final String[] replacement;
+
+    private StringReplacer(Map<String, String> replacements) {
+        // 先用 TreeMap 构建字典树, 再压缩成有序数组
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<Integer> depths = new ArrayList<>();
+        final List<String> outputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        depths.add(0);
+        outputs.add(null);
+        for (Map.Entry<String, String> entry : replacements.entrySet()) {
+            final String target = entry.getKey();
+            if (null == target || target.isEmpty()) {
+                throw new IllegalArgumentException("The targets must not be empty.");
+            }
+            if (null == entry.getValue()) {
+                throw new IllegalArgumentException("The replacement of " + target + " must not be null.");
+            }
+            int state = ROOT;
+            for (int i = 0; i < target.length(); i++) {
+                Integer next = trie.get(state).get(target.charAt(i));
+                if (null == next) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    depths.add(i + 1);
+                    outputs.add(null);
+                    trie.get(state).put(target.charAt(i), next);
+                }
+                state = next;
+            }
+            outputs.set(state, entry.getValue());
+        }
+
+        final int size = trie.size();
+        this.keys = new char[size][];
+        this.targets = new int[size][];
+        this.fail = new int[size];
+        this.depth = new int[size];
+        this.matchLength = new int[size];
+        this.replacement = new String[size];
+        for (int state = 0; state < size; state++) {
+            final TreeMap<Character, Integer> transitions = trie.get(state);
+            keys[state] = new char[transitions.size()];
+            targets[state] = new int[transitions.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                keys[state][i] = transition.getKey();
+                targets[state][i++] = transition.getValue();
+            }
+            depth[state] = depths.get(state);
+        }
+
+        // 广度优先计算失配指针, 父状态总是先于子状态处理
+        final Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            if (null != outputs.get(state)) {
+                matchLength[state] = depth[state];
+                replacement[state] = outputs.get(state);
+            } else if (ROOT != state) {
+                matchLength[state] = matchLength[fail[state]];
+                replacement[state] = replacement[fail[state]];
+            }
+            for (int i = 0; i < keys[state].length; i++) {
+                final int child = targets[state][i];
+                fail[child] = ROOT == state ? ROOT : next(fail[state], keys[state][i]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Create a {@link StringReplacer}
+     *
+     * @param replacements Target to replacement, targets must not be empty
+     * @return {@link StringReplacer}
+     * @author Fable
+     * @since 2026/10/17 20:16
+     */
+    public static StringReplacer of(Map<String, String> replacements) {
+        return new StringReplacer(replacements);
+    }
+
+    /**
+     * Replace all targets
+     *
+     * @param cs {@link CharSequence}
+     * @return {@link String}, the input itself if it is a {@link String} without targets
+     * @author Fable
+     * @since 2026/10/17 20:17
+     */
+    public String replace(CharSequence cs) {
+        final StringBuilder sb = new StringBuilder(cs.length());
+        return appendReplaced(cs, sb) ? sb.toString() : cs.toString();
+    }
+
+    /**
+     * Replace all targets and append the result to the builder, which can be reused
+     *
+     * @param cs {@link CharSequence}
+     * @param sb Target of the result
+     * @return Whether any target was found
+     * @author Fable
+     * @since 2026/10/17 20:18
+     */
+    public boolean replace(CharSequence cs, StringBuilder sb) {
+        if (appendReplaced(cs, sb)) {
+            return true;
+        }
+        sb.append(cs);
+        return false;
+    }
+
+    /**
+     * Append the result to the builder only if any target is found
+     *
+     * @return Whether any target was found
+     */
+    private boolean appendReplaced(CharSequence cs, StringBuilder sb) {
+        final int length = cs.length();
+        int copied = 0;
+        int state = ROOT;
+        // 候选匹配: 起点最靠左, 起点相同时最长
+        int matchStart = -1;
+        int matchEnd = -1;
+        int matchState = ROOT;
+        int i = 0;
+        while (true) {
+            if (i < length) {
+                state = next(state, cs.charAt(i++));
+                final int found = matchLength[state];
+                if (0 != found && (matchStart < 0 || i - found < matchStart
+                        || (i - found == matchStart && i > matchEnd))) {
+                    matchStart = i - found;
+                    matchEnd = i;
+                    matchState = state;
+                }
+                // 当前状态对应的前缀起点已越过候选起点, 之后不可能出现更靠左或更长的匹配
+                if (matchStart < 0 || i - depth[state] <= matchStart) {
+                    continue;
+                }
+            } else if (matchStart < 0) {
+                break;
+            }
+
+            sb.append(cs, copied, matchStart).append(replacement[matchState]);
+            copied = matchEnd;
+            i = matchEnd;
+            state = ROOT;
+            matchStart = -1;
+        }
+
+        if (0 == copied) {
+            return false;
+        }
+        sb.append(cs, copied, length);
+        return true;
+    }
+
+    private int next(int state, char ch) {
+        for (; ; ) {
+            final int index = Arrays.binarySearch(keys[state], ch);
+            if (index >= 0) {
+                return targets[state][index];
+            }
+            if (ROOT == state) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+}
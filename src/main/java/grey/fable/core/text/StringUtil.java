@@ -1,5 +1,12 @@
 package grey.fable.core.text;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
 /**
  * {@link String} utility class
  *
@@ -9,6 +16,11 @@ package grey.fable.core.text;
 @SuppressWarnings("unused")
 public class StringUtil {
 
+    /**
+     * Blank bits of the chars below 64, all ASCII blanks are below 64
+     */
+    private static final long ASCII_BLANKS = asciiBlanks();
+
     private StringUtil() {
     }
 
@@ -37,7 +49,9 @@ public class StringUtil {
     }
 
     /**
-     * Check whether the {@link CharSequence} is blank
+     * Check whether the {@link CharSequence} is blank, see {@link CharUtil#isBlank(int)}.
+     * ASCII chars are checked against a single bit mask, the scan only switches to the table of {@link CharUtil}
+     * from the first non-ASCII char on.
      *
      * @param cs {@link CharSequence}
      * @return {@link boolean}
@@ -45,12 +59,26 @@ public class StringUtil {
      * @since 2024/5/16 15:13
      */
     public static boolean isBlank(CharSequence cs) {
-        final int length;
-        if (null == cs || 0 == (length = cs.length())) {
+        if (null == cs) {
             return true;
         }
 
+        final int length = cs.length();
         for (int i = 0; i < length; i++) {
+            final char ch = cs.charAt(i);
+            if (ch >= 0x80) {
+                return isBlankFrom(cs, i, length);
+            }
+            // 64 及以上的 ASCII 字符都不是空白
+            if (ch >= Long.SIZE || 0 == (ASCII_BLANKS & (1L << ch))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlankFrom(CharSequence cs, int from, int length) {
+        for (int i = from; i < length; i++) {
             if (CharUtil.isNotBlank(cs.charAt(i))) {
                 return false;
             }
@@ -58,6 +86,19 @@ public class StringUtil {
         return true;
     }
 
+    private static long asciiBlanks() {
+        long blanks = 0L;
+        for (int ch = 0; ch < 0x80; ch++) {
+            if (CharUtil.isBlank(ch)) {
+                if (ch >= Long.SIZE) {
+                    throw new IllegalStateException("The ASCII blank does not fit the mask: " + ch);
+                }
+                blanks |= 1L << ch;
+            }
+        }
+        return blanks;
+    }
+
     /**
      * Check whether the {@link CharSequence} is not blank
      *
@@ -69,4 +110,436 @@ public class StringUtil {
     public static boolean isNotBlank(CharSequence cs) {
         return !isBlank(cs);
     }
-}
\ No newline at end of file
+
+    /**
+     * Check whether the {@link CharSequence} is blank by code points instead of chars, see
+     * {@link CharUtil#isBlankCodePointAt(CharSequence, int)}: a surrogate pair is checked as one supplementary
+     * code point.
+     *
+     * @param cs {@link CharSequence}
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 19:22
+     */
+    public static boolean isBlankCodePoints(CharSequence cs) {
+        if (null == cs) {
+            return true;
+        }
+
+        for (int i = 0, length = cs.length(); i < length; ) {
+            final int codePoint = Character.codePointAt(cs, i);
+            if (CharUtil.isNotBlank(codePoint)) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    /**
+     * Remove the leading and trailing blank chars, see {@link CharUtil#isBlank(int)}. Unlike {@link String#trim()},
+     * Unicode blanks such as ideographic spaces are removed too.
+     *
+     * @param cs {@link CharSequence}
+     * @return {@link String}, null if the input is null
+     * @author Fable
+     * @since 2026/10/17 20:00
+     */
+    public static String trim(CharSequence cs) {
+        if (null == cs) {
+            return null;
+        }
+        final int start = trimStart(cs);
+        final int end = start == cs.length() ? start : trimEnd(cs);
+        return substring(cs, start, end);
+    }
+
+    /**
+     * The index of the first char that is not blank
+     *
+     * @param cs {@link CharSequence}
+     * @return Index in {@code [0, length]}, {@code length} if the input is blank
+     * @author Fable
+     * @since 2026/10/17 20:01
+     */
+    public static int trimStart(CharSequence cs) {
+        final int length = cs.length();
+        int start = 0;
+        while (start < length && CharUtil.isBlank(cs.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * The index after the last char that is not blank
+     *
+     * @param cs {@link CharSequence}
+     * @return Index in {@code [0, length]}, 0 if the input is blank
+     * @author Fable
+     * @since 2026/10/17 20:01
+     */
+    public static int trimEnd(CharSequence cs) {
+        int end = cs.length();
+        while (end > 0 && CharUtil.isBlank(cs.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Remove the leading and trailing blank code points, see {@link #isBlankCodePoints(CharSequence)}.
+     * Same as {@link #trim(CharSequence)} except that surrogate pairs are checked as code points.
+     *
+     * @param cs {@link CharSequence}
+     * @return {@link String}, null if the input is null
+     * @author Fable
+     * @since 2026/10/17 20:02
+     */
+    public static String strip(CharSequence cs) {
+        if (null == cs) {
+            return null;
+        }
+
+        int start = 0;
+        int end = cs.length();
+        while (start < end) {
+            final int codePoint = Character.codePointAt(cs, start);
+            if (CharUtil.isNotBlank(codePoint)) {
+                break;
+            }
+            start += Character.charCount(codePoint);
+        }
+        while (end > start) {
+            final int codePoint = Character.codePointBefore(cs, end);
+            if (CharUtil.isNotBlank(codePoint)) {
+                break;
+            }
+            end -= Character.charCount(codePoint);
+        }
+        return substring(cs, start, end);
+    }
+
+    /**
+     * Split by a char without regex. Empty fields are kept, like {@code String.split(regex, -1)}, so {@code n}
+     * separators give {@code n + 1} fields. The list is sized for the number of fields.
+     *
+     * @param cs        {@link CharSequence}
+     * @param separator Separator
+     * @return {@link List}, empty if the input is null
+     * @author Fable
+     * @since 2026/10/17 20:03
+     */
+    public static List<String> split(CharSequence cs, char separator) {
+        if (null == cs) {
+            return new ArrayList<>(0);
+        }
+
+        int count = 1;
+        for (int i = 0, length = cs.length(); i < length; i++) {
+            if (cs.charAt(i) == separator) {
+                count++;
+            }
+        }
+        final List<String> fields = new ArrayList<>(count);
+        split(cs, separator, fields);
+        return fields;
+    }
+
+    /**
+     * Split by a char into the collection, which can be cleared and reused. See {@link #split(CharSequence, char)}.
+     *
+     * @param cs        {@link CharSequence}
+     * @param separator Separator
+     * @param fields    Target of the fields, not cleared first
+     * @return The number of fields added
+     * @author Fable
+     * @since 2026/10/17 20:04
+     */
+    public static int split(CharSequence cs, char separator, Collection<? super String> fields) {
+        final int length = cs.length();
+        int start = 0;
+        int count = 1;
+        int index;
+        while ((index = indexOf(cs, separator, start)) >= 0) {
+            fields.add(substring(cs, start, index));
+            start = index + 1;
+            count++;
+        }
+        fields.add(substring(cs, start, length));
+        return count;
+    }
+
+    /**
+     * Split by a char into {@code (offset, length)} views, no string is created. See
+     * {@link #split(CharSequence, char)}.
+     *
+     * @param cs        {@link CharSequence}
+     * @param separator Separator
+     * @param spans     Target of the views, not cleared first
+     * @return The number of views added
+     * @author Fable
+     * @since 2026/10/17 20:05
+     */
+    public static int split(CharSequence cs, char separator, Spans spans) {
+        final int length = cs.length();
+        int start = 0;
+        int count = 1;
+        int index;
+        while ((index = indexOf(cs, separator, start)) >= 0) {
+            spans.add(start, index - start);
+            start = index + 1;
+            count++;
+        }
+        spans.add(start, length - start);
+        return count;
+    }
+
+    /**
+     * Split by a literal string without regex. Empty fields are kept, like {@code String.split(regex, -1)}.
+     *
+     * @param cs        {@link CharSequence}
+     * @param separator Separator, must not be empty
+     * @return {@link List}, empty if the input is null
+     * @author Fable
+     * @since 2026/10/17 20:06
+     */
+    public static List<String> split(CharSequence cs, String separator) {
+        final List<String> fields = new ArrayList<>();
+        if (null != cs) {
+            split(cs, separator, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Split by a literal string into the collection, which can be cleared and reused.
+     * See {@link #split(CharSequence, String)}.
+     *
+     * @param cs        {@link CharSequence}
+     * @param separator Separator, must not be empty
+     * @param fields    Target of the fields, not cleared first
+     * @return The number of fields added
+     * @author Fable
+     * @since 2026/10/17 20:07
+     */
+    public static int split(CharSequence cs, String separator, Collection<? super String> fields) {
+        checkSeparator(separator);
+        final int length = cs.length();
+        int start = 0;
+        int count = 1;
+        int index;
+        while ((index = indexOf(cs, separator, start)) >= 0) {
+            fields.add(substring(cs, start, index));
+            start = index + separator.length();
+            count++;
+        }
+        fields.add(substring(cs, start, length));
+        return count;
+    }
+
+    /**
+     * Split by a literal string into {@code (offset, length)} views, no string is created.
+     * See {@link #split(CharSequence, String)}.
+     *
+     * @param cs        {@link CharSequence}
+     * @param separator Separator, must not be empty
+     * @param spans     Target of the views, not cleared first
+     * @return The number of views added
+     * @author Fable
+     * @since 2026/10/17 20:08
+     */
+    public static int split(CharSequence cs, String separator, Spans spans) {
+        checkSeparator(separator);
+        final int length = cs.length();
+        int start = 0;
+        int count = 1;
+        int index;
+        while ((index = indexOf(cs, separator, start)) >= 0) {
+            spans.add(start, index - start);
+            start = index + separator.length();
+            count++;
+        }
+        spans.add(start, length - start);
+        return count;
+    }
+
+    /**
+     * Split by a literal string lazily: each field is only found and created when the iterator reaches it, so a
+     * loop that stops early does not scan the rest. Each call of {@link Iterable#iterator()} starts over.
+     * The input must not change while iterating. See {@link #split(CharSequence, String)}.
+     * <pre>
+     *     for (String line : StringUtil.splitLazily(text, "\n")) {
+     *         if (line.startsWith("#")) {
+     *             break;
+     *         }
+     *     }
+     * </pre>
+     *
+     * @param cs        {@link CharSequence}
+     * @param separator Separator, must not be empty
+     * @return {@link Iterable}, without fields if the input is null
+     * @author Fable
+     * @since 2026/10/17 20:09
+     */
+    public static Iterable<String> splitLazily(CharSequence cs, String separator) {
+        checkSeparator(separator);
+        return null == cs ? List.of() : () -> new SplitIterator(cs, separator);
+    }
+
+    /**
+     * Join with a delimiter into a builder sized for the result. Null elements are joined as {@code "null"},
+     * like {@link String#join(CharSequence, Iterable)}.
+     *
+     * @param delimiter Delimiter
+     * @param elements  Elements
+     * @return {@link String}
+     * @author Fable
+     * @since 2026/10/17 20:10
+     */
+    public static String join(CharSequence delimiter, Collection<? extends CharSequence> elements) {
+        int capacity = Math.max(0, elements.size() - 1) * delimiter.length();
+        for (CharSequence element : elements) {
+            capacity += null == element ? 4 : element.length();
+        }
+
+        final StringBuilder sb = new StringBuilder(capacity);
+        boolean isFirst = true;
+        for (CharSequence element : elements) {
+            if (!isFirst) {
+                sb.append(delimiter);
+            }
+            sb.append(element);
+            isFirst = false;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Join with a delimiter into a builder sized for the result, see {@link #join(CharSequence, Collection)}
+     *
+     * @param delimiter Delimiter
+     * @param elements  Elements
+     * @return {@link String}
+     * @author Fable
+     * @since 2026/10/17 20:10
+     */
+    public static String join(CharSequence delimiter, CharSequence... elements) {
+        int capacity = Math.max(0, elements.length - 1) * delimiter.length();
+        for (CharSequence element : elements) {
+            capacity += null == element ? 4 : element.length();
+        }
+
+        final StringBuilder sb = new StringBuilder(capacity);
+        for (int i = 0; i < elements.length; i++) {
+            if (0 != i) {
+                sb.append(delimiter);
+            }
+            sb.append(elements[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Replace all occurrences of the targets at once, see {@link StringReplacer}. Builds the automaton on every
+     * call, keep a {@link StringReplacer} to replace the same targets repeatedly.
+     *
+     * @param cs           {@link CharSequence}
+     * @param replacements Target to replacement
+     * @return {@link String}, null if the input is null
+     * @author Fable
+     * @since 2026/10/17 20:11
+     */
+    public static String replace(CharSequence cs, Map<String, String> replacements) {
+        return null == cs ? null : StringReplacer.of(replacements).replace(cs);
+    }
+
+    private static String substring(CharSequence cs, int start, int end) {
+        return cs instanceof String ? ((String) cs).substring(start, end) : cs.subSequence(start, end).toString();
+    }
+
+    private static int indexOf(CharSequence cs, char ch, int from) {
+        if (cs instanceof String) {
+            return ((String) cs).indexOf(ch, from);
+        }
+        for (int i = from, length = cs.length(); i < length; i++) {
+            if (cs.charAt(i) == ch) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSequence cs, String str, int from) {
+        if (cs instanceof String) {
+            return ((String) cs).indexOf(str, from);
+        }
+        if (cs instanceof StringBuilder) {
+            return ((StringBuilder) cs).indexOf(str, from);
+        }
+        final char first = str.charAt(0);
+        for (int i = from, last = cs.length() - str.length(); i <= last; i++) {
+            if (cs.charAt(i) == first && regionMatches(cs, i, str)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(CharSequence cs, int offset, String str) {
+        for (int i = 1; i < str.length(); i++) {
+            if (cs.charAt(offset + i) != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void checkSeparator(String separator) {
+        if (null == separator || separator.isEmpty()) {
+            throw new IllegalArgumentException("The separator must not be empty.");
+        }
+    }
+
+    /**
+     * Iterator of {@link #splitLazily(CharSequence, String)}
+     */
+    private static final class SplitIterator implements Iterator<String> {
+
+        private final CharSequence cs;
+
+        private final String separator;
+
+        /**
+         * Start of the next field, -1 after the last field
+         */
+        private int start;
+
+        private SplitIterator(CharSequence cs, String separator) {
+            this.cs = cs;
+            this.separator = separator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return start >= 0;
+        }
+
+        @Override
+        public String next() {
+            if (start < 0) {
+                throw new NoSuchElementException();
+            }
+            final int index = indexOf(cs, separator, start);
+            final String field;
+            if (index < 0) {
+                field = substring(cs, start, cs.length());
+                start = -1;
+            } else {
+                field = substring(cs, start, index);
+                start = index + separator.length();
+            }
+            return field;
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package grey.fable.core.text;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * UTF-8 text utility class. Counterparts of {@link StringUtil} that run directly over UTF-8 encoded {@code byte[]}
+ * and {@link ByteBuffer} (heap or direct), without decoding into a {@link String} and without allocating.
+ * Blank code points are those of {@link CharUtil#isBlank(int)}; malformed bytes are never blank. <br />
+ * UTF-8 文本工具类, 直接处理 UTF-8 字节, 不解码也不分配对象
+ * <p>
+ * The methods over a {@link ByteBuffer} look at the bytes between its position and limit and never change the
+ * position; the indexes they return are absolute indexes of the buffer. Since UTF-8 is self-synchronizing, a
+ * valid UTF-8 pattern found by {@link #indexOf(byte[], int, int, byte[])} always starts on a code point boundary.
+ *
+ * @author Fable
+ * @since 2026/10/17 19:35
+ */
+public class Utf8Util {
+
+    private Utf8Util() {
+    }
+
+    /**
+     * Check whether the bytes are empty
+     *
+     * @param bytes {@code byte[]}
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 19:36
+     */
+    public static boolean isEmpty(byte[] bytes) {
+        return null == bytes || 0 == bytes.length;
+    }
+
+    /**
+     * Check whether the buffer has no remaining bytes
+     *
+     * @param buffer {@link ByteBuffer}
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 19:36
+     */
+    public static boolean isEmpty(ByteBuffer buffer) {
+        return null == buffer || !buffer.hasRemaining();
+    }
+
+    /**
+     * Check whether the UTF-8 bytes are blank
+     *
+     * @param bytes {@code byte[]}
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 19:37
+     */
+    public static boolean isBlank(byte[] bytes) {
+        return null == bytes || isBlank(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Check whether the range of UTF-8 bytes is blank
+     *
+     * @param bytes  {@code byte[]}
+     * @param offset Start of the range
+     * @param length Length of the range
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 19:37
+     */
+    public static boolean isBlank(byte[] bytes, int offset, int length) {
+        return offset + length == trimStart(bytes, offset, length);
+    }
+
+    /**
+     * Check whether the remaining UTF-8 bytes of the buffer are blank
+     *
+     * @param buffer {@link ByteBuffer}
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 19:38
+     */
+    public static boolean isBlank(ByteBuffer buffer) {
+        return null == buffer || buffer.limit() == trimStart(buffer);
+    }
+
+    public static boolean isNotBlank(byte[] bytes) {
+        return !isBlank(bytes);
+    }
+
+    public static boolean isNotBlank(ByteBuffer buffer) {
+        return !isBlank(buffer);
+    }
+
+    /**
+     * The index of the first byte that does not belong to a leading blank code point
+     *
+     * @param bytes  {@code byte[]}
+     * @param offset Start of the range
+     * @param length Length of the range
+     * @return Index in {@code [offset, offset + length]}, {@code offset + length} if the range is blank
+     * @author Fable
+     * @since 2026/10/17 19:39
+     */
+    public static int trimStart(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        final int end = offset + length;
+        int index = offset;
+        while (index < end) {
+            final int blank = blankLength(bytes, index, end);
+            if (0 == blank) {
+                break;
+            }
+            index += blank;
+        }
+        return index;
+    }
+
+    /**
+     * The index after the last byte that does not belong to a trailing blank code point
+     *
+     * @param bytes  {@code byte[]}
+     * @param offset Start of the range
+     * @param length Length of the range
+     * @return Index in {@code [offset, offset + length]}, {@code offset} if the range is blank
+     * @author Fable
+     * @since 2026/10/17 19:40
+     */
+    public static int trimEnd(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int index = offset + length;
+        while (index > offset) {
+            final int blank = blankLengthBefore(bytes, offset, index);
+            if (0 == blank) {
+                break;
+            }
+            index -= blank;
+        }
+        return index;
+    }
+
+    /**
+     * The absolute index of the first remaining byte that does not belong to a leading blank code point
+     *
+     * @param buffer {@link ByteBuffer}
+     * @return Index in {@code [position, limit]}, {@code limit} if the remaining bytes are blank
+     * @author Fable
+     * @since 2026/10/17 19:41
+     */
+    public static int trimStart(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            final int base = buffer.arrayOffset();
+            return trimStart(buffer.array(), base + buffer.position(), buffer.remaining()) - base;
+        }
+        final int end = buffer.limit();
+        int index = buffer.position();
+        while (index < end) {
+            final int blank = blankLength(buffer, index, end);
+            if (0 == blank) {
+                break;
+            }
+            index += blank;
+        }
+        return index;
+    }
+
+    /**
+     * The absolute index after the last remaining byte that does not belong to a trailing blank code point
+     *
+     * @param buffer {@link ByteBuffer}
+     * @return Index in {@code [position, limit]}, {@code position} if the remaining bytes are blank
+     * @author Fable
+     * @since 2026/10/17 19:42
+     */
+    public static int trimEnd(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            final int base = buffer.arrayOffset();
+            return trimEnd(buffer.array(), base + buffer.position(), buffer.remaining()) - base;
+        }
+        final int start = buffer.position();
+        int index = buffer.limit();
+        while (index > start) {
+            final int blank = blankLengthBefore(buffer, start, index);
+            if (0 == blank) {
+                break;
+            }
+            index -= blank;
+        }
+        return index;
+    }
+
+    /**
+     * The index of the first occurrence of the pattern in the range
+     *
+     * @param bytes   {@code byte[]}
+     * @param offset  Start of the range
+     * @param length  Length of the range
+     * @param pattern UTF-8 bytes to find, must not be empty
+     * @return Index of the first byte of the occurrence, or -1 if not found
+     * @author Fable
+     * @since 2026/10/17 19:43
+     */
+    public static int indexOf(byte[] bytes, int offset, int length, byte[] pattern) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        checkPattern(pattern);
+        final byte first = pattern[0];
+        final int last = offset + length - pattern.length;
+        for (int i = offset; i <= last; i++) {
+            if (bytes[i] == first && matches(bytes, i, pattern)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The absolute index of the first occurrence of the pattern in the remaining bytes of the buffer
+     *
+     * @param buffer  {@link ByteBuffer}
+     * @param pattern UTF-8 bytes to find, must not be empty
+     * @return Index of the first byte of the occurrence, or -1 if not found
+     * @author Fable
+     * @since 2026/10/17 19:44
+     */
+    public static int indexOf(ByteBuffer buffer, byte[] pattern) {
+        if (buffer.hasArray()) {
+            final int base = buffer.arrayOffset();
+            final int index = indexOf(buffer.array(), base + buffer.position(), buffer.remaining(), pattern);
+            return index < 0 ? index : index - base;
+        }
+        return indexOf(buffer, buffer.position(), buffer.limit(), pattern);
+    }
+
+    /**
+     * Split the range by the delimiter into views appended to the {@link Spans}, nothing is copied.
+     * Like {@code String.split(regex, -1)}, empty fields are kept, so {@code n} delimiters give {@code n + 1} views.
+     * <pre>
+     *     Spans fields = new Spans();
+     *     Utf8Util.split(line, 0, line.length, new byte[]{','}, fields);
+     *     for (int i = 0; i &lt; fields.size(); i++) {
+     *         handle(line, fields.offset(i), fields.length(i));
+     *     }
+     * </pre>
+     *
+     * @param bytes     {@code byte[]}
+     * @param offset    Start of the range
+     * @param length    Length of the range
+     * @param delimiter UTF-8 bytes of the delimiter, must not be empty
+     * @param spans     Target of the views, not cleared first
+     * @return The number of views appended
+     * @author Fable
+     * @since 2026/10/17 19:45
+     */
+    public static int split(byte[] bytes, int offset, int length, byte[] delimiter, Spans spans) {
+        final int end = offset + length;
+        int start = offset;
+        int count = 1;
+        int index;
+        while ((index = indexOf(bytes, start, end - start, delimiter)) >= 0) {
+            spans.add(start, index - start);
+            start = index + delimiter.length;
+            count++;
+        }
+        spans.add(start, end - start);
+        return count;
+    }
+
+    /**
+     * Split the remaining bytes of the buffer by the delimiter into views appended to the {@link Spans}, the
+     * offsets are absolute indexes of the buffer. See {@link #split(byte[], int, int, byte[], Spans)}.
+     *
+     * @param buffer    {@link ByteBuffer}
+     * @param delimiter UTF-8 bytes of the delimiter, must not be empty
+     * @param spans     Target of the views, not cleared first
+     * @return The number of views appended
+     * @author Fable
+     * @since 2026/10/17 19:46
+     */
+    public static int split(ByteBuffer buffer, byte[] delimiter, Spans spans) {
+        if (buffer.hasArray()) {
+            final int base = buffer.arrayOffset();
+            final int from = spans.size();
+            final int count = split(buffer.array(), base + buffer.position(), buffer.remaining(), delimiter, spans);
+            if (0 != base) {
+                spans.shift(from, -base);
+            }
+            return count;
+        }
+        final int end = buffer.limit();
+        int start = buffer.position();
+        int count = 1;
+        int index;
+        while ((index = indexOf(buffer, start, end, delimiter)) >= 0) {
+            spans.add(start, index - start);
+            start = index + delimiter.length;
+            count++;
+        }
+        spans.add(start, end - start);
+        return count;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int to, byte[] pattern) {
+        checkPattern(pattern);
+        final byte first = pattern[0];
+        final int last = to - pattern.length;
+        for (int i = from; i <= last; i++) {
+            if (buffer.get(i) == first && matches(buffer, i, pattern)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The number of bytes of the code point at the index if it is blank
+     *
+     * @return The length of the blank code point, 0 if it is not blank or malformed
+     */
+    private static int blankLength(byte[] bytes, int index, int end) {
+        final int lead = bytes[index];
+        if (lead >= 0) {
+            return CharUtil.isBlank(lead) ? 1 : 0;
+        }
+        final int length = sequenceLength(lead);
+        if (0 == length || index + length > end) {
+            return 0;
+        }
+        int codePoint = lead & (0x7F >> length);
+        for (int i = 1; i < length; i++) {
+            final int next = bytes[index + i];
+            if ((next & 0xC0) != 0x80) {
+                return 0;
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        return isWellFormed(codePoint, length) && CharUtil.isBlank(codePoint) ? length : 0;
+    }
+
+    private static int blankLength(ByteBuffer buffer, int index, int end) {
+        final int lead = buffer.get(index);
+        if (lead >= 0) {
+            return CharUtil.isBlank(lead) ? 1 : 0;
+        }
+        final int length = sequenceLength(lead);
+        if (0 == length || index + length > end) {
+            return 0;
+        }
+        int codePoint = lead & (0x7F >> length);
+        for (int i = 1; i < length; i++) {
+            final int next = buffer.get(index + i);
+            if ((next & 0xC0) != 0x80) {
+                return 0;
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        return isWellFormed(codePoint, length) && CharUtil.isBlank(codePoint) ? length : 0;
+    }
+
+    /**
+     * The number of bytes of the code point ending right before the index if it is blank
+     *
+     * @return The length of the blank code point, 0 if it is not blank or malformed
+     */
+    private static int blankLengthBefore(byte[] bytes, int start, int index) {
+        // 向前跳过最多 3 个后续字节找到首字节
+        int lead = index - 1;
+        while (lead > start && index - lead < 4 && (bytes[lead] & 0xC0) == 0x80) {
+            lead--;
+        }
+        return blankLength(bytes, lead, index) == index - lead ? index - lead : 0;
+    }
+
+    private static int blankLengthBefore(ByteBuffer buffer, int start, int index) {
+        int lead = index - 1;
+        while (lead > start && index - lead < 4 && (buffer.get(lead) & 0xC0) == 0x80) {
+            lead--;
+        }
+        return blankLength(buffer, lead, index) == index - lead ? index - lead : 0;
+    }
+
+    /**
+     * The length of the sequence started by a non-ASCII lead byte
+     *
+     * @return 2 to 4, or 0 if the byte cannot start a sequence
+     */
+    private static int sequenceLength(int lead) {
+        if ((lead & 0xE0) == 0xC0) {
+            return 2;
+        }
+        if ((lead & 0xF0) == 0xE0) {
+            return 3;
+        }
+        if ((lead & 0xF8) == 0xF0) {
+            return 4;
+        }
+        return 0;
+    }
+
+    /**
+     * Reject overlong encodings, surrogates and code points beyond Unicode
+     */
+    private static boolean isWellFormed(int codePoint, int length) {
+        switch (length) {
+            case 2:
+                return codePoint >= 0x80;
+            case 3:
+                return codePoint >= 0x800 && !Character.isSurrogate((char) codePoint);
+            default:
+                return codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT && codePoint <= Character.MAX_CODE_POINT;
+        }
+    }
+
+    private static boolean matches(byte[] bytes, int index, byte[] pattern) {
+        for (int i = 1; i < pattern.length; i++) {
+            if (bytes[index + i] != pattern[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(ByteBuffer buffer, int index, byte[] pattern) {
+        for (int i = 1; i < pattern.length; i++) {
+            if (buffer.get(index + i) != pattern[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void checkPattern(byte[] pattern) {
+        if (null == pattern || 0 == pattern.length) {
+            throw new IllegalArgumentException("The pattern must not be empty.");
+        }
+    }
+}
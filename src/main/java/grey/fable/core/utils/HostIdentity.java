@@ -0,0 +1,214 @@
+package grey.fable.core.utils;
+
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the identity of the local host: the local host address, and all network interfaces that
+ * are up and not loopback with their addresses and hardware (MAC) addresses. The formatted strings are computed
+ * once when the snapshot is taken. Cached by {@link NetUtil#getHostIdentity()}. <br />
+ * 本机标识快照
+ *
+ * @author Fable
+ * @since 2026/10/17 18:50
+ */
+public final class HostIdentity {
+
+    private final InetAddress localHost;
+
+    private final String localHostAddress;
+
+    /**
+     * The hardware address of the interface of the local host, or of the first interface having one
+     */
+    private final byte[] hardwareAddress;
+
+    private final String hardwareAddressStr;
+
+    private final List<Interface> interfaces;
+
+    /**
+     * {@link System#nanoTime()} when the snapshot was taken
+     */
+    private final long resolvedNanos;
+
+    private HostIdentity(InetAddress localHost, List<Interface> interfaces) {
+        this.localHost = localHost;
+        this.localHostAddress = localHost.getHostAddress();
+        this.interfaces = Collections.unmodifiableList(interfaces);
+        this.resolvedNanos = System.nanoTime();
+
+        Interface primary = null;
+        for (Interface networkInterface : interfaces) {
+            if (null != networkInterface.hardwareAddress) {
+                if (networkInterface.addresses.contains(localHost)) {
+                    primary = networkInterface;
+                    break;
+                }
+                if (null == primary) {
+                    primary = networkInterface;
+                }
+            }
+        }
+        this.hardwareAddress = null == primary ? null : primary.hardwareAddress;
+        this.hardwareAddressStr = null == primary ? null : primary.hardwareAddressStr;
+    }
+
+    /**
+     * Resolve a new snapshot
+     *
+     * @param timeout Timeout of the host name resolution, see {@link NetUtil#getLocalHost(Duration)}
+     * @return {@link HostIdentity}
+     * @author Fable
+     * @since 2026/10/17 18:51
+     */
+    static HostIdentity resolve(Duration timeout) {
+        final List<Interface> interfaces = new ArrayList<>();
+        try {
+            final Enumeration<NetworkInterface> networkInterfaces = NetworkInterface.getNetworkInterfaces();
+            while (null != networkInterfaces && networkInterfaces.hasMoreElements()) {
+                final NetworkInterface networkInterface = networkInterfaces.nextElement();
+                if (!networkInterface.isLoopback() && networkInterface.isUp()) {
+                    interfaces.add(new Interface(networkInterface));
+                }
+            }
+        } catch (SocketException ignore) {
+            // ignore
+        }
+        return new HostIdentity(NetUtil.getLocalHost(timeout), interfaces);
+    }
+
+    public InetAddress getLocalHost() {
+        return localHost;
+    }
+
+    public String getLocalHostAddress() {
+        return localHostAddress;
+    }
+
+    /**
+     * The hardware (MAC) address of the local host
+     *
+     * @return A copy of the address, or null if no interface has one
+     * @author Fable
+     * @since 2026/10/17 18:52
+     */
+    public byte[] getHardwareAddress() {
+        return null == hardwareAddress ? null : hardwareAddress.clone();
+    }
+
+    /**
+     * The hardware (MAC) address of the local host, formatted like {@code 00-1a-2b-3c-4d-5e}
+     *
+     * @return {@link String}, or null if no interface has one
+     * @author Fable
+     * @since 2026/10/17 18:52
+     */
+    public String getHardwareAddressStr() {
+        return hardwareAddressStr;
+    }
+
+    public List<Interface> getInterfaces() {
+        return interfaces;
+    }
+
+    /**
+     * Age of the snapshot
+     *
+     * @return {@link Duration}
+     * @author Fable
+     * @since 2026/10/17 18:53
+     */
+    public Duration getAge() {
+        return Duration.ofNanos(System.nanoTime() - resolvedNanos);
+    }
+
+    long getResolvedNanos() {
+        return resolvedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "HostIdentity{" +
+                "localHost=" + localHost +
+                ", hardwareAddress=" + hardwareAddressStr +
+                ", interfaces=" + interfaces +
+                '}';
+    }
+
+    /**
+     * Format a hardware (MAC) address like {@code 00-1a-2b-3c-4d-5e}
+     *
+     * @param address Hardware address
+     * @return {@link String}
+     * @author Fable
+     * @since 2026/10/17 18:54
+     */
+    static String format(byte[] address) {
+        final char[] chars = new char[Math.max(0, address.length * 3 - 1)];
+        for (int i = 0, j = 0; i < address.length; i++) {
+            if (0 != i) {
+                chars[j++] = '-';
+            }
+            chars[j++] = Character.forDigit((address[i] >> 4) & 0xF, 16);
+            chars[j++] = Character.forDigit(address[i] & 0xF, 16);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Snapshot of a network interface
+     */
+    public static final class Interface {
+
+        private final String name;
+
+        private final List<InetAddress> addresses;
+
+        private final byte[] hardwareAddress;
+
+        private final String hardwareAddressStr;
+
+        private Interface(NetworkInterface networkInterface) throws SocketException {
+            this.name = networkInterface.getName();
+            this.addresses = Collections.unmodifiableList(Collections.list(networkInterface.getInetAddresses()));
+            final byte[] address = networkInterface.getHardwareAddress();
+            this.hardwareAddress = null == address || 0 == address.length ? null : address;
+            this.hardwareAddressStr = null == hardwareAddress ? null : format(hardwareAddress);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<InetAddress> getAddresses() {
+            return addresses;
+        }
+
+        /**
+         * The hardware (MAC) address of the interface
+         *
+         * @return A copy of the address, or null if it has none
+         * @author Fable
+         * @since 2026/10/17 18:55
+         */
+        public byte[] getHardwareAddress() {
+            return null == hardwareAddress ? null : hardwareAddress.clone();
+        }
+
+        public String getHardwareAddressStr() {
+            return hardwareAddressStr;
+        }
+
+        @Override
+        public String toString() {
+            return name + addresses + (null == hardwareAddressStr ? "" : "/" + hardwareAddressStr);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package grey.fable.core.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Text encodings of non-negative long IDs (e.g. Snowflake IDs). Every encoding can write into a caller-supplied
+ * {@code char[]}, {@code byte[]} (ASCII) or {@link ByteBuffer} without allocating, and decode from the same targets.
+ * <pre>
+ *     char[] buffer = new char[IdCodec.BASE62.maxLength()];
+ *     int length = IdCodec.BASE62.encode(IdUtil.getSnowflakeId(), buffer, 0);
+ *     long id = IdCodec.BASE62.decode(buffer, 0, length);
+ * </pre>
+ *
+ * @author Fable
+ * @since 2026/10/17 14:30
+ */
+@SuppressWarnings("unused")
+public enum IdCodec {
+
+    /**
+     * Decimal digits, same as {@link Long#toString(long)}
+     */
+    DECIMAL("0123456789", false, false, ""),
+
+    /**
+     * Base62 with the alphabet {@code 0-9A-Za-z}, in ASCII order so that equal-length encodings sort like the IDs
+     */
+    BASE62("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz", false, false, ""),
+
+    /**
+     * Crockford Base32. Decoding is case-insensitive and reads {@code I}/{@code L} as 1 and {@code O} as 0
+     */
+    CROCKFORD_BASE32("0123456789ABCDEFGHJKMNPQRSTVWXYZ", false, true, "I1L1O0"),
+
+    /**
+     * Lowercase hex, always 16 characters with leading zeros, so the encodings sort like the IDs.
+     * Decoding is case-insensitive
+     */
+    HEX("0123456789abcdef", true, true, "");
+
+    private final char[] digits;
+
+    private final long radix;
+
+    /**
+     * Bits per digit for power-of-two radixes, otherwise 0
+     */
+    private final int shift;
+
+    /**
+     * Number of digits of {@link Long#MAX_VALUE}
+     */
+    private final int maxLength;
+
+    private final boolean isFixedWidth;
+
+    /**
+     * Powers of the radix: {@code powers[i] = radix^(i + 1)}, up to the largest one below {@link Long#MAX_VALUE}
+     */
+    private final long[] powers;
+
+    /**
+     * Digit value of each ASCII char, -1 if invalid
+     */
+    private final byte[] values = new byte[128];
+
+    /**
+     * The largest value that can be multiplied by the radix without overflow
+     */
+    private final long overflowLimit;
+
+    /**
+     * @param alphabet          Digits in ascending order
+     * @param isFixedWidth      Whether to pad with leading zeros to the maximum length
+     * @param isCaseInsensitive Whether decoding accepts both cases
+     * @param aliases           Pairs of (alias, digit) accepted when decoding
+     */
+    IdCodec(String alphabet, boolean isFixedWidth, boolean isCaseInsensitive, String aliases) {
+        this.digits = alphabet.toCharArray();
+        this.radix = digits.length;
+        this.shift = Long.bitCount(radix) == 1 ? Long.numberOfTrailingZeros(radix) : 0;
+        this.isFixedWidth = isFixedWidth;
+        this.overflowLimit = Long.MAX_VALUE / radix;
+
+        long[] table = new long[Long.SIZE];
+        int count = 0;
+        for (long power = radix; ; power *= radix) {
+            table[count++] = power;
+            if (power > overflowLimit) {
+                break;
+            }
+        }
+        this.powers = Arrays.copyOf(table, count);
+        this.maxLength = count + 1;
+
+        Arrays.fill(values, (byte) -1);
+        for (int i = 0; i < digits.length; i++) {
+            putValue(digits[i], i, isCaseInsensitive);
+        }
+        for (int i = 0; i < aliases.length(); i += 2) {
+            putValue(aliases.charAt(i), values[aliases.charAt(i + 1)], isCaseInsensitive);
+        }
+    }
+
+    private void putValue(char ch, int value, boolean isCaseInsensitive) {
+        values[ch] = (byte) value;
+        if (isCaseInsensitive) {
+            values[Character.toLowerCase(ch)] = (byte) value;
+            values[Character.toUpperCase(ch)] = (byte) value;
+        }
+    }
+
+    /**
+     * The maximum number of characters of an encoded ID, the size of a buffer that fits any ID
+     *
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 14:33
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * The digit character of the value
+     *
+     * @param value Digit value, between 0 and the radix - 1
+     * @return {@link char}
+     * @author Fable
+     * @since 2026/10/17 17:20
+     */
+    public char digit(int value) {
+        return digits[value];
+    }
+
+    /**
+     * The value of the digit character, accepting the aliases and cases of the encoding
+     *
+     * @param ch Character
+     * @return {@link int}, or -1 if the character is not a digit
+     * @author Fable
+     * @since 2026/10/17 17:21
+     */
+    public int valueOf(int ch) {
+        return ch >= 0 && ch < values.length ? values[ch] : -1;
+    }
+
+    /**
+     * The number of characters of the encoded ID
+     *
+     * @param id ID, must not be negative
+     * @return {@link int}
+     * @author Fable
+     * @since 2026/10/17 14:34
+     */
+    public int length(long id) {
+        checkId(id);
+        if (isFixedWidth) {
+            return maxLength;
+        }
+        if (shift > 0) {
+            return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(id) + shift - 1) / shift);
+        }
+
+        int length = 1;
+        while (length < maxLength && id >= powers[length - 1]) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Encode the ID into the char array
+     *
+     * @param id     ID, must not be negative
+     * @param dst    Target array
+     * @param offset Start offset in the array
+     * @return The number of characters written
+     * @author Fable
+     * @since 2026/10/17 14:35
+     */
+    public int encode(long id, char[] dst, int offset) {
+        final int length = length(id);
+        Objects.checkFromIndexSize(offset, length, dst.length);
+
+        int pos = offset + length;
+        long value = id;
+        if (shift > 0) {
+            final long mask = radix - 1;
+            while (pos > offset) {
+                dst[--pos] = digits[(int) (value & mask)];
+                value >>>= shift;
+            }
+        } else {
+            while (pos > offset) {
+                final long quotient = value / radix;
+                dst[--pos] = digits[(int) (value - quotient * radix)];
+                value = quotient;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Encode the ID into the byte array as ASCII
+     *
+     * @param id     ID, must not be negative
+     * @param dst    Target array
+     * @param offset Start offset in the array
+     * @return The number of bytes written
+     * @author Fable
+     * @since 2026/10/17 14:36
+     */
+    public int encode(long id, byte[] dst, int offset) {
+        final int length = length(id);
+        Objects.checkFromIndexSize(offset, length, dst.length);
+
+        int pos = offset + length;
+        long value = id;
+        if (shift > 0) {
+            final long mask = radix - 1;
+            while (pos > offset) {
+                dst[--pos] = (byte) digits[(int) (value & mask)];
+                value >>>= shift;
+            }
+        } else {
+            while (pos > offset) {
+                final long quotient = value / radix;
+                dst[--pos] = (byte) digits[(int) (value - quotient * radix)];
+                value = quotient;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Encode the ID into the buffer as ASCII at its position, and advance the position
+     *
+     * @param id  ID, must not be negative
+     * @param dst Target buffer, heap or direct
+     * @return The number of bytes written
+     * @author Fable
+     * @since 2026/10/17 14:37
+     */
+    public int encode(long id, ByteBuffer dst) {
+        final int length = length(id);
+        final int start = dst.position();
+        Objects.checkFromIndexSize(start, length, dst.limit());
+
+        int pos = start + length;
+        long value = id;
+        while (pos > start) {
+            final long quotient = shift > 0 ? value >>> shift : value / radix;
+            dst.put(--pos, (byte) digits[(int) (value - quotient * radix)]);
+            value = quotient;
+        }
+        dst.position(start + length);
+        return length;
+    }
+
+    /**
+     * Encode the ID into a {@link String}
+     *
+     * @param id ID, must not be negative
+     * @return {@link String}
+     * @author Fable
+     * @since 2026/10/17 14:38
+     */
+    public String toString(long id) {
+        if (DECIMAL == this) {
+            checkId(id);
+            return Long.toString(id);
+        }
+
+        final char[] chars = new char[length(id)];
+        encode(id, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Decode an ID from the {@link CharSequence}
+     *
+     * @param cs {@link CharSequence}
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 14:39
+     */
+    public long decode(CharSequence cs) {
+        final int length = cs.length();
+        checkLength(length);
+
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = accumulate(value, cs.charAt(i));
+        }
+        return value;
+    }
+
+    /**
+     * Decode an ID from the range of the char array
+     *
+     * @param src    Source array
+     * @param offset Start offset
+     * @param length Number of characters
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 14:40
+     */
+    public long decode(char[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        checkLength(length);
+
+        long value = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            value = accumulate(value, src[i]);
+        }
+        return value;
+    }
+
+    /**
+     * Decode an ID from the ASCII range of the byte array
+     *
+     * @param src    Source array
+     * @param offset Start offset
+     * @param length Number of bytes
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 14:41
+     */
+    public long decode(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        checkLength(length);
+
+        long value = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            value = accumulate(value, src[i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Decode an ID from the remaining ASCII bytes of the buffer, and advance the position to the limit
+     *
+     * @param src Source buffer, heap or direct
+     * @return {@link long}
+     * @author Fable
+     * @since 2026/10/17 14:42
+     */
+    public long decode(ByteBuffer src) {
+        checkLength(src.remaining());
+
+        long value = 0;
+        while (src.hasRemaining()) {
+            value = accumulate(value, src.get() & 0xFF);
+        }
+        return value;
+    }
+
+    private long accumulate(long value, int ch) {
+        final int digit = ch < values.length ? values[ch] : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException(String.format("Invalid %s character: '%c'", name(), (char) ch));
+        }
+        if (value > overflowLimit || value * radix > Long.MAX_VALUE - digit) {
+            throw new IllegalArgumentException(String.format("The %s value is out of the range of long.", name()));
+        }
+        return value * radix + digit;
+    }
+
+    private void checkLength(int length) {
+        if (0 == length || length > maxLength) {
+            throw new IllegalArgumentException(String.format("The length of a %s ID must be between 1 and %d.", name(), maxLength));
+        }
+    }
+
+    private static void checkId(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("The ID must not be negative: " + id);
+        }
+    }
+}
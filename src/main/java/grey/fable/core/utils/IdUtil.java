@@ -1,10 +1,23 @@
 package grey.fable.core.utils;
 
+import grey.fable.core.LockFreeSnowflake;
 import grey.fable.core.PID;
+import grey.fable.core.RollbackStrategy;
 import grey.fable.core.Snowflake;
+import grey.fable.core.SnowflakeBuilder;
+import grey.fable.core.StripedSnowflake;
+import grey.fable.core.TimeSource;
+import grey.fable.core.UlidGenerator;
+import grey.fable.core.UuidV7Generator;
+import grey.fable.core.worker.DirectoryLeaseStore;
+import grey.fable.core.worker.FileLockWorkerIdAssigner;
+import grey.fable.core.worker.LeaseWorkerIdAssigner;
+import grey.fable.core.worker.WorkerIdAssigner;
 
-import java.net.SocketException;
-import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.LongStream;
 
 /**
  * ID utility class
@@ -18,10 +31,119 @@ public class IdUtil {
     private IdUtil() {
     }
 
-    private static final Snowflake SNOWFLAKE = new Snowflake();
+    /**
+     * System property to choose the implementation of the shared generator, e.g. {@code -Dfable.snowflake.mode=lock-free}.
+     * <ul>
+     *     <li> synchronized: {@link Snowflake}, the default </li>
+     *     <li> lock-free: {@link LockFreeSnowflake} </li>
+     *     <li> striped: {@link StripedSnowflake} </li>
+     * </ul>
+     * Only one generator is created per process, so the IDs never collide between the implementations.
+     */
+    public static final String MODE_PROPERTY = "fable.snowflake.mode";
+
+    /**
+     * System property to choose the {@link RollbackStrategy} of the shared generator, e.g.
+     * {@code -Dfable.snowflake.rollback-strategy=wait}, the default is {@link RollbackStrategy#THROW}.
+     */
+    public static final String ROLLBACK_STRATEGY_PROPERTY = "fable.snowflake.rollback-strategy";
+
+    /**
+     * System property of the maximum tolerated rollback milliseconds of the shared generator, the default is 10.
+     */
+    public static final String MAX_ROLLBACK_MILLIS_PROPERTY = "fable.snowflake.max-rollback-millis";
+
+    /**
+     * System property to choose the {@link TimeSource} of the shared generator, e.g.
+     * {@code -Dfable.snowflake.time-source=monotonic}.
+     * <ul>
+     *     <li> system: {@link TimeSource#system()}, the default </li>
+     *     <li> cached: {@link TimeSource#cached()} </li>
+     *     <li> monotonic: {@link TimeSource#monotonic()} </li>
+     * </ul>
+     */
+    public static final String TIME_SOURCE_PROPERTY = "fable.snowflake.time-source";
+
+    /**
+     * System property of a directory shared by all generators of a data center, to lease the worker IDs from with
+     * {@link LeaseWorkerIdAssigner} and {@link DirectoryLeaseStore}, e.g. {@code -Dfable.snowflake.worker-id-lease-dir=/shared/snowflake}.
+     */
+    public static final String WORKER_ID_LEASE_DIR_PROPERTY = "fable.snowflake.worker-id-lease-dir";
+
+    /**
+     * System property of a directory to lock the worker IDs in with {@link FileLockWorkerIdAssigner},
+     * e.g. {@code -Dfable.snowflake.worker-id-lock-dir=/var/lock/snowflake}.
+     */
+    public static final String WORKER_ID_LOCK_DIR_PROPERTY = "fable.snowflake.worker-id-lock-dir";
+
+    /**
+     * System property to explicitly accept {@link WorkerIdAssigner#hashing()} when neither worker ID directory is
+     * configured, even if the process ID is 1 or no hardware address is found, e.g.
+     * {@code -Dfable.snowflake.worker-id-hashing=true}. Without it such a process refuses to create a generator,
+     * since its hashed worker ID would collide with the other processes of the same image.
+     */
+    public static final String WORKER_ID_HASHING_PROPERTY = "fable.snowflake.worker-id-hashing";
+
+    /**
+     * System property to enable the hot path metrics of the shared generator, and register them as MBean
+     * {@code grey.fable:type=Snowflake,name=IdUtil}, e.g. {@code -Dfable.snowflake.metrics=true}.
+     */
+    public static final String METRICS_PROPERTY = "fable.snowflake.metrics";
+
+    private static final UuidV7Generator UUID_V7 = new UuidV7Generator();
+
+    private static final UlidGenerator ULID = new UlidGenerator();
+
+    /**
+     * Holder of the shared generator, created on first use so that loading {@link IdUtil} stays cheap
+     */
+    private static final class SnowflakeHolder {
+
+        private static final Snowflake SNOWFLAKE = createSnowflake();
+    }
+
+    /**
+     * Create the shared generator from the system properties
+     *
+     * @return {@link Snowflake}
+     * @author Fable
+     * @since 2026/10/17 10:42
+     */
+    private static Snowflake createSnowflake() {
+        final boolean isMetricsEnabled = Boolean.getBoolean(METRICS_PROPERTY);
+        final Snowflake snowflake = Snowflake.builder()
+                .mode(SnowflakeBuilder.Mode.valueOf(enumName(System.getProperty(MODE_PROPERTY, "synchronized"))))
+                .rollbackStrategy(RollbackStrategy.valueOf(enumName(System.getProperty(ROLLBACK_STRATEGY_PROPERTY, "throw"))),
+                        Long.getLong(MAX_ROLLBACK_MILLIS_PROPERTY, 10L))
+                .timeSource(createTimeSource(System.getProperty(TIME_SOURCE_PROPERTY, "system")))
+                .metrics(isMetricsEnabled)
+                .build();
+        if (isMetricsEnabled) {
+            snowflake.getMetrics().registerMBean(IdUtil.class.getSimpleName());
+        }
+        return snowflake;
+    }
+
+    private static TimeSource createTimeSource(String timeSource) {
+        switch (enumName(timeSource)) {
+            case "SYSTEM":
+                return TimeSource.system();
+            case "CACHED":
+                return TimeSource.cached();
+            case "MONOTONIC":
+                return TimeSource.monotonic();
+            default:
+                throw new IllegalArgumentException("Unknown time source: " + timeSource);
+        }
+    }
+
+    private static String enumName(String property) {
+        return property.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+    }
 
     /**
-     * Retrieve data center ID. Data center ID depends on the local host hardware (MAC) address array.
+     * Retrieve data center ID. Data center ID depends on the local host hardware (MAC) address array of the cached
+     * {@link NetUtil#getHostIdentity()}, whose resolution timeout is {@link NetUtil#HOST_TIMEOUT_MILLIS_PROPERTY}.
      *
      * @param maxDataCenterId MaxDataCenterId
      * @return {@link long}
@@ -33,15 +155,10 @@ public class IdUtil {
             maxDataCenterId -= 1;
         }
 
-        byte[] mac = null;
-        try {
-            mac = NetUtil.getLocalHardwareAddress();
-        } catch (UnknownHostException | SocketException ignore) {
-            // ignore
-        }
+        final byte[] mac = NetUtil.getHostIdentity().getHardwareAddress();
 
         long id = 1L;
-        if (maxDataCenterId > 0 && null != mac) {
+        if (maxDataCenterId > 0 && null != mac && mac.length >= 2) {
             id = ((0xFF & (long) mac[mac.length - 2]) | (0x0000FF00 & (((long) mac[mac.length - 1]) << 8))) >> 6;
             id = id % (maxDataCenterId + 1);
         }
@@ -64,6 +181,65 @@ public class IdUtil {
         return (workerId.hashCode() & 0xFFFF) % (maxWorkerId + 1);
     }
 
+    /**
+     * Retrieve the default {@link WorkerIdAssigner} of the generators without a worker ID, chosen by the system properties:
+     * <ul>
+     *     <li> {@link #WORKER_ID_LEASE_DIR_PROPERTY}: {@link LeaseWorkerIdAssigner} on a {@link DirectoryLeaseStore} </li>
+     *     <li> {@link #WORKER_ID_LOCK_DIR_PROPERTY}: {@link FileLockWorkerIdAssigner} </li>
+     *     <li> otherwise {@link WorkerIdAssigner#hashing()}, which cannot detect collisions. It is only used when
+     *     the process ID and the hardware address tell the processes apart, or when
+     *     {@link #WORKER_ID_HASHING_PROPERTY} accepts it explicitly. </li>
+     * </ul>
+     *
+     * @return {@link WorkerIdAssigner}
+     * @throws IllegalStateException If no directory is configured, hashing is not accepted explicitly, and the
+     *                               process ID is 1 (e.g. in a container) or no hardware address is found
+     * @author Fable
+     * @since 2026/10/17 16:15
+     */
+    public static WorkerIdAssigner getWorkerIdAssigner() {
+        final String leaseDir = System.getProperty(WORKER_ID_LEASE_DIR_PROPERTY);
+        if (null != leaseDir) {
+            return new LeaseWorkerIdAssigner(new DirectoryLeaseStore(Path.of(leaseDir)));
+        }
+        final String lockDir = System.getProperty(WORKER_ID_LOCK_DIR_PROPERTY);
+        if (null != lockDir) {
+            return new FileLockWorkerIdAssigner(Path.of(lockDir));
+        }
+        if (!Boolean.getBoolean(WORKER_ID_HASHING_PROPERTY)) {
+            checkHashingIdentity();
+        }
+        return WorkerIdAssigner.hashing();
+    }
+
+    /**
+     * Refuse to hash the worker ID from an identity that is the same in every process of an image
+     *
+     * @author Fable
+     * @since 2026/10/17 23:40
+     */
+    private static void checkHashingIdentity() {
+        final int processId = getProcessId();
+        // 进程 ID 为 1 时无需解析硬件地址
+        checkHashingIdentity(processId, 1 == processId ? null : NetUtil.getHostIdentity().getHardwareAddress());
+    }
+
+    static void checkHashingIdentity(int processId, byte[] hardwareAddress) {
+        final String reason;
+        if (1 == processId) {
+            // 容器中的进程 ID 通常都是 1, 所有实例会得到相同的 workerId
+            reason = "the process ID is 1";
+        } else if (null == hardwareAddress || hardwareAddress.length < 2) {
+            reason = "no hardware address was found";
+        } else {
+            return;
+        }
+        throw new IllegalStateException(String.format("Refusing to hash the Snowflake worker ID because %s, " +
+                        "so it would collide between processes. Set a worker ID explicitly, or set -D%s or -D%s, " +
+                        "or accept hashing with -D%s=true.",
+                reason, WORKER_ID_LEASE_DIR_PROPERTY, WORKER_ID_LOCK_DIR_PROPERTY, WORKER_ID_HASHING_PROPERTY));
+    }
+
     /**
      * Retrieve process ID
      *
@@ -75,6 +251,17 @@ public class IdUtil {
         return PID.PROCESS_ID;
     }
 
+    /**
+     * Retrieve the shared {@link Snowflake} generator
+     *
+     * @return {@link Snowflake}
+     * @author Fable
+     * @since 2026/10/17 9:26
+     */
+    public static Snowflake getSnowflake() {
+        return SnowflakeHolder.SNOWFLAKE;
+    }
+
     /**
      * Retrieve Snowflake ID
      *
@@ -83,7 +270,19 @@ public class IdUtil {
      * @since 2024/5/16 15:16
      */
     public static long getSnowflakeId() {
-        return SNOWFLAKE.nextId();
+        return SnowflakeHolder.SNOWFLAKE.nextId();
+    }
+
+    /**
+     * Retrieve the specified number of Snowflake IDs, reserved from the generator in one go
+     *
+     * @param count Count
+     * @return {@link LongStream}
+     * @author Fable
+     * @since 2026/10/17 10:12
+     */
+    public static LongStream getSnowflakeIds(int count) {
+        return SnowflakeHolder.SNOWFLAKE.nextIds(count);
     }
 
     /**
@@ -96,4 +295,95 @@ public class IdUtil {
     public static String getSnowflakeIdStr() {
         return String.valueOf(getSnowflakeId());
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieve Snowflake ID {@link String} in the specified encoding, e.g. {@link IdCodec#BASE62}
+     *
+     * @param codec {@link IdCodec}
+     * @return {@link String}
+     * @author Fable
+     * @since 2026/10/17 14:52
+     */
+    public static String getSnowflakeIdStr(IdCodec codec) {
+        return codec.toString(getSnowflakeId());
+    }
+
+    /**
+     * Retrieve a time-ordered UUID version 7, see {@link UuidV7Generator}
+     *
+     * @return {@link UUID}
+     * @author Fable
+     * @since 2026/10/17 17:50
+     */
+    public static UUID getUuidV7() {
+        return UUID_V7.next();
+    }
+
+    /**
+     * Retrieve a time-ordered UUID version 7 {@link String}
+     *
+     * @return {@link String}
+     * @author Fable
+     * @since 2026/10/17 17:50
+     */
+    public static String getUuidV7Str() {
+        return UUID_V7.nextString();
+    }
+
+    /**
+     * Retrieve a time-ordered UUID version 7 into the array without allocating, as {@code [msb, lsb]}
+     *
+     * @param dst    Target array
+     * @param offset Offset of the most significant bits
+     * @author Fable
+     * @since 2026/10/17 17:51
+     */
+    public static void getUuidV7(long[] dst, int offset) {
+        UUID_V7.next(dst, offset);
+    }
+
+    /**
+     * Retrieve a ULID {@link String}, see {@link UlidGenerator}
+     *
+     * @return {@link String}
+     * @author Fable
+     * @since 2026/10/17 17:52
+     */
+    public static String getUlid() {
+        return ULID.next();
+    }
+
+    /**
+     * Retrieve a ULID into the array without allocating, as {@code [msb, lsb]}
+     *
+     * @param dst    Target array
+     * @param offset Offset of the most significant bits
+     * @author Fable
+     * @since 2026/10/17 17:52
+     */
+    public static void getUlid(long[] dst, int offset) {
+        ULID.next(dst, offset);
+    }
+
+    /**
+     * Retrieve the shared {@link UuidV7Generator}
+     *
+     * @return {@link UuidV7Generator}
+     * @author Fable
+     * @since 2026/10/17 17:53
+     */
+    public static UuidV7Generator getUuidV7Generator() {
+        return UUID_V7;
+    }
+
+    /**
+     * Retrieve the shared {@link UlidGenerator}
+     *
+     * @return {@link UlidGenerator}
+     * @author Fable
+     * @since 2026/10/17 17:53
+     */
+    public static UlidGenerator getUlidGenerator() {
+        return ULID;
+    }
+}
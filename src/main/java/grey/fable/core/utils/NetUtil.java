@@ -4,6 +4,14 @@ import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.net.SocketException;
 import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Enumeration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Network utility class
@@ -18,80 +26,208 @@ public class NetUtil {
     }
 
     /**
-     * Retrieve local host
+     * System property of the timeout in milliseconds of the host name resolution of {@link #getHostIdentity()},
+     * the default is 500.
+     */
+    public static final String HOST_TIMEOUT_MILLIS_PROPERTY = "fable.net.host-timeout-millis";
+
+    /**
+     * System property of the refresh interval in milliseconds of {@link #getHostIdentity()}, the default is 300000 (5 minutes).
+     */
+    public static final String REFRESH_INTERVAL_MILLIS_PROPERTY = "fable.net.refresh-interval-millis";
+
+    private static final Duration HOST_TIMEOUT = Duration.ofMillis(Long.getLong(HOST_TIMEOUT_MILLIS_PROPERTY, 500L));
+
+    private static volatile long refreshIntervalNanos =
+            TimeUnit.MILLISECONDS.toNanos(Long.getLong(REFRESH_INTERVAL_MILLIS_PROPERTY, 300_000L));
+
+    /**
+     * The cached snapshot, resolved on first use
+     */
+    private static volatile HostIdentity hostIdentity;
+
+    private static final ReentrantLock RESOLVE_LOCK = new ReentrantLock();
+
+    private static final AtomicBoolean IS_REFRESHING = new AtomicBoolean();
+
+    /**
+     * Retrieve the cached {@link HostIdentity}. The first call resolves it; once it is older than the refresh
+     * interval, the stale snapshot is still returned while a daemon thread resolves a new one, so callers never
+     * wait for the network after the first call.
+     *
+     * @return {@link HostIdentity}
+     * @author Fable
+     * @since 2026/10/17 19:00
+     */
+    public static HostIdentity getHostIdentity() {
+        final HostIdentity identity = hostIdentity;
+        if (null == identity) {
+            RESOLVE_LOCK.lock();
+            try {
+                return null != hostIdentity ? hostIdentity : refreshHostIdentity();
+            } finally {
+                RESOLVE_LOCK.unlock();
+            }
+        }
+
+        if (System.nanoTime() - identity.getResolvedNanos() > refreshIntervalNanos && IS_REFRESHING.compareAndSet(false, true)) {
+            final Thread refresher = new Thread(() -> {
+                try {
+                    refreshHostIdentity();
+                } finally {
+                    IS_REFRESHING.set(false);
+                }
+            }, "fable-host-refresher");
+            refresher.setDaemon(true);
+            refresher.start();
+        }
+        return identity;
+    }
+
+    /**
+     * Resolve the {@link HostIdentity} now and replace the cached one
+     *
+     * @return {@link HostIdentity}
+     * @author Fable
+     * @since 2026/10/17 19:01
+     */
+    public static HostIdentity refreshHostIdentity() {
+        final HostIdentity identity = HostIdentity.resolve(HOST_TIMEOUT);
+        hostIdentity = identity;
+        return identity;
+    }
+
+    /**
+     * Set the refresh interval of {@link #getHostIdentity()}
+     *
+     * @param refreshInterval Refresh interval
+     * @author Fable
+     * @since 2026/10/17 19:02
+     */
+    public static void setRefreshInterval(Duration refreshInterval) {
+        refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    /**
+     * Retrieve local host from the cached {@link HostIdentity}. The host name is resolved as in
+     * {@link #getLocalHost(Duration)}: if the resolution fails or exceeds {@link #HOST_TIMEOUT_MILLIS_PROPERTY},
+     * the first address of the network interfaces that is not a loopback address is returned instead, or the
+     * loopback address if there is none, so no {@link UnknownHostException} is thrown.
      *
      * @return {@link InetAddress}
      * @author Fable
      * @since 2024/5/16 14:52
      */
-    public static InetAddress getLocalHost() throws UnknownHostException {
-        return InetAddress.getLocalHost();
+    public static InetAddress getLocalHost() {
+        return getHostIdentity().getLocalHost();
+    }
+
+    /**
+     * Retrieve local host, waiting at most the timeout for the host name resolution, which may hang on DNS.
+     * On timeout or failure, the first address of the network interfaces that is not a loopback address is returned,
+     * or the loopback address if there is none. The resolution goes on in a daemon thread after a timeout.
+     *
+     * @param timeout Timeout
+     * @return {@link InetAddress}
+     * @author Fable
+     * @since 2026/10/17 18:35
+     */
+    public static InetAddress getLocalHost(Duration timeout) {
+        final CompletableFuture<InetAddress> future = new CompletableFuture<>();
+        final Thread resolver = new Thread(() -> {
+            try {
+                future.complete(InetAddress.getLocalHost());
+            } catch (UnknownHostException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, "fable-host-resolver");
+        resolver.setDaemon(true);
+        resolver.start();
+
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 解析失败或超时, 使用网卡上的地址
+        }
+        return getInterfaceAddress();
+    }
+
+    /**
+     * Retrieve the first address of the network interfaces that is not a loopback address, without any name resolution
+     *
+     * @return {@link InetAddress}, or the loopback address if there is none
+     * @author Fable
+     * @since 2026/10/17 18:36
+     */
+    public static InetAddress getInterfaceAddress() {
+        try {
+            final Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+            while (null != interfaces && interfaces.hasMoreElements()) {
+                final NetworkInterface networkInterface = interfaces.nextElement();
+                if (networkInterface.isLoopback() || !networkInterface.isUp()) {
+                    continue;
+                }
+                final Enumeration<InetAddress> addresses = networkInterface.getInetAddresses();
+                while (addresses.hasMoreElements()) {
+                    final InetAddress address = addresses.nextElement();
+                    if (!address.isLoopbackAddress()) {
+                        return address;
+                    }
+                }
+            }
+        } catch (SocketException ignore) {
+            // ignore
+        }
+        return InetAddress.getLoopbackAddress();
     }
 
     /**
-     * Retrieve local host address
+     * Retrieve local host address of {@link #getLocalHost()}, with the same fallback
      *
      * @return {@link String}
      * @author Fable
      * @since 2024/5/16 14:52
      */
-    public static String getLocalHostAddress() throws UnknownHostException {
-        return getLocalHost().getHostAddress();
+    public static String getLocalHostAddress() {
+        return getHostIdentity().getLocalHostAddress();
     }
 
     /**
-     * Retrieve the local host hardware (MAC) address array using local host
+     * Retrieve the local host hardware (MAC) address array from the cached {@link HostIdentity}
      *
-     * @return {@link byte[]}
+     * @return {@link byte[]}, or null if no interface has a hardware address
      * @author Fable
      * @since 2024/5/16 14:52
      */
-    public static byte[] getLocalHardwareAddress() throws UnknownHostException, SocketException {
-        return getLocalHardwareAddress(getLocalHost());
+    public static byte[] getLocalHardwareAddress() {
+        return getHostIdentity().getHardwareAddress();
     }
 
     /**
      * Retrieve the local host hardware (MAC) address array using {@link InetAddress}
      *
      * @param inetAddress {@link InetAddress}
-     * @return {@link byte[]}
+     * @return {@link byte[]}, or null if no interface has the address or the interface has no hardware address
      * @author Fable
      * @since 2024/5/16 14:53
      */
     public static byte[] getLocalHardwareAddress(InetAddress inetAddress) throws SocketException {
         // 通过 InetAddress 获取网卡, 然后获取硬件地址
-        return NetworkInterface.getByInetAddress(inetAddress).getHardwareAddress();
+        final NetworkInterface networkInterface = NetworkInterface.getByInetAddress(inetAddress);
+        return null == networkInterface ? null : networkInterface.getHardwareAddress();
     }
 
     /**
-     * Retrieve the local host hardware (MAC) address {@link String}
+     * Retrieve the local host hardware (MAC) address {@link String} like {@code 00-1a-2b-3c-4d-5e},
+     * formatted once per {@link HostIdentity}
      *
-     * @return {@link String}
+     * @return {@link String}, or null if no interface has a hardware address
      * @author Fable
      * @since 2024/5/16 14:53
      */
-    public static String getLocalHardwareAddressStr() throws SocketException, UnknownHostException {
-        byte[] mac = getLocalHardwareAddress();
-        StringBuilder builder = new StringBuilder();
-
-        for (int i = 0; i < mac.length; i++) {
-            if (0 != i) {
-                builder.append("-");
-            }
-
-            /*
-             * 字节转换为整数. 0xFF 表示 16 进制, 转换为十进制即为 255, 二进制表示为: 0000 0000 0000 0000 0000 0000 1111 1111
-             * 当 byte 要转化为 int 的时候, 负数高的 24 位必然会补1, 这样, 其二进制补码已经不一致了
-             * & 0xFF 可以将高的 24 位置为 0, 低 8 位保持原样, 保证二进制数据的一致性
-             */
-            String str = Integer.toHexString(mac[i] & 0xFF);
-            if (1 == str.length()) {
-                builder.append("0").append(str);
-            } else {
-                builder.append(str);
-            }
-        }
-
-        return builder.toString();
+    public static String getLocalHardwareAddressStr() {
+        return getHostIdentity().getHardwareAddressStr();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package grey.fable.core.worker;
+
+import grey.fable.core.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link LeaseStore} on a directory shared by all generators, e.g. a volume mounted into every pod.
+ * Each lease is a file holding its owner and expiration time; every operation runs under an exclusive lock
+ * of the directory, so the file system must support locks across the processes. <br />
+ * 基于共享目录的租约存储
+ *
+ * @author Fable
+ * @since 2026/10/17 15:55
+ */
+public class DirectoryLeaseStore implements LeaseStore {
+
+    private static final String LOCK_FILE = ".lock";
+
+    /**
+     * A JVM can hold only one lock of a file, so the stores of this process take turns first
+     */
+    private static final Object PROCESS_LOCK = new Object();
+
+    private final Path directory;
+
+    public DirectoryLeaseStore(Path directory) {
+        Assert.isTrue(null != directory, "The directory must not be null.");
+        this.directory = directory;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, String owner, long expiresAt) {
+        return locked(() -> {
+            final Path file = leaseFile(key);
+            final String[] lease = read(file);
+            if (null == lease || Long.parseLong(lease[1]) <= System.currentTimeMillis() || lease[0].equals(owner)) {
+                write(file, owner, expiresAt);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public boolean renew(String key, String owner, long expiresAt) {
+        return locked(() -> {
+            final Path file = leaseFile(key);
+            final String[] lease = read(file);
+            if (null != lease && lease[0].equals(owner)) {
+                write(file, owner, expiresAt);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        locked(() -> {
+            final Path file = leaseFile(key);
+            final String[] lease = read(file);
+            if (null != lease && lease[0].equals(owner)) {
+                Files.delete(file);
+            }
+            return true;
+        });
+    }
+
+    private boolean locked(LeaseOperation operation) {
+        synchronized (PROCESS_LOCK) {
+            try {
+                Files.createDirectories(directory);
+                try (FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                    // 关闭通道时释放锁
+                    channel.lock();
+                    return operation.run();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Path leaseFile(String key) {
+        return directory.resolve(key + ".lease");
+    }
+
+    /**
+     * Read the lease file
+     *
+     * @param file Lease file
+     * @return {@code [owner, expiresAt]}, or null if there is no lease
+     */
+    private static String[] read(Path file) throws IOException {
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        return lines.size() < 2 ? null : new String[]{lines.get(0), lines.get(1)};
+    }
+
+    private static void write(Path file, String owner, long expiresAt) throws IOException {
+        Files.write(file, List.of(owner, Long.toString(expiresAt)), StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface LeaseOperation {
+
+        boolean run() throws IOException;
+    }
+}
@@ -0,0 +1,153 @@
+package grey.fable.core.worker;
+
+import grey.fable.core.Assert;
+import grey.fable.core.map.MapUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link WorkerIdAssigner} that holds an exclusive {@link FileLock} on one file per worker ID in a directory.
+ * The operating system releases the lock when the process dies, so no renewal is needed.
+ * The directory must be shared by all generators of the data center, and its file system must support
+ * locks across them (a local disk for one host, or e.g. NFSv4 for several).
+ * <p>
+ * File locks belong to the process, and closing any channel of a locked file releases the lock on some systems
+ * (POSIX). So the files locked by this JVM are tracked in a static set and skipped without opening a channel,
+ * and a file is only left to other assigners of this JVM after the channel of its lease is closed. <br />
+ * 基于文件锁的 workerId 分配器, 进程退出时由操作系统释放
+ *
+ * @author Fable
+ * @since 2026/10/17 15:50
+ */
+public class FileLockWorkerIdAssigner implements WorkerIdAssigner {
+
+    /**
+     * Absolute paths of the files locked by the leases of this JVM
+     */
+    private static final Set<Path> LOCKED_FILES = Collections.newSetFromMap(MapUtil.concurrentHashMap());
+
+    private final Path directory;
+
+    public FileLockWorkerIdAssigner(Path directory) {
+        Assert.isTrue(null != directory, "The directory must not be null.");
+        this.directory = directory;
+    }
+
+    @Override
+    public WorkerIdLease assign(long dataCenterId, long maxWorkerId) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        for (long workerId = 0; workerId <= maxWorkerId; workerId++) {
+            final Path file = directory.resolve("worker-" + dataCenterId + "-" + workerId + ".lock").toAbsolutePath().normalize();
+            // 本进程已锁定的文件不再打开, 关闭它的另一个通道会释放已持有的锁
+            if (!LOCKED_FILES.add(file)) {
+                continue;
+            }
+            final FileLock lock = tryLock(file);
+            if (null != lock) {
+                return new FileLockLease(dataCenterId, workerId, file, lock);
+            }
+            LOCKED_FILES.remove(file);
+        }
+        throw new IllegalStateException(String.format(
+                "No free worker ID of data center %d is left in %s, all %d are locked.", dataCenterId, directory, maxWorkerId + 1));
+    }
+
+    /**
+     * Lock the file, the channel is closed unless the lock is returned
+     *
+     * @return The lock, or null if another process holds it
+     */
+    private static FileLock tryLock(Path file) {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            LOCKED_FILES.remove(file);
+            throw new UncheckedIOException(e);
+        }
+
+        FileLock lock = null;
+        try {
+            lock = channel.tryLock();
+            return lock;
+        } catch (OverlappingFileLockException e) {
+            // 被本进程中不经过分配器的代码锁定
+            return null;
+        } catch (IOException e) {
+            LOCKED_FILES.remove(file);
+            throw new UncheckedIOException(e);
+        } finally {
+            if (null == lock) {
+                closeQuietly(channel);
+            }
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // nothing to do
+        }
+    }
+
+    private static final class FileLockLease implements WorkerIdLease {
+
+        private final long dataCenterId;
+
+        private final long workerId;
+
+        private final Path file;
+
+        private final FileLock lock;
+
+        private final AtomicBoolean isClosed = new AtomicBoolean();
+
+        private FileLockLease(long dataCenterId, long workerId, Path file, FileLock lock) {
+            this.dataCenterId = dataCenterId;
+            this.workerId = workerId;
+            this.file = file;
+            this.lock = lock;
+        }
+
+        @Override
+        public long getDataCenterId() {
+            return dataCenterId;
+        }
+
+        @Override
+        public long getWorkerId() {
+            return workerId;
+        }
+
+        @Override
+        public boolean isValid() {
+            return lock.isValid();
+        }
+
+        @Override
+        public void close() {
+            if (!isClosed.compareAndSet(false, true)) {
+                return;
+            }
+            // 先关闭通道释放锁, 再允许本进程的其他分配器打开这个文件
+            closeQuietly(lock.channel());
+            LOCKED_FILES.remove(file);
+        }
+    }
+}
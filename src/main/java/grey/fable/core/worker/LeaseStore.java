@@ -0,0 +1,46 @@
+package grey.fable.core.worker;
+
+/**
+ * Coordination store of expiring leases, used by {@link LeaseWorkerIdAssigner}. Each operation must be atomic
+ * across all processes sharing the store. <br />
+ * 带过期时间的租约存储, 每个操作在所有共享该存储的进程之间必须是原子的
+ *
+ * @author Fable
+ * @since 2026/10/17 15:40
+ */
+public interface LeaseStore {
+
+    /**
+     * Acquire the lease if it is free, expired, or already held by the owner
+     *
+     * @param key       Lease key
+     * @param owner     Owner
+     * @param expiresAt Expiration time in milliseconds since 1970
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 15:41
+     */
+    boolean tryAcquire(String key, String owner, long expiresAt);
+
+    /**
+     * Extend the lease, only if it is still held by the owner
+     *
+     * @param key       Lease key
+     * @param owner     Owner
+     * @param expiresAt New expiration time in milliseconds since 1970
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 15:42
+     */
+    boolean renew(String key, String owner, long expiresAt);
+
+    /**
+     * Release the lease, only if it is held by the owner
+     *
+     * @param key   Lease key
+     * @param owner Owner
+     * @author Fable
+     * @since 2026/10/17 15:42
+     */
+    void release(String key, String owner);
+}
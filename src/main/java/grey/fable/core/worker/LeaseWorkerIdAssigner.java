@@ -0,0 +1,157 @@
+package grey.fable.core.worker;
+
+import grey.fable.core.Assert;
+import grey.fable.core.PID;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link WorkerIdAssigner} that leases worker IDs from a {@link LeaseStore} with a time to live,
+ * and renews the lease in the background every third of it. Every lease has its own owner token,
+ * so one assigner can be shared by several generators. A lease that could not be renewed in time
+ * becomes invalid at its expiration, before any other generator can acquire the worker ID. <br />
+ * 基于租约的 workerId 分配器, 后台定时续约
+ * <pre>
+ *     Snowflake snowflake = Snowflake.builder()
+ *             .workerIdAssigner(new LeaseWorkerIdAssigner(new DirectoryLeaseStore(Path.of("/shared/snowflake")), Duration.ofSeconds(30)))
+ *             .build();
+ * </pre>
+ *
+ * @author Fable
+ * @since 2026/10/17 16:00
+ */
+public class LeaseWorkerIdAssigner implements WorkerIdAssigner {
+
+    /**
+     * The default time to live of a lease
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    private final LeaseStore store;
+
+    private final long ttlMillis;
+
+    /**
+     * Owner prefix of the leases, unique per assigner
+     */
+    private final String owner;
+
+    /**
+     * Number of leases acquired so far, gives each lease its own owner token
+     */
+    private final AtomicLong leaseCount = new AtomicLong();
+
+    public LeaseWorkerIdAssigner(LeaseStore store) {
+        this(store, DEFAULT_TTL);
+    }
+
+    public LeaseWorkerIdAssigner(LeaseStore store, Duration ttl) {
+        Assert.isTrue(null != store, "The lease store must not be null.");
+        Assert.isTrue(null != ttl && ttl.toMillis() >= 3, "The time to live must be at least 3 milliseconds.");
+        this.store = store;
+        this.ttlMillis = ttl.toMillis();
+        this.owner = PID.PROCESS_ID + "@" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    @Override
+    public WorkerIdLease assign(long dataCenterId, long maxWorkerId) {
+        // 每个租约使用独立的持有者标识, 同一分配器创建的多个生成器不会因 "已被自己持有" 而拿到同一个 workerId
+        final String leaseOwner = owner + "#" + leaseCount.incrementAndGet();
+        for (long workerId = 0; workerId <= maxWorkerId; workerId++) {
+            final String key = "worker-" + dataCenterId + "-" + workerId;
+            final long expiresAt = System.currentTimeMillis() + ttlMillis;
+            if (store.tryAcquire(key, leaseOwner, expiresAt)) {
+                return new RenewingLease(dataCenterId, workerId, key, leaseOwner, expiresAt);
+            }
+        }
+        throw new IllegalStateException(String.format(
+                "No free worker ID of data center %d is left, all %d are leased.", dataCenterId, maxWorkerId + 1));
+    }
+
+    /**
+     * The owner prefix of the leases of this assigner, each lease is owned by {@code <owner>#<n>}
+     *
+     * @return {@link String}
+     * @author Fable
+     * @since 2026/10/17 16:02
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    private final class RenewingLease implements WorkerIdLease {
+
+        private final long dataCenterId;
+
+        private final long workerId;
+
+        private final String key;
+
+        private final String owner;
+
+        private final ScheduledExecutorService renewer;
+
+        private volatile long expiresAt;
+
+        private volatile boolean isLost;
+
+        private RenewingLease(long dataCenterId, long workerId, String key, String owner, long expiresAt) {
+            this.dataCenterId = dataCenterId;
+            this.workerId = workerId;
+            this.key = key;
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+            this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "fable-worker-lease-" + key);
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long period = ttlMillis / 3;
+            renewer.scheduleAtFixedRate(this::renew, period, period, TimeUnit.MILLISECONDS);
+        }
+
+        private void renew() {
+            final long next = System.currentTimeMillis() + ttlMillis;
+            try {
+                if (store.renew(key, owner, next)) {
+                    expiresAt = next;
+                } else {
+                    lose();
+                }
+            } catch (RuntimeException e) {
+                // 续约失败时保留旧的过期时间, 到期后租约自然失效
+            }
+        }
+
+        private void lose() {
+            isLost = true;
+            renewer.shutdown();
+        }
+
+        @Override
+        public long getDataCenterId() {
+            return dataCenterId;
+        }
+
+        @Override
+        public long getWorkerId() {
+            return workerId;
+        }
+
+        @Override
+        public boolean isValid() {
+            return !isLost && System.currentTimeMillis() < expiresAt;
+        }
+
+        @Override
+        public void close() {
+            lose();
+            store.release(key, owner);
+        }
+    }
+}
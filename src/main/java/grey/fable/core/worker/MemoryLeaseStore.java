@@ -0,0 +1,50 @@
+package grey.fable.core.worker;
+
+import grey.fable.core.map.MapUtil;
+
+import java.util.Map;
+
+/**
+ * In-memory {@link LeaseStore}. A local stand-in for a coordination store (e.g. in tests),
+ * it only coordinates the generators of one process.
+ *
+ * @author Fable
+ * @since 2026/10/17 15:45
+ */
+public class MemoryLeaseStore implements LeaseStore {
+
+    private final Map<String, Lease> leases = MapUtil.concurrentHashMap();
+
+    @Override
+    public boolean tryAcquire(String key, String owner, long expiresAt) {
+        final long now = System.currentTimeMillis();
+        final Lease lease = leases.compute(key, (k, current) ->
+                null == current || current.expiresAt <= now || current.owner.equals(owner) ?
+                        new Lease(owner, expiresAt) : current);
+        return lease.owner.equals(owner);
+    }
+
+    @Override
+    public boolean renew(String key, String owner, long expiresAt) {
+        final Lease lease = leases.computeIfPresent(key, (k, current) ->
+                current.owner.equals(owner) ? new Lease(owner, expiresAt) : current);
+        return null != lease && lease.owner.equals(owner) && lease.expiresAt == expiresAt;
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        leases.computeIfPresent(key, (k, current) -> current.owner.equals(owner) ? null : current);
+    }
+
+    private static final class Lease {
+
+        private final String owner;
+
+        private final long expiresAt;
+
+        private Lease(String owner, long expiresAt) {
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
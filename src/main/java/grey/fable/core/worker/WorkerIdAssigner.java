@@ -0,0 +1,39 @@
+package grey.fable.core.worker;
+
+import grey.fable.core.utils.IdUtil;
+
+/**
+ * Assigner of Snowflake worker IDs. Implementations must never hand the same worker ID of a data center
+ * to two live generators, and must throw {@link IllegalStateException} when no free worker ID is left. <br />
+ * 雪花 ID 的 workerId 分配器
+ *
+ * @author Fable
+ * @since 2026/10/17 15:30
+ */
+@FunctionalInterface
+public interface WorkerIdAssigner {
+
+    /**
+     * Assign a worker ID of the data center
+     *
+     * @param dataCenterId DataCenterId
+     * @param maxWorkerId  MaxWorkerId
+     * @return {@link WorkerIdLease}
+     * @throws IllegalStateException If no free worker ID is left
+     * @author Fable
+     * @since 2026/10/17 15:31
+     */
+    WorkerIdLease assign(long dataCenterId, long maxWorkerId);
+
+    /**
+     * The original assigner that hashes the data center ID and the process ID, see {@link IdUtil#getWorkerId(long, long)}.
+     * It cannot detect collisions, e.g. in containers where every process ID is 1.
+     *
+     * @return {@link WorkerIdAssigner}
+     * @author Fable
+     * @since 2026/10/17 15:32
+     */
+    static WorkerIdAssigner hashing() {
+        return (dataCenterId, maxWorkerId) -> WorkerIdLease.of(dataCenterId, IdUtil.getWorkerId(dataCenterId, maxWorkerId));
+    }
+}
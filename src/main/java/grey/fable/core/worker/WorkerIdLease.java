@@ -0,0 +1,67 @@
+package grey.fable.core.worker;
+
+/**
+ * A worker ID held by a generator. Once the lease is no longer valid the worker ID may be handed to another
+ * generator, so the holder must stop generating IDs with it. <br />
+ * 持有的 workerId 租约, 租约失效后必须停止使用该 workerId 生成 ID
+ *
+ * @author Fable
+ * @since 2026/10/17 15:34
+ */
+public interface WorkerIdLease extends AutoCloseable {
+
+    long getDataCenterId();
+
+    long getWorkerId();
+
+    /**
+     * Check whether the worker ID is still exclusively held
+     *
+     * @return {@link boolean}
+     * @author Fable
+     * @since 2026/10/17 15:35
+     */
+    boolean isValid();
+
+    /**
+     * Release the worker ID
+     *
+     * @author Fable
+     * @since 2026/10/17 15:35
+     */
+    @Override
+    void close();
+
+    /**
+     * A lease that never expires, for worker IDs that are not coordinated
+     *
+     * @param dataCenterId DataCenterId
+     * @param workerId     WorkerId
+     * @return {@link WorkerIdLease}
+     * @author Fable
+     * @since 2026/10/17 15:36
+     */
+    static WorkerIdLease of(long dataCenterId, long workerId) {
+        return new WorkerIdLease() {
+            @Override
+            public long getDataCenterId() {
+                return dataCenterId;
+            }
+
+            @Override
+            public long getWorkerId() {
+                return workerId;
+            }
+
+            @Override
+            public boolean isValid() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+                // nothing to release
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package grey.fable.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prefetch and segment switching of {@link SegmentIdGenerator}
+ *
+ * @author Fable
+ * @since 2026/10/17 23:56
+ */
+class SegmentIdGeneratorTest {
+
+    @Test
+    void prefetchStartsOncePerSegment() {
+        final AtomicInteger allocations = new AtomicInteger();
+        final MemoryRangeStore memory = new MemoryRangeStore(0L);
+        final SegmentIdGenerator generator = SegmentIdGenerator.builder()
+                .store((key, step) -> {
+                    allocations.incrementAndGet();
+                    return memory.allocate(key, step);
+                })
+                .key("order").step(10).prefetchRatio(0.5D)
+                .executor(Runnable::run)
+                .build();
+
+        for (long expected = 0; expected < 30; expected++) {
+            Assertions.assertEquals(expected, generator.nextId());
+        }
+        // 首个号段同步分配, 之后每个号段在用到一半时预取一次下一个号段
+        Assertions.assertEquals(4, allocations.get());
+    }
+
+    @Test
+    void rejectedPrefetchFallsBackToSynchronousAllocation() {
+        final AtomicInteger allocations = new AtomicInteger();
+        final MemoryRangeStore memory = new MemoryRangeStore(0L);
+        final SegmentIdGenerator generator = SegmentIdGenerator.builder()
+                .store((key, step) -> {
+                    allocations.incrementAndGet();
+                    return memory.allocate(key, step);
+                })
+                .key("order").step(10).prefetchRatio(0.5D)
+                .executor(command -> {
+                    throw new RejectedExecutionException("Shut down");
+                })
+                .build();
+
+        for (long expected = 0; expected < 25; expected++) {
+            Assertions.assertEquals(expected, generator.nextId());
+        }
+        Assertions.assertEquals(3, allocations.get());
+    }
+
+    @Test
+    void failedPrefetchFallsBackToSynchronousAllocation() {
+        final AtomicInteger allocations = new AtomicInteger();
+        final MemoryRangeStore memory = new MemoryRangeStore(0L);
+        final SegmentIdGenerator generator = SegmentIdGenerator.builder()
+                .store((key, step) -> {
+                    if (2 == allocations.incrementAndGet()) {
+                        throw new IllegalStateException("Store unavailable");
+                    }
+                    return memory.allocate(key, step);
+                })
+                .key("order").step(10).prefetchRatio(0.5D)
+                .executor(Runnable::run)
+                .build();
+
+        for (long expected = 0; expected < 20; expected++) {
+            Assertions.assertEquals(expected, generator.nextId());
+        }
+    }
+
+    @Test
+    void concurrentIdsLeaveNoGap() throws Exception {
+        final int threads = 8;
+        final int idsPerThread = 20_000;
+        final SegmentIdGenerator generator = SegmentIdGenerator.builder()
+                .store(new MemoryRangeStore(0L))
+                .key("order").step(64).prefetchRatio(0.5D)
+                .build();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final long[] all = new long[threads * idsPerThread];
+        try {
+            final CountDownLatch startGate = new CountDownLatch(1);
+            final List<Future<long[]>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    final long[] ids = new long[idsPerThread];
+                    for (int j = 0; j < ids.length; j++) {
+                        ids[j] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            startGate.countDown();
+            for (int i = 0; i < threads; i++) {
+                System.arraycopy(futures.get(i).get(), 0, all, i * idsPerThread, idsPerThread);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 预取到的号段必须被使用, 否则排序后会出现空洞
+        Arrays.sort(all);
+        for (int i = 0; i < all.length; i++) {
+            Assertions.assertEquals(i, all[i]);
+        }
+    }
+}
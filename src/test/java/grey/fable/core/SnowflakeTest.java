@@ -0,0 +1,228 @@
+package grey.fable.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Uniqueness and per-thread monotonicity of the {@link Snowflake} implementations under concurrency
+ *
+ * @author Fable
+ * @since 2026/10/17 23:10
+ */
+class SnowflakeTest {
+
+    private static final int THREADS = 8;
+
+    private static final int IDS_PER_THREAD = 100_000;
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @ParameterizedTest
+    @EnumSource(SnowflakeBuilder.Mode.class)
+    void nextIdIsUniqueAndIncreasingPerThread(SnowflakeBuilder.Mode mode) throws Exception {
+        final Snowflake snowflake = build(mode);
+        final long[][] ids = generateConcurrently(thread -> {
+            final long[] result = new long[IDS_PER_THREAD];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = snowflake.nextId();
+            }
+            return result;
+        });
+        assertUniqueAndIncreasing(ids);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SnowflakeBuilder.Mode.class)
+    void fillIsUniqueAndIncreasingPerThread(SnowflakeBuilder.Mode mode) throws Exception {
+        final Snowflake snowflake = build(mode);
+        final long[][] ids = generateConcurrently(thread -> {
+            final long[] result = new long[IDS_PER_THREAD];
+            for (int from = 0; from < result.length; from += BATCH_SIZE) {
+                snowflake.fill(result, from, Math.min(result.length, from + BATCH_SIZE));
+            }
+            return result;
+        });
+        assertUniqueAndIncreasing(ids);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SnowflakeBuilder.Mode.class)
+    void mixedNextIdAndFillAreUnique(SnowflakeBuilder.Mode mode) throws Exception {
+        final Snowflake snowflake = build(mode);
+        final long[][] ids = generateConcurrently(thread -> {
+            final long[] result = new long[IDS_PER_THREAD];
+            int index = 0;
+            while (index < result.length) {
+                if (0 == (thread & 1)) {
+                    result[index++] = snowflake.nextId();
+                } else {
+                    final int to = Math.min(result.length, index + 7);
+                    snowflake.fill(result, index, to);
+                    index = to;
+                }
+            }
+            return result;
+        });
+        assertUniqueAndIncreasing(ids);
+    }
+
+    @Test
+    void lockFreeFillCrossesMillisecondRollover() {
+        final SnowflakeLayout layout = SnowflakeLayout.DEFAULT;
+        // 每读取两次时钟前进 1 毫秒, 一次批量生成会跨越多个毫秒
+        final long start = System.currentTimeMillis();
+        final long[] reads = new long[1];
+        final Snowflake snowflake = Snowflake.builder().mode(SnowflakeBuilder.Mode.LOCK_FREE)
+                .dataCenterId(1).workerId(1)
+                .timeSource(() -> start + reads[0]++ / 2)
+                .build();
+
+        final int sequences = (int) (layout.sequenceMask + 1);
+        final long[] ids = new long[sequences * 3 + 17];
+        snowflake.fill(ids);
+
+        int rollovers = 0;
+        for (int i = 1; i < ids.length; i++) {
+            Assertions.assertTrue(ids[i] > ids[i - 1], "IDs must increase at index " + i);
+            if (snowflake.timestampOf(ids[i]) != snowflake.timestampOf(ids[i - 1])) {
+                rollovers++;
+                Assertions.assertEquals(0, snowflake.sequenceOf(ids[i]), "The sequence must restart in a new millisecond");
+            } else {
+                Assertions.assertEquals(snowflake.sequenceOf(ids[i - 1]) + 1, snowflake.sequenceOf(ids[i]));
+            }
+        }
+        Assertions.assertTrue(rollovers >= 3, "The batch must span at least 4 milliseconds, rollovers: " + rollovers);
+    }
+
+    @Test
+    void lockFreeConcurrentFillCrossesMillisecondRollover() throws Exception {
+        final LockFreeSnowflake snowflake = (LockFreeSnowflake) build(SnowflakeBuilder.Mode.LOCK_FREE);
+        final int sequences = (int) (snowflake.getLayout().sequenceMask + 1);
+        // 每批大于一毫秒的序列号数, 必然跨越毫秒
+        final long[][] ids = generateConcurrently(thread -> {
+            final long[] result = new long[sequences * 5];
+            for (int from = 0; from < result.length; from += sequences + 1) {
+                snowflake.fill(result, from, Math.min(result.length, from + sequences + 1));
+            }
+            return result;
+        });
+        assertUniqueAndIncreasing(ids);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SnowflakeBuilder.Mode.class)
+    void generationStopsAtTheHorizon(SnowflakeBuilder.Mode mode) {
+        final long now = System.currentTimeMillis();
+        final SnowflakeLayout layout = SnowflakeLayout.builder().timestampBits(10).epoch(now - 100).build();
+        final AtomicLong clock = new AtomicLong(now);
+        final Snowflake snowflake = Snowflake.builder().mode(mode).layout(layout)
+                .dataCenterId(1).workerId(1)
+                .timeSource(clock::get)
+                .build();
+
+        snowflake.nextId();
+        clock.set(layout.getHorizon());
+        final long last = snowflake.nextId();
+        Assertions.assertEquals(layout.getHorizon(), snowflake.timestampOf(last));
+        Assertions.assertEquals(1, snowflake.workerOf(last));
+
+        // 越过边界后时间戳会溢出到节点位, 必须拒绝生成
+        clock.incrementAndGet();
+        Assertions.assertThrows(IllegalStateException.class, snowflake::nextId);
+        Assertions.assertThrows(IllegalStateException.class, () -> snowflake.fill(new long[16]));
+    }
+
+    @Test
+    void rollbackDuringFillKeepsTheMillisUsedByTheBatch() {
+        final long base = System.currentTimeMillis();
+        // 批量生成中途发生时钟回拨, 之后的回拨不能切回主 workerId 位重复使用批量中的毫秒
+        final long[] script = {101, 102, 50, 103, 101};
+        final int[] reads = new int[1];
+        final Snowflake snowflake = Snowflake.builder().mode(SnowflakeBuilder.Mode.SYNCHRONIZED)
+                .dataCenterId(1).workerId(1)
+                .rollbackStrategy(RollbackStrategy.BACKUP_WORKER, 0)
+                .timeSource(() -> base + script[Math.min(reads[0]++, script.length - 1)])
+                .build();
+
+        final int sequences = (int) (snowflake.getLayout().sequenceMask + 1);
+        final long[] batch = new long[sequences * 2 + 10];
+        snowflake.fill(batch);
+        final Set<Long> issued = new HashSet<>();
+        for (long id : batch) {
+            Assertions.assertTrue(issued.add(id), "Duplicate ID in the batch: " + id);
+        }
+
+        Assertions.assertTrue(issued.add(snowflake.nextId()));
+        // 主 workerId 位已用到 102, 回到 101 既不能切回也不能借用
+        Assertions.assertThrows(IllegalStateException.class, snowflake::nextId);
+    }
+
+    private static Snowflake build(SnowflakeBuilder.Mode mode) {
+        return Snowflake.builder().mode(mode).dataCenterId(1).workerId(1).build();
+    }
+
+    /**
+     * Run the generator on {@link #THREADS} threads that start together
+     */
+    private static long[][] generateConcurrently(IntFunction<long[]> generator) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch startGate = new CountDownLatch(1);
+            final List<Future<long[]>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                final int thread = i;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return generator.apply(thread);
+                }));
+            }
+            startGate.countDown();
+            final long[][] ids = new long[THREADS][];
+            for (int i = 0; i < THREADS; i++) {
+                ids[i] = futures.get(i).get();
+            }
+            return ids;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertUniqueAndIncreasing(long[][] ids) {
+        int total = 0;
+        for (long[] threadIds : ids) {
+            for (int i = 1; i < threadIds.length; i++) {
+                if (threadIds[i] <= threadIds[i - 1]) {
+                    Assertions.fail("IDs of a thread must increase: " + threadIds[i - 1] + " then " + threadIds[i]);
+                }
+            }
+            total += threadIds.length;
+        }
+
+        final long[] all = new long[total];
+        int offset = 0;
+        for (long[] threadIds : ids) {
+            System.arraycopy(threadIds, 0, all, offset, threadIds.length);
+            offset += threadIds.length;
+        }
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            if (all[i] == all[i - 1]) {
+                Assertions.fail("Duplicate ID: " + all[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package grey.fable.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Block leasing of {@link StripedSnowflake}
+ *
+ * @author Fable
+ * @since 2026/10/17 23:20
+ */
+class StripedSnowflakeTest {
+
+    @Test
+    void blockAheadOfClockIsUsedUp() {
+        final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        final StripedSnowflake snowflake = (StripedSnowflake) Snowflake.builder()
+                .mode(SnowflakeBuilder.Mode.STRIPED)
+                .dataCenterId(1).workerId(1)
+                .blockSize(64)
+                .rollbackStrategy(RollbackStrategy.BORROW, 1_000)
+                .timeSource(clock::get)
+                .build();
+
+        long last = snowflake.nextId();
+        // 时钟回拨后借用的块时间戳领先于时钟, 必须继续使用而不是每次重新租用
+        clock.addAndGet(-10);
+        for (int i = 0; i < 1_000; i++) {
+            final long id = snowflake.nextId();
+            Assertions.assertTrue(id > last, "IDs must increase");
+            last = id;
+        }
+        Assertions.assertEquals(0, snowflake.getWastedCount(), "No leased sequence number may be wasted");
+        // 只有当前块中剩余的序列号尚未使用
+        Assertions.assertTrue(snowflake.getLeasedCount() - 1_001 < 64, "Leased: " + snowflake.getLeasedCount());
+    }
+
+    @Test
+    void expiredBlockIsWasted() {
+        final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        final StripedSnowflake snowflake = (StripedSnowflake) Snowflake.builder()
+                .mode(SnowflakeBuilder.Mode.STRIPED)
+                .dataCenterId(1).workerId(1)
+                .blockSize(64)
+                .timeSource(clock::get)
+                .build();
+
+        // 用完两个块使块大小增长到 4, 再用掉新块的一个序列号
+        for (int i = 0; i < 4; i++) {
+            snowflake.nextId();
+        }
+        clock.incrementAndGet();
+        snowflake.nextId();
+        Assertions.assertEquals(3, snowflake.getWastedCount());
+    }
+}
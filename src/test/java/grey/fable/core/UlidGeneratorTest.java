@@ -0,0 +1,142 @@
+package grey.fable.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Text form and ordering of the ULIDs of {@link UlidGenerator}
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+class UlidGeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        final Random random = new Random(7);
+        final long[][] samples = {{0L, 0L}, {-1L, -1L}, {1L, 0L}, {0L, 1L}, {Long.MIN_VALUE, Long.MIN_VALUE}};
+        for (long[] sample : samples) {
+            assertRoundTrip(sample[0], sample[1]);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertRoundTrip(random.nextLong(), random.nextLong());
+        }
+
+        final char[] chars = new char[UlidGenerator.LENGTH];
+        UlidGenerator.encode(-1L, -1L, chars, 0);
+        Assertions.assertEquals("7ZZZZZZZZZZZZZZZZZZZZZZZZZ", new String(chars));
+        UlidGenerator.encode(0L, 0L, chars, 0);
+        Assertions.assertEquals("00000000000000000000000000", new String(chars));
+    }
+
+    @Test
+    void textSortsLikeTheBits() {
+        final Random random = new Random(11);
+        final char[] left = new char[UlidGenerator.LENGTH];
+        final char[] right = new char[UlidGenerator.LENGTH];
+        for (int i = 0; i < 10_000; i++) {
+            final long msb1 = random.nextLong();
+            final long lsb1 = random.nextLong();
+            // 一半的样本只在低 64 位不同
+            final long msb2 = 0 == (i & 1) ? msb1 : random.nextLong();
+            final long lsb2 = random.nextLong();
+            UlidGenerator.encode(msb1, lsb1, left, 0);
+            UlidGenerator.encode(msb2, lsb2, right, 0);
+
+            final int bits = 0 != Long.compareUnsigned(msb1, msb2) ? Long.compareUnsigned(msb1, msb2) : Long.compareUnsigned(lsb1, lsb2);
+            Assertions.assertEquals(Integer.signum(bits), Integer.signum(new String(left).compareTo(new String(right))));
+        }
+    }
+
+    @Test
+    void invalidTextIsRejected() {
+        final long[] dst = new long[2];
+        final String valid = "01ARZ3NDEKTSV4RRFFQ69G5FAV";
+        UlidGenerator.decode(valid, dst, 0);
+        final long msb = dst[0];
+        final long lsb = dst[1];
+        UlidGenerator.decode(valid.toLowerCase(), dst, 0);
+        Assertions.assertEquals(msb, dst[0]);
+        Assertions.assertEquals(lsb, dst[1]);
+
+        // 第一个字符只有 3 位, 大于 7 会溢出 128 位
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UlidGenerator.decode("8" + valid.substring(1), dst, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UlidGenerator.decode("Z" + valid.substring(1), dst, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UlidGenerator.decode(valid.substring(1), dst, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UlidGenerator.decode(valid + "0", dst, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UlidGenerator.decode(valid.replace('V', 'U'), dst, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> UlidGenerator.decode(valid, dst, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> UlidGenerator.encode(0L, 0L, new char[UlidGenerator.LENGTH], 1));
+    }
+
+    @Test
+    void generatedUlidsCarryTheClock() {
+        final UlidGenerator generator = new UlidGenerator(() -> NOW);
+        String previous = generator.next();
+        final long[] dst = new long[2];
+        for (int i = 0; i < 10_000; i++) {
+            final String ulid = generator.next();
+            Assertions.assertEquals(UlidGenerator.LENGTH, ulid.length());
+            Assertions.assertTrue(ulid.charAt(0) <= '7');
+            // 同一毫秒内的 ULID 严格递增
+            Assertions.assertTrue(ulid.compareTo(previous) > 0, ulid + " after " + previous);
+            UlidGenerator.decode(ulid, dst, 0);
+            Assertions.assertEquals(NOW, UlidGenerator.timestampOf(dst[0]));
+            previous = ulid;
+        }
+    }
+
+    @Test
+    void counterCarriesIntoTheTimestamp() {
+        final AtomicLong clock = new AtomicLong(NOW);
+        final UlidGenerator generator = new UlidGenerator(clock::get);
+        long previous = generator.nextMostSignificantBits();
+        // 计数器有 16 位, 初始值小于 2^15, 同一毫秒内 65536 次之后必然进位
+        for (int i = 0; i < 70_000; i++) {
+            final long msb = generator.nextMostSignificantBits();
+            Assertions.assertTrue(msb > previous);
+            previous = msb;
+        }
+        Assertions.assertEquals(NOW + 1, UlidGenerator.timestampOf(previous));
+
+        clock.set(NOW + 5);
+        Assertions.assertEquals(NOW + 5, UlidGenerator.timestampOf(generator.nextMostSignificantBits()));
+    }
+
+    @Test
+    void everyTargetHoldsTheSameUlid() {
+        final UlidGenerator generator = new UlidGenerator(() -> NOW);
+        final char[] chars = new char[UlidGenerator.LENGTH + 2];
+        Assertions.assertEquals(UlidGenerator.LENGTH, generator.next(chars, 1));
+        final long[] decoded = new long[2];
+        UlidGenerator.decode(new String(chars, 1, UlidGenerator.LENGTH), decoded, 0);
+        Assertions.assertEquals(NOW, UlidGenerator.timestampOf(decoded[0]));
+
+        final long[] pair = new long[3];
+        generator.next(pair, 1);
+        Assertions.assertEquals(NOW, UlidGenerator.timestampOf(pair[1]));
+        Assertions.assertTrue(pair[1] > decoded[0]);
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(18);
+        buffer.position(2);
+        generator.next(buffer);
+        Assertions.assertEquals(18, buffer.position());
+        Assertions.assertTrue(buffer.getLong(2) > pair[1]);
+    }
+
+    private static void assertRoundTrip(long msb, long lsb) {
+        final char[] chars = new char[UlidGenerator.LENGTH + 3];
+        Assertions.assertEquals(UlidGenerator.LENGTH, UlidGenerator.encode(msb, lsb, chars, 3));
+        Assertions.assertTrue(chars[3] <= '7');
+        final long[] dst = new long[3];
+        UlidGenerator.decode(new String(chars, 3, UlidGenerator.LENGTH), dst, 1);
+        Assertions.assertEquals(msb, dst[1]);
+        Assertions.assertEquals(lsb, dst[2]);
+    }
+}
@@ -0,0 +1,136 @@
+package grey.fable.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Layout and ordering of the UUIDs of {@link UuidV7Generator}
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    void versionVariantAndTimestamp() {
+        final UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+        for (int i = 0; i < 1_000; i++) {
+            final UUID uuid = generator.next();
+            Assertions.assertEquals(7, uuid.version());
+            Assertions.assertEquals(2, uuid.variant());
+            Assertions.assertEquals(NOW, UuidV7Generator.timestampOf(uuid));
+            Assertions.assertEquals(uuid, UUID.fromString(uuid.toString()));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UuidV7Generator.timestampOf(UUID.randomUUID()));
+    }
+
+    @Test
+    void increasesWithinAMillisecond() {
+        final UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+        UUID previous = generator.next();
+        // 计数器初始值最高位为 0, 同一毫秒内至少还能递增 2048 次
+        for (int i = 0; i < 2_048; i++) {
+            final UUID uuid = generator.next();
+            Assertions.assertTrue(uuid.compareTo(previous) > 0, uuid + " after " + previous);
+            Assertions.assertEquals(NOW, UuidV7Generator.timestampOf(uuid));
+            previous = uuid;
+        }
+    }
+
+    @Test
+    void counterCarriesIntoTheTimestamp() {
+        final AtomicLong clock = new AtomicLong(NOW);
+        final UuidV7Generator generator = new UuidV7Generator(clock::get);
+        long previous = generator.nextMostSignificantBits();
+        // 计数器只有 12 位, 同一毫秒内 4096 次之后必然进位到时间戳
+        for (int i = 0; i < 5_000; i++) {
+            final long msb = generator.nextMostSignificantBits();
+            Assertions.assertTrue(msb > previous);
+            Assertions.assertEquals(0x7000L, msb & 0xF000L, "The version bits must survive the carry");
+            previous = msb;
+        }
+        Assertions.assertEquals(NOW + 1, previous >>> 16);
+
+        // 时钟回拨或落后于进位后的时间戳时继续递增
+        clock.set(NOW - 10);
+        Assertions.assertTrue(generator.nextMostSignificantBits() > previous);
+
+        // 时钟超过后使用新的毫秒
+        clock.set(NOW + 5);
+        Assertions.assertEquals(NOW + 5, generator.nextMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void arrayAndBufferHoldTheSameLayout() {
+        final UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+        final long[] pair = new long[4];
+        generator.next(pair, 1);
+        final UUID fromArray = new UUID(pair[1], pair[2]);
+        Assertions.assertEquals(7, fromArray.version());
+        Assertions.assertEquals(2, fromArray.variant());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.next(pair, 3));
+
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(20), ByteBuffer.allocateDirect(20)}) {
+            buffer.position(2);
+            generator.next(buffer);
+            Assertions.assertEquals(18, buffer.position());
+            final UUID fromBuffer = new UUID(buffer.getLong(2), buffer.getLong(10));
+            Assertions.assertEquals(7, fromBuffer.version());
+            Assertions.assertEquals(NOW, UuidV7Generator.timestampOf(fromBuffer));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.next(buffer));
+        }
+    }
+
+    @Test
+    void concurrentUuidsAreUnique() throws Exception {
+        final int threads = 8;
+        final int perThread = 50_000;
+        final UuidV7Generator generator = new UuidV7Generator();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final long[] all = new long[threads * perThread];
+        try {
+            final CountDownLatch startGate = new CountDownLatch(1);
+            final List<Future<long[]>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    final long[] msbs = new long[perThread];
+                    for (int j = 0; j < msbs.length; j++) {
+                        msbs[j] = generator.nextMostSignificantBits();
+                    }
+                    return msbs;
+                }));
+            }
+            startGate.countDown();
+            for (int i = 0; i < threads; i++) {
+                final long[] msbs = futures.get(i).get();
+                // 单个线程内严格递增
+                for (int j = 1; j < msbs.length; j++) {
+                    Assertions.assertTrue(msbs[j] > msbs[j - 1]);
+                }
+                System.arraycopy(msbs, 0, all, i * perThread, perThread);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 时间戳与计数器由同一次 CAS 更新, 高 64 位在所有线程之间唯一
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            Assertions.assertNotEquals(all[i - 1], all[i]);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package grey.fable.core.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Writes of a key racing with its load in {@link BoundedCache}
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+class BoundedCacheTest {
+
+    @Test
+    void invalidateDuringLoadIsNotLost() throws Exception {
+        final Cache<String, String> cache = Cache.<String, String>builder().maximumSize(100).build();
+        Assertions.assertEquals("stale", loadWhile(cache, c -> c.invalidate("key")));
+        Assertions.assertNull(cache.getIfPresent("key"));
+    }
+
+    @Test
+    void invalidateAllDuringLoadIsNotLost() throws Exception {
+        final Cache<String, String> cache = Cache.<String, String>builder().maximumSize(100).build();
+        Assertions.assertEquals("stale", loadWhile(cache, Cache::invalidateAll));
+        Assertions.assertNull(cache.getIfPresent("key"));
+    }
+
+    @Test
+    void putDuringLoadIsKept() throws Exception {
+        final Cache<String, String> cache = Cache.<String, String>builder().maximumSize(100).build();
+        Assertions.assertEquals("stale", loadWhile(cache, c -> c.put("key", "fresh")));
+        Assertions.assertEquals("fresh", cache.getIfPresent("key"));
+    }
+
+    @Test
+    void loadWithoutRacingWriteIsCached() {
+        final Cache<String, String> cache = Cache.<String, String>builder().maximumSize(100).build();
+        Assertions.assertEquals("loaded", cache.get("key", key -> "loaded"));
+        Assertions.assertEquals("loaded", cache.getIfPresent("key"));
+    }
+
+    /**
+     * Load the key on another thread and run the write while the loader is blocked
+     *
+     * @return The value returned to the loading caller
+     */
+    private static String loadWhile(Cache<String, String> cache, Consumer<Cache<String, String>> write) throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<String> result = CompletableFuture.supplyAsync(() -> cache.get("key", key -> {
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "stale";
+        }));
+
+        Assertions.assertTrue(loading.await(10, TimeUnit.SECONDS));
+        // 加载进行中时写入或失效
+        write.accept(cache);
+        release.countDown();
+        return result.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,136 @@
+package grey.fable.core.map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Values and size of {@link ConcurrentMultimap} under concurrent writes
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+class ConcurrentMultimapTest {
+
+    @Test
+    void lastValueRemovesTheKey() {
+        final ConcurrentMultimap<String, Integer> multimap = new ConcurrentMultimap<>();
+        multimap.put("a", 1);
+        multimap.put("a", 2);
+        multimap.put("a", 1);
+        Assertions.assertEquals(List.of(1, 2, 1), multimap.get("a"));
+        Assertions.assertEquals(3, multimap.size());
+
+        // 只移除第一次出现的值
+        Assertions.assertTrue(multimap.remove("a", 1));
+        Assertions.assertEquals(List.of(2, 1), multimap.get("a"));
+        Assertions.assertFalse(multimap.remove("a", 3));
+        Assertions.assertFalse(multimap.remove("b", 1));
+        Assertions.assertTrue(multimap.remove("a", 2));
+        Assertions.assertTrue(multimap.remove("a", 1));
+
+        Assertions.assertFalse(multimap.containsKey("a"));
+        Assertions.assertEquals(List.of(), multimap.get("a"));
+        Assertions.assertEquals(0, multimap.size());
+        Assertions.assertEquals(0, multimap.keyCount());
+        Assertions.assertTrue(multimap.isEmpty());
+    }
+
+    @Test
+    void snapshotsDoNotChange() {
+        final ConcurrentMultimap<String, Integer> multimap = new ConcurrentMultimap<>(4);
+        multimap.putAll("a", List.of(1, 2));
+        final List<Integer> snapshot = multimap.get("a");
+        multimap.put("a", 3);
+        multimap.remove("a", 1);
+        Assertions.assertEquals(List.of(1, 2), snapshot);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.add(4));
+
+        Assertions.assertEquals(List.of(2, 3), multimap.removeAll("a"));
+        Assertions.assertEquals(List.of(), multimap.removeAll("a"));
+        Assertions.assertEquals(0, multimap.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> multimap.put("a", null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> multimap.putAll("a", Arrays.asList(1, null)));
+        Assertions.assertTrue(multimap.isEmpty());
+    }
+
+    @Test
+    void concurrentWritesKeepTheSize() throws Exception {
+        final int threads = 8;
+        final int valuesPerThread = 5_000;
+        final int keys = 16;
+        final ConcurrentMultimap<Integer, Integer> multimap = new ConcurrentMultimap<>();
+        // 每个线程写入自己的值, 再移除其中的偶数, 与其他线程竞争同样的键
+        runConcurrently(threads, thread -> {
+            for (int i = 0; i < valuesPerThread; i++) {
+                multimap.put(i % keys, thread * valuesPerThread + i);
+            }
+            for (int i = 0; i < valuesPerThread; i += 2) {
+                Assertions.assertTrue(multimap.remove(i % keys, thread * valuesPerThread + i));
+            }
+        });
+
+        final long expected = (long) threads * valuesPerThread / 2;
+        Assertions.assertEquals(expected, multimap.size());
+        final Set<Integer> all = new HashSet<>();
+        multimap.forEach((key, values) -> {
+            for (Integer value : values) {
+                Assertions.assertEquals(key, value % valuesPerThread % keys);
+                Assertions.assertEquals(1, value % 2);
+                Assertions.assertTrue(all.add(value));
+            }
+        });
+        Assertions.assertEquals(expected, all.size());
+        // 偶数键的值全部是偶数, 随最后一个值一起移除
+        Assertions.assertEquals(keys / 2, multimap.keyCount());
+        Assertions.assertFalse(multimap.containsKey(0));
+
+        // 并发移除所有值后键也随最后一个值移除
+        runConcurrently(threads, thread -> {
+            for (int i = 1; i < valuesPerThread; i += 2) {
+                Assertions.assertTrue(multimap.remove(i % keys, thread * valuesPerThread + i));
+            }
+        });
+        Assertions.assertEquals(0, multimap.size());
+        Assertions.assertEquals(0, multimap.keyCount());
+    }
+
+    static void runConcurrently(int threads, ThreadTask task) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch startGate = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                final int thread = i;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Work of one of the concurrent threads
+     */
+    interface ThreadTask {
+
+        void run(int thread);
+    }
+}
@@ -0,0 +1,84 @@
+package grey.fable.core.map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts and ranking of {@link CountingMap} under concurrent updates
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+class CountingMapTest {
+
+    @Test
+    void concurrentUpdatesAreCountedExactly() throws Exception {
+        final int threads = 8;
+        final int updatesPerThread = 100_000;
+        final int keys = 10;
+        final CountingMap<Integer> counts = new CountingMap<>();
+        // 所有线程竞争相同的少量键, 第一次更新时并发创建计数器
+        ConcurrentMultimapTest.runConcurrently(threads, thread -> {
+            for (int i = 0; i < updatesPerThread; i++) {
+                counts.increment(i % keys);
+                if (0 == i / keys % 4) {
+                    counts.add(i % keys, 3);
+                    counts.decrement(i % keys);
+                }
+            }
+        });
+
+        // 每个键每 4 轮额外加 2
+        final long perKey = (long) threads * (updatesPerThread + updatesPerThread / 4 * 2) / keys;
+        Assertions.assertEquals(keys, counts.size());
+        for (int key = 0; key < keys; key++) {
+            Assertions.assertEquals(perKey, counts.get(key));
+        }
+        Assertions.assertEquals(perKey * keys, counts.total());
+        Assertions.assertEquals(0, counts.get(keys));
+        Assertions.assertFalse(counts.containsKey(keys));
+    }
+
+    @Test
+    void topKIsInDescendingOrder() {
+        final CountingMap<String> counts = new CountingMap<>(16);
+        for (int i = 1; i <= 100; i++) {
+            // 计数为 i * 7 % 101, 互不相同且顺序打乱
+            counts.add("key-" + i, i * 7L % 101);
+        }
+
+        final List<Map.Entry<String, Long>> top = counts.topK(5);
+        Assertions.assertEquals(5, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            Assertions.assertEquals(100L - i, top.get(i).getValue());
+            Assertions.assertEquals(counts.get(top.get(i).getKey()), top.get(i).getValue());
+        }
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> top.get(0).setValue(0L));
+
+        Assertions.assertEquals(100, counts.topK(1_000).size());
+        Assertions.assertEquals(0, counts.topK(0).size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> counts.topK(-1));
+        Assertions.assertEquals(0, new CountingMap<String>().topK(3).size());
+    }
+
+    @Test
+    void removedKeyCountsFromZero() {
+        final CountingMap<String> counts = new CountingMap<>();
+        counts.add("a", 5);
+        counts.increment("b");
+        Assertions.assertEquals(Map.of("a", 5L, "b", 1L), counts.snapshot());
+
+        Assertions.assertEquals(5, counts.remove("a"));
+        Assertions.assertEquals(0, counts.remove("a"));
+        Assertions.assertEquals(0, counts.get("a"));
+        counts.decrement("a");
+        Assertions.assertEquals(-1, counts.get("a"));
+        Assertions.assertEquals(0, counts.total());
+
+        counts.clear();
+        Assertions.assertTrue(counts.isEmpty());
+    }
+}
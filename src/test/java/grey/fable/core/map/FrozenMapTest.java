@@ -0,0 +1,85 @@
+package grey.fable.core.map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookups and iteration order of {@link FrozenMap} with distinct and with equal hash codes
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+class FrozenMapTest {
+
+    @Test
+    void distinctHashesAreFound() {
+        final Map<String, Integer> source = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            source.put("key-" + i, i);
+        }
+        assertSameContent(source, FrozenMap.of(source));
+    }
+
+    @Test
+    void equalHashesAreFound() {
+        // "Aa" 与 "BB" 哈希相同, 由它们拼接成的等长字符串全部哈希相同
+        final List<String> colliding = new ArrayList<>();
+        colliding.add("");
+        for (int round = 0; round < 10; round++) {
+            final List<String> next = new ArrayList<>(colliding.size() * 2);
+            for (String prefix : colliding) {
+                next.add(prefix + "Aa");
+                next.add(prefix + "BB");
+            }
+            colliding.clear();
+            colliding.addAll(next);
+        }
+
+        final Map<String, Integer> source = new LinkedHashMap<>();
+        for (int i = 0; i < colliding.size(); i++) {
+            source.put(colliding.get(i), i);
+            source.put("key-" + i, -i);
+        }
+        Assertions.assertEquals(colliding.get(0).hashCode(), colliding.get(colliding.size() - 1).hashCode());
+
+        final Map<String, Integer> frozen = FrozenMap.of(source);
+        assertSameContent(source, frozen);
+        Assertions.assertNull(frozen.get("AaAaAaAaAaAaAaAaAaAaAa"));
+    }
+
+    @Test
+    void equalHashesGoToTheOverflowArea() {
+        final Map<String, Integer> source = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            source.put("key-" + i, i);
+        }
+        // 只有一对键哈希相同, 其余的键仍按位移放入主表
+        source.put("Aa", -1);
+        source.put("BB", -2);
+
+        final FrozenMap<String, Integer> frozen = (FrozenMap<String, Integer>) FrozenMap.<String, Integer>of(source);
+        assertSameContent(source, frozen);
+        final int capacity = 1 << 14;
+        Assertions.assertTrue(frozen.table.length > capacity * 2);
+        Assertions.assertTrue(frozen.indexOf("Aa") >= capacity);
+        Assertions.assertTrue(frozen.indexOf("BB") >= capacity);
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertTrue(frozen.indexOf("key-" + i) < capacity);
+        }
+        Assertions.assertEquals(-1, frozen.indexOf("AaAa"));
+    }
+
+    private static void assertSameContent(Map<String, Integer> source, Map<String, Integer> frozen) {
+        Assertions.assertEquals(source.size(), frozen.size());
+        for (Map.Entry<String, Integer> entry : source.entrySet()) {
+            Assertions.assertEquals(entry.getValue(), frozen.get(entry.getKey()));
+        }
+        Assertions.assertNull(frozen.get("absent"));
+        Assertions.assertEquals(new ArrayList<>(source.keySet()), new ArrayList<>(frozen.keySet()));
+    }
+}
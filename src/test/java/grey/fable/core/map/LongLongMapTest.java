@@ -0,0 +1,71 @@
+package grey.fable.core.map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Capacity limits of {@link LongLongMap}, whose keys and values share one array, and growth of the primitive maps
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+class LongLongMapTest {
+
+    @Test
+    void expectedSizeBeyondTheInterleavedCapacityIsRejected() {
+        // 容量 2^30 时 entries 需要 2^31 个 long, 超出数组长度上限
+        final int expectedSize = 500_000_000;
+        Assertions.assertTrue(Math.ceil(expectedSize / (double) PrimitiveHashing.LOAD_FACTOR) <= PrimitiveHashing.MAX_CAPACITY);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LongLongMap(expectedSize));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> PrimitiveHashing.capacityFor(expectedSize, PrimitiveHashing.MAX_INTERLEAVED_CAPACITY));
+    }
+
+    @Test
+    void growthStopsAtTheInterleavedCapacity() {
+        Assertions.assertEquals(PrimitiveHashing.MAX_INTERLEAVED_CAPACITY,
+                PrimitiveHashing.grow(PrimitiveHashing.MAX_INTERLEAVED_CAPACITY >> 1, PrimitiveHashing.MAX_INTERLEAVED_CAPACITY));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> PrimitiveHashing.grow(PrimitiveHashing.MAX_INTERLEAVED_CAPACITY, PrimitiveHashing.MAX_INTERLEAVED_CAPACITY));
+    }
+
+    @Test
+    void growsPastTheInitialCapacity() {
+        final LongLongMap map = new LongLongMap(0);
+        for (long key = -1000; key <= 1000; key++) {
+            map.put(key, key * 2);
+        }
+        Assertions.assertEquals(2001, map.size());
+        for (long key = -1000; key <= 1000; key++) {
+            Assertions.assertEquals(key * 2, map.get(key));
+        }
+    }
+
+    @Test
+    void entryThatTriggersTheGrowthIsKept() {
+        final LongLongMap map = new LongLongMap(0, -1L);
+        // 初始容量 8, 阈值 6, 第 7 个条目先扩容再写入
+        for (long key = 1; key <= 6; key++) {
+            Assertions.assertEquals(-1L, map.putIfAbsent(key, key));
+        }
+        Assertions.assertEquals(7L, map.addTo(7, 7));
+        Assertions.assertEquals(-1L, map.put(8, 8));
+        Assertions.assertEquals(8, map.size());
+        for (long key = 1; key <= 8; key++) {
+            Assertions.assertEquals(key, map.get(key));
+        }
+
+        final IntObjectMap<String> ints = new IntObjectMap<>(0);
+        final LongObjectMap<String> longs = new LongObjectMap<>(0);
+        for (int key = 0; key < 100; key++) {
+            Assertions.assertNull(ints.putIfAbsent(key, "i" + key));
+            Assertions.assertEquals("l" + key, longs.computeIfAbsent(key, k -> "l" + k));
+            Assertions.assertEquals(key + 1, ints.size());
+            Assertions.assertEquals(key + 1, longs.size());
+        }
+        for (int key = 0; key < 100; key++) {
+            Assertions.assertEquals("i" + key, ints.get(key));
+            Assertions.assertEquals("l" + key, longs.get(key));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package grey.fable.core.text;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+
+/**
+ * Equivalence of the {@link CharUtil} table with the rules it replaced
+ *
+ * @author Fable
+ * @since 2026/10/17 23:58
+ */
+class CharUtilTest {
+
+    @Test
+    void tableMatchesTheRulesForEveryCodePoint() {
+        for (int ch = -1024; ch <= Character.MAX_CODE_POINT + 1024; ch++) {
+            if (isBlankByOldRules(ch) != CharUtil.isBlank(ch)) {
+                Assertions.fail(String.format("isBlank(U+%04X) differs from the rules", ch));
+            }
+            Assertions.assertEquals(!CharUtil.isBlank(ch), CharUtil.isNotBlank(ch));
+        }
+    }
+
+    @Test
+    void surrogatePairIsCheckedAsOneCodePoint() {
+        for (int codePoint = Character.MIN_SUPPLEMENTARY_CODE_POINT; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            final String pair = new String(Character.toChars(codePoint));
+            final boolean expected = isBlankByOldRules(codePoint);
+            if (expected != CharUtil.isBlankCodePointAt(pair, 0)
+                    || expected != StringUtil.isBlankCodePoints(pair)
+                    || expected != StringUtil.isBlankCodePoints("\u3000" + pair + " ")) {
+                Assertions.fail(String.format("The pair of U+%04X differs from the rules", codePoint));
+            }
+        }
+    }
+
+    @Test
+    void unpairedSurrogateIsNotBlank() {
+        for (char ch = Character.MIN_SURROGATE; ch <= Character.MAX_SURROGATE; ch++) {
+            Assertions.assertFalse(CharUtil.isBlank(ch));
+            Assertions.assertFalse(CharUtil.isBlankCodePointAt(String.valueOf(ch), 0));
+            Assertions.assertFalse(StringUtil.isBlankCodePoints(" " + ch + " "));
+        }
+        // 顺序颠倒的代理对不是一个码点
+        Assertions.assertFalse(StringUtil.isBlankCodePoints("\udc00\ud800"));
+    }
+
+    @Test
+    void stringScanMatchesTheCharTable() {
+        for (int ch = Character.MIN_VALUE; ch <= Character.MAX_VALUE; ch++) {
+            // 空白字符之间夹一个字符, 分别走 ASCII 分支和查表分支
+            final String text = " \t" + (char) ch + "\u3000";
+            final boolean expected = CharUtil.isBlank(ch);
+            if (expected != StringUtil.isBlank(text)
+                    || expected != StringUtil.isBlank(new StringBuilder(text))
+                    || expected != StringUtil.isBlank(CharBuffer.wrap(text))) {
+                Assertions.fail(String.format("isBlank of a text with U+%04X differs from the char table", ch));
+            }
+        }
+        Assertions.assertTrue(StringUtil.isBlank(null));
+        Assertions.assertTrue(StringUtil.isBlank(""));
+    }
+
+    /**
+     * The definition of a blank char before the table
+     */
+    private static boolean isBlankByOldRules(int ch) {
+        return Character.isWhitespace(ch)
+                || Character.isSpaceChar(ch)
+                || ch == '⠀'
+                || ch == 'ㅤ'
+                || ch == '\ufeff'
+                || ch == '\u202a'
+                || ch == '\u0000'
+                || ch == '\u180e';
+    }
+}
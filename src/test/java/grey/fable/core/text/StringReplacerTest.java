@@ -0,0 +1,130 @@
+package grey.fable.core.text;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Matches of {@link StringReplacer} against a naive leftmost longest scan
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+class StringReplacerTest {
+
+    @Test
+    void overlappingTargetsMatchLeftmostFirst() {
+        final StringReplacer replacer = StringReplacer.of(Map.of("ab", "1", "bc", "2"));
+        Assertions.assertEquals("1c", replacer.replace("abc"));
+        Assertions.assertEquals("c2", replacer.replace("cbc"));
+        Assertions.assertEquals("11", replacer.replace("abab"));
+        Assertions.assertEquals("b2", replacer.replace("bbc"));
+    }
+
+    @Test
+    void nestedTargetsMatchTheLongest() {
+        final StringReplacer replacer = StringReplacer.of(Map.of("b", "1", "abc", "2", "abcd", "3", "c", "4"));
+        Assertions.assertEquals("3", replacer.replace("abcd"));
+        Assertions.assertEquals("2e", replacer.replace("abce"));
+        // "abcd" 不完整时回退到起点更靠左的 "abc"
+        Assertions.assertEquals("2x", replacer.replace("abcx"));
+        Assertions.assertEquals("a1x", replacer.replace("abx"));
+        Assertions.assertEquals("1414", replacer.replace("bcbc"));
+    }
+
+    @Test
+    void prefixTargetsMatchTheLongest() {
+        final StringReplacer replacer = StringReplacer.of(Map.of("a", "1", "aa", "2", "aaa", "3"));
+        Assertions.assertEquals("3", replacer.replace("aaa"));
+        Assertions.assertEquals("31", replacer.replace("aaaa"));
+        Assertions.assertEquals("32", replacer.replace("aaaaa"));
+        Assertions.assertEquals("2b1", replacer.replace("aaba"));
+    }
+
+    @Test
+    void replacementsAreNotScannedAgain() {
+        Assertions.assertEquals("aaaa", StringReplacer.of(Map.of("a", "aa")).replace("aa"));
+        Assertions.assertEquals("&amp;amp;", StringReplacer.of(Map.of("&", "&amp;")).replace("&amp;"));
+        Assertions.assertEquals("", StringReplacer.of(Map.of("x", "")).replace("xxx"));
+    }
+
+    @Test
+    void textWithoutTargetsIsReturnedAsIs() {
+        final StringReplacer replacer = StringReplacer.of(Map.of("abc", "1"));
+        final String text = "ababab";
+        Assertions.assertSame(text, replacer.replace(text));
+        Assertions.assertEquals("", replacer.replace(""));
+        Assertions.assertEquals("ab", replacer.replace(new StringBuilder("ab")));
+
+        final StringBuilder sb = new StringBuilder(">");
+        Assertions.assertFalse(replacer.replace("", sb));
+        Assertions.assertFalse(replacer.replace("ab", sb));
+        Assertions.assertTrue(replacer.replace("xabc", sb));
+        Assertions.assertEquals(">abx1", sb.toString());
+    }
+
+    @Test
+    void invalidReplacementsAreRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StringReplacer.of(Map.of("", "1")));
+        final Map<String, String> nullReplacement = new HashMap<>();
+        nullReplacement.put("a", null);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StringReplacer.of(nullReplacement));
+        final Map<String, String> nullTarget = new HashMap<>();
+        nullTarget.put(null, "1");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StringReplacer.of(nullTarget));
+    }
+
+    @Test
+    void randomInputsMatchTheNaiveScan() {
+        final Random random = new Random(20);
+        for (int round = 0; round < 2_000; round++) {
+            // 小字母表让目标之间大量重叠、嵌套和共享前缀
+            final Map<String, String> replacements = new LinkedHashMap<>();
+            final int targets = 1 + random.nextInt(6);
+            for (int i = 0; i < targets; i++) {
+                replacements.put(randomText(random, 1 + random.nextInt(4)), "<" + i + ">");
+            }
+            final StringReplacer replacer = StringReplacer.of(replacements);
+            for (int i = 0; i < 20; i++) {
+                final String text = randomText(random, random.nextInt(30));
+                Assertions.assertEquals(naiveReplace(replacements, text), replacer.replace(text),
+                        () -> replacements + " in " + text);
+            }
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Replace the longest target starting at each index, scanning from the left
+     */
+    private static String naiveReplace(Map<String, String> replacements, String text) {
+        final StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            String longest = null;
+            for (String target : replacements.keySet()) {
+                if (text.startsWith(target, i) && (null == longest || target.length() > longest.length())) {
+                    longest = target;
+                }
+            }
+            if (null == longest) {
+                sb.append(text.charAt(i++));
+            } else {
+                sb.append(replacements.get(longest));
+                i += longest.length();
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,219 @@
+package grey.fable.core.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Round trips of every {@link IdCodec} through every target, and rejection of invalid input
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+class IdCodecTest {
+
+    private static final long[] IDS = ids();
+
+    @ParameterizedTest
+    @EnumSource(IdCodec.class)
+    void roundTripsThroughEveryTarget(IdCodec codec) {
+        for (long id : IDS) {
+            final String text = codec.toString(id);
+            Assertions.assertEquals(codec.length(id), text.length());
+            Assertions.assertEquals(text, reference(codec, BigInteger.valueOf(id)));
+            Assertions.assertEquals(id, codec.decode(text));
+
+            // 目标区间前后各留几个位置, 确认只写入 [offset, offset + length)
+            final char[] chars = new char[codec.maxLength() + 5];
+            Arrays.fill(chars, '#');
+            Assertions.assertEquals(text.length(), codec.encode(id, chars, 3));
+            Assertions.assertEquals(text, new String(chars, 3, text.length()));
+            Assertions.assertEquals('#', chars[2]);
+            Assertions.assertEquals('#', chars[3 + text.length()]);
+            Assertions.assertEquals(id, codec.decode(chars, 3, text.length()));
+
+            final byte[] bytes = new byte[codec.maxLength() + 5];
+            Arrays.fill(bytes, (byte) '#');
+            Assertions.assertEquals(text.length(), codec.encode(id, bytes, 3));
+            Assertions.assertEquals(text, new String(bytes, 3, text.length(), StandardCharsets.US_ASCII));
+            Assertions.assertEquals('#', bytes[2]);
+            Assertions.assertEquals('#', bytes[3 + text.length()]);
+            Assertions.assertEquals(id, codec.decode(bytes, 3, text.length()));
+
+            assertBufferRoundTrip(codec, id, text, ByteBuffer.allocate(codec.maxLength() + 5));
+            assertBufferRoundTrip(codec, id, text, ByteBuffer.allocateDirect(codec.maxLength() + 5));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(IdCodec.class)
+    void maxLengthFitsTheLargestId(IdCodec codec) {
+        Assertions.assertEquals(codec.maxLength(), codec.toString(Long.MAX_VALUE).length());
+        Assertions.assertEquals(IdCodec.HEX == codec ? codec.maxLength() : 1, codec.toString(0).length());
+    }
+
+    @ParameterizedTest
+    @EnumSource(IdCodec.class)
+    void overflowIsRejected(IdCodec codec) {
+        final BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        // Long.MAX_VALUE + 1 与同长度的最大值都超出 long 的范围
+        final String justAbove = reference(codec, max.add(BigInteger.ONE));
+        final String largest = String.valueOf(codec.digit(radixOf(codec) - 1)).repeat(codec.maxLength());
+        for (String text : new String[]{justAbove, largest}) {
+            Assertions.assertTrue(text.length() <= codec.maxLength(), text);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode(text));
+            final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode(bytes, 0, bytes.length));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(bytes)));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> codec.decode(text.toCharArray(), 0, text.length()));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(IdCodec.class)
+    void invalidInputIsRejected(IdCodec codec) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.toString(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.length(Long.MIN_VALUE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.encode(-1, new char[32], 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.encode(-1, new byte[32], 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.encode(-1, ByteBuffer.allocate(32)));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode(ByteBuffer.allocate(0)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode("0".repeat(codec.maxLength() + 1)));
+        for (String text : new String[]{"-1", "1 ", "+1", "1_0", "\u00e9", "\u4e00"}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode(text), text);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode(new byte[]{'1', (byte) 0xFF}, 0, 2));
+        Assertions.assertEquals(-1, codec.valueOf(-1));
+        Assertions.assertEquals(-1, codec.valueOf(0x4e00));
+    }
+
+    @ParameterizedTest
+    @EnumSource(IdCodec.class)
+    void tooSmallTargetIsRejected(IdCodec codec) {
+        final int length = codec.length(Long.MAX_VALUE);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> codec.encode(Long.MAX_VALUE, new char[length - 1], 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> codec.encode(Long.MAX_VALUE, new byte[length], 1));
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(length + 2);
+        buffer.position(3);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> codec.encode(Long.MAX_VALUE, buffer));
+        Assertions.assertEquals(3, buffer.position());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> codec.decode(new char[4], 2, 3));
+    }
+
+    @Test
+    void crockfordAcceptsAliasesAndBothCases() {
+        final IdCodec codec = IdCodec.CROCKFORD_BASE32;
+        Assertions.assertEquals(1, codec.decode("I"));
+        Assertions.assertEquals(1, codec.decode("i"));
+        Assertions.assertEquals(1, codec.decode("L"));
+        Assertions.assertEquals(1, codec.decode("l"));
+        Assertions.assertEquals(0, codec.decode("O"));
+        Assertions.assertEquals(0, codec.decode("o"));
+        Assertions.assertEquals(codec.decode("10"), codec.decode("lO"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode("U"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.decode("u"));
+        for (long id : IDS) {
+            final String text = codec.toString(id);
+            Assertions.assertEquals(text.toUpperCase(), text);
+            Assertions.assertEquals(id, codec.decode(text.toLowerCase()));
+        }
+    }
+
+    @Test
+    void hexIsFixedWidthAndCaseInsensitive() {
+        final IdCodec codec = IdCodec.HEX;
+        Assertions.assertEquals("0000000000000000", codec.toString(0));
+        Assertions.assertEquals("0000000000000001", codec.toString(1));
+        Assertions.assertEquals("7fffffffffffffff", codec.toString(Long.MAX_VALUE));
+        for (long id : IDS) {
+            Assertions.assertEquals(16, codec.length(id));
+            Assertions.assertEquals(String.format("%016x", id), codec.toString(id));
+            Assertions.assertEquals(id, codec.decode(codec.toString(id).toUpperCase()));
+        }
+        // 不足 16 位的输入同样可以解码
+        Assertions.assertEquals(255, codec.decode("fF"));
+    }
+
+    @Test
+    void fixedWidthEncodingsSortLikeTheIds() {
+        final long[] sorted = IDS.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            Assertions.assertTrue(IdCodec.HEX.toString(sorted[i - 1]).compareTo(IdCodec.HEX.toString(sorted[i])) <= 0);
+        }
+    }
+
+    @Test
+    void base62IsCaseSensitive() {
+        Assertions.assertEquals(36, IdCodec.BASE62.decode("a"));
+        Assertions.assertEquals(10, IdCodec.BASE62.decode("A"));
+        Assertions.assertEquals(Long.toString(Long.MAX_VALUE), IdCodec.DECIMAL.toString(Long.MAX_VALUE));
+    }
+
+    private static void assertBufferRoundTrip(IdCodec codec, long id, String text, ByteBuffer buffer) {
+        buffer.position(2);
+        Assertions.assertEquals(text.length(), codec.encode(id, buffer));
+        Assertions.assertEquals(2 + text.length(), buffer.position());
+
+        buffer.flip().position(2);
+        Assertions.assertEquals(id, codec.decode(buffer));
+        Assertions.assertEquals(buffer.limit(), buffer.position());
+    }
+
+    /**
+     * Encoding computed with {@link BigInteger}, padded for the fixed width encoding
+     */
+    private static String reference(IdCodec codec, BigInteger value) {
+        final BigInteger radix = BigInteger.valueOf(radixOf(codec));
+        final StringBuilder sb = new StringBuilder();
+        BigInteger rest = value;
+        do {
+            final BigInteger[] division = rest.divideAndRemainder(radix);
+            sb.append(codec.digit(division[1].intValue()));
+            rest = division[0];
+        } while (rest.signum() > 0);
+        if (IdCodec.HEX == codec) {
+            while (sb.length() < codec.maxLength()) {
+                sb.append('0');
+            }
+        }
+        return sb.reverse().toString();
+    }
+
+    private static int radixOf(IdCodec codec) {
+        switch (codec) {
+            case DECIMAL:
+                return 10;
+            case BASE62:
+                return 62;
+            case CROCKFORD_BASE32:
+                return 32;
+            default:
+                return 16;
+        }
+    }
+
+    private static long[] ids() {
+        final Random random = new Random(42);
+        final long[] ids = new long[1_000];
+        ids[0] = 0;
+        ids[1] = 1;
+        ids[2] = Long.MAX_VALUE;
+        ids[3] = Long.MAX_VALUE - 1;
+        for (int i = 4; i < ids.length; i++) {
+            // 随机位数, 覆盖各种编码长度
+            ids[i] = (random.nextLong() & Long.MAX_VALUE) >>> random.nextInt(Long.SIZE);
+        }
+        return ids;
+    }
+}
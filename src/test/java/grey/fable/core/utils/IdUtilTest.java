@@ -0,0 +1,60 @@
+package grey.fable.core.utils;
+
+import grey.fable.core.worker.FileLockWorkerIdAssigner;
+import grey.fable.core.worker.LeaseWorkerIdAssigner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+/**
+ * Default worker ID assignment of {@link IdUtil}
+ *
+ * @author Fable
+ * @since 2026/10/17 23:45
+ */
+class IdUtilTest {
+
+    private static final byte[] MAC = {0x02, 0x42, (byte) 0xAC, 0x11, 0x00, 0x02};
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(IdUtil.WORKER_ID_LEASE_DIR_PROPERTY);
+        System.clearProperty(IdUtil.WORKER_ID_LOCK_DIR_PROPERTY);
+        System.clearProperty(IdUtil.WORKER_ID_HASHING_PROPERTY);
+    }
+
+    @Test
+    void hashingIsRefusedForProcessIdOne() {
+        final IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                () -> IdUtil.checkHashingIdentity(1, MAC));
+        Assertions.assertTrue(e.getMessage().contains(IdUtil.WORKER_ID_HASHING_PROPERTY));
+    }
+
+    @Test
+    void hashingIsRefusedWithoutHardwareAddress() {
+        Assertions.assertThrows(IllegalStateException.class, () -> IdUtil.checkHashingIdentity(4242, null));
+        Assertions.assertThrows(IllegalStateException.class, () -> IdUtil.checkHashingIdentity(4242, new byte[0]));
+    }
+
+    @Test
+    void hashingIsAcceptedWithDistinctIdentity() {
+        Assertions.assertDoesNotThrow(() -> IdUtil.checkHashingIdentity(4242, MAC));
+    }
+
+    @Test
+    void hashingCanBeAcceptedExplicitly() {
+        System.setProperty(IdUtil.WORKER_ID_HASHING_PROPERTY, "true");
+        Assertions.assertNotNull(IdUtil.getWorkerIdAssigner());
+    }
+
+    @Test
+    void configuredDirectoriesTakePrecedence(@TempDir Path directory) {
+        System.setProperty(IdUtil.WORKER_ID_LOCK_DIR_PROPERTY, directory.toString());
+        Assertions.assertInstanceOf(FileLockWorkerIdAssigner.class, IdUtil.getWorkerIdAssigner());
+        System.setProperty(IdUtil.WORKER_ID_LEASE_DIR_PROPERTY, directory.toString());
+        Assertions.assertInstanceOf(LeaseWorkerIdAssigner.class, IdUtil.getWorkerIdAssigner());
+    }
+}
@@ -0,0 +1,107 @@
+package grey.fable.core.worker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker ID assignment of {@link FileLockWorkerIdAssigner} within one JVM and across processes
+ *
+ * @author Fable
+ * @since 2026/10/17 23:59
+ */
+class FileLockWorkerIdAssignerTest {
+
+    private static final long MAX_WORKER_ID = 31;
+
+    @Test
+    void assignersInOneJvmKeepTheLocksFromOtherProcesses(@TempDir Path directory) throws Exception {
+        final WorkerIdLease first = new FileLockWorkerIdAssigner(directory).assign(0, MAX_WORKER_ID);
+        final WorkerIdLease second = new FileLockWorkerIdAssigner(directory).assign(0, MAX_WORKER_ID);
+        try {
+            Assertions.assertEquals(0, first.getWorkerId());
+            Assertions.assertEquals(1, second.getWorkerId());
+
+            // 第二个分配器跳过了 worker 0 的文件, 没有通过关闭通道释放第一个租约的锁
+            final long otherProcessWorkerId = assignInOtherProcess(directory);
+            Assertions.assertEquals(2, otherProcessWorkerId);
+            Assertions.assertTrue(first.isValid());
+            Assertions.assertTrue(second.isValid());
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    void closedLeaseFreesTheWorkerIdInTheJvm(@TempDir Path directory) throws Exception {
+        final FileLockWorkerIdAssigner assigner = new FileLockWorkerIdAssigner(directory);
+        final WorkerIdLease first = assigner.assign(0, MAX_WORKER_ID);
+        first.close();
+        first.close();
+        Assertions.assertFalse(first.isValid());
+
+        final WorkerIdLease second = new FileLockWorkerIdAssigner(directory).assign(0, MAX_WORKER_ID);
+        try {
+            Assertions.assertEquals(first.getWorkerId(), second.getWorkerId());
+            Assertions.assertEquals(1, assignInOtherProcess(directory));
+        } finally {
+            second.close();
+        }
+        Assertions.assertEquals(0, assignInOtherProcess(directory));
+    }
+
+    @Test
+    void exhaustedWorkerIdsAreRejected(@TempDir Path directory) {
+        final FileLockWorkerIdAssigner assigner = new FileLockWorkerIdAssigner(directory);
+        final WorkerIdLease first = assigner.assign(1, 1);
+        final WorkerIdLease second = assigner.assign(1, 1);
+        try {
+            Assertions.assertThrows(IllegalStateException.class, () -> assigner.assign(1, 1));
+            // 其他数据中心的 workerId 不受影响
+            final WorkerIdLease other = assigner.assign(2, 1);
+            Assertions.assertEquals(0, other.getWorkerId());
+            other.close();
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    /**
+     * Assign a worker ID of data center 0 in a new JVM, which exits and so releases it right away
+     */
+    private static long assignInOtherProcess(Path directory) throws Exception {
+        final String classPath = locationOf(FileLockWorkerIdAssigner.class) + File.pathSeparator
+                + locationOf(OtherProcess.class);
+        final Process process = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", classPath, OtherProcess.class.getName(), directory.toString())
+                .redirectErrorStream(true)
+                .start();
+        Assertions.assertTrue(process.waitFor(60, TimeUnit.SECONDS), "The other process did not exit");
+        final String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        Assertions.assertEquals(0, process.exitValue(), output);
+        return Long.parseLong(output);
+    }
+
+    private static String locationOf(Class<?> type) throws Exception {
+        return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    /**
+     * Entry point of the other process, prints the assigned worker ID
+     */
+    static final class OtherProcess {
+
+        public static void main(String[] args) {
+            final WorkerIdLease lease = new FileLockWorkerIdAssigner(Path.of(args[0])).assign(0, MAX_WORKER_ID);
+            System.out.println(lease.getWorkerId());
+        }
+    }
+}
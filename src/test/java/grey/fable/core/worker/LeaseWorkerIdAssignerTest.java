@@ -0,0 +1,87 @@
+package grey.fable.core.worker;
+
+import grey.fable.core.Snowflake;
+import grey.fable.core.SnowflakeLayout;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+/**
+ * Worker ID assignment of {@link LeaseWorkerIdAssigner}
+ *
+ * @author Fable
+ * @since 2026/10/17 23:30
+ */
+class LeaseWorkerIdAssignerTest {
+
+    @Test
+    void sharedAssignerHandsOutDistinctWorkerIds() {
+        assertDistinctWorkerIds(new LeaseWorkerIdAssigner(new MemoryLeaseStore()));
+    }
+
+    @Test
+    void sharedAssignerOnDirectoryHandsOutDistinctWorkerIds(@TempDir Path directory) {
+        assertDistinctWorkerIds(new LeaseWorkerIdAssigner(new DirectoryLeaseStore(directory)));
+    }
+
+    @Test
+    void assignersOnOneStoreHandOutDistinctWorkerIds() {
+        final LeaseStore store = new MemoryLeaseStore();
+        final Snowflake first = build(new LeaseWorkerIdAssigner(store));
+        final Snowflake second = build(new LeaseWorkerIdAssigner(store));
+        try {
+            Assertions.assertNotEquals(first.getWorkerId(), second.getWorkerId());
+        } finally {
+            first.getWorkerIdLease().close();
+            second.getWorkerIdLease().close();
+        }
+    }
+
+    @Test
+    void closedLeaseFreesWorkerId() {
+        final LeaseWorkerIdAssigner assigner = new LeaseWorkerIdAssigner(new MemoryLeaseStore());
+        final Snowflake first = build(assigner);
+        first.getWorkerIdLease().close();
+        Assertions.assertFalse(first.getWorkerIdLease().isValid());
+
+        final Snowflake second = build(assigner);
+        try {
+            Assertions.assertEquals(first.getWorkerId(), second.getWorkerId());
+        } finally {
+            second.getWorkerIdLease().close();
+        }
+    }
+
+    @Test
+    void exhaustedWorkerIdsAreRejected() {
+        final SnowflakeLayout layout = SnowflakeLayout.builder().nodeBits(5, 1).build();
+        final LeaseWorkerIdAssigner assigner = new LeaseWorkerIdAssigner(new MemoryLeaseStore());
+        final Snowflake first = Snowflake.builder().layout(layout).dataCenterId(1).workerIdAssigner(assigner).build();
+        final Snowflake second = Snowflake.builder().layout(layout).dataCenterId(1).workerIdAssigner(assigner).build();
+        try {
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> Snowflake.builder().layout(layout).dataCenterId(1).workerIdAssigner(assigner).build());
+        } finally {
+            first.getWorkerIdLease().close();
+            second.getWorkerIdLease().close();
+        }
+    }
+
+    private static void assertDistinctWorkerIds(LeaseWorkerIdAssigner assigner) {
+        final Snowflake first = build(assigner);
+        final Snowflake second = build(assigner);
+        try {
+            Assertions.assertNotEquals(first.getWorkerId(), second.getWorkerId());
+            Assertions.assertNotEquals(first.nextId(), second.nextId());
+        } finally {
+            first.getWorkerIdLease().close();
+            second.getWorkerIdLease().close();
+        }
+    }
+
+    private static Snowflake build(WorkerIdAssigner assigner) {
+        return Snowflake.builder().dataCenterId(1).workerIdAssigner(assigner).build();
+    }
+}